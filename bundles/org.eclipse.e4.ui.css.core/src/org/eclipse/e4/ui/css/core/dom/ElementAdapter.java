@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -423,4 +423,20 @@ public abstract class ElementAdapter implements Element, CSSStylableElement {
 			engine.handleExceptions(ex);
 		}
 	}
+
+	/**
+	 * Apply styles after a dynamic pseudo class of the native widget changed,
+	 * if rules depend on it.
+	 *
+	 * @param pseudoClass
+	 *            the name of the pseudo class, like <code>focus</code>
+	 * @since 0.13.0
+	 */
+	protected void doApplyStyles(String pseudoClass) {
+		try {
+			engine.applyStylesOnPseudoClassChange(getNativeWidget(), pseudoClass);
+		} catch (Exception ex) {
+			engine.handleExceptions(ex);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -219,6 +219,40 @@ public interface CSSEngine {
 	 */
 	void applyStyles(Object node, boolean applyStylesToChildNodes, boolean computeDefaultStyle);
 
+	/**
+	 * Apply styles after the CSS class or id of the Object node changed. Only
+	 * the nodes that rules depending on the added and removed class names and
+	 * ids can apply to are restyled, which may be none, the node, or the node
+	 * and its child nodes. If the node had neither a CSS class nor an id, it is
+	 * styled with its child nodes.
+	 *
+	 * @param node
+	 * @param oldCSSClass
+	 *            the CSS class of the node before the change, may be
+	 *            <code>null</code>
+	 * @param oldCSSId
+	 *            the CSS id of the node before the change, may be
+	 *            <code>null</code>
+	 * @since 0.13.0
+	 */
+	default void applyStylesOnChange(Object node, String oldCSSClass, String oldCSSId) {
+		applyStyles(node, true);
+	}
+
+	/**
+	 * Apply styles after a dynamic pseudo class, like <code>focus</code> or
+	 * <code>hover</code>, of the Object node changed. Only the nodes that rules
+	 * depending on the pseudo class can apply to are restyled.
+	 *
+	 * @param node
+	 * @param pseudoClass
+	 *            the name of the pseudo class, without colon
+	 * @since 0.13.0
+	 */
+	default void applyStylesOnPseudoClassChange(Object node, String pseudoClass) {
+		applyStyles(node, false, true);
+	}
+
 	/*--------------- Apply style declaration -----------------*/
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 
 package org.eclipse.e4.ui.css.core.impl.dom;
 
+import java.util.Collections;
+import java.util.List;
 import org.eclipse.e4.ui.css.core.exceptions.DOMExceptionImpl;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Node;
@@ -28,10 +30,24 @@ public class CSSStyleSheetImpl extends AbstractCSSNode implements CSSStyleSheet
 
 	private CSSRuleList rules = null;
 
+	private List<String> importedURLs = Collections.emptyList();
+
 	public CSSStyleSheetImpl() {
 		super();
 	}
 
+	/**
+	 * @return the URLs of the style sheets imported by this one, directly or
+	 *         through other imports, whose rules are part of this style sheet
+	 */
+	public List<String> getImportedURLs() {
+		return importedURLs;
+	}
+
+	public void setImportedURLs(List<String> importedURLs) {
+		this.importedURLs = importedURLs;
+	}
+
 	// W3C CSSStyleSheet API methods
 
 	@Override
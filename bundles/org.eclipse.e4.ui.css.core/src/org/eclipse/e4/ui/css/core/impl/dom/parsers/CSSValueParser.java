@@ -0,0 +1,558 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom.parsers;
+
+import org.eclipse.e4.ui.css.core.impl.dom.CSSValueFactory;
+import org.w3c.css.sac.LexicalUnit;
+import org.w3c.dom.css.CSSValue;
+
+/**
+ * Hand-written parser for CSS property values. It scans the text once and
+ * creates the lexical units of the value directly, without a SAC parser and
+ * its document handler. Identifiers are interned.
+ * <p>
+ * Only identifiers, strings, numbers with their units, hexadecimal colors,
+ * <code>rgb()</code> and <code>url()</code>, separated by white space, commas
+ * or slashes, are supported, which covers the values of the Eclipse style
+ * sheets and preferences. The lexical units are the same as those created by
+ * the Batik SAC parser. {@link #parse(String)} returns <code>null</code> for
+ * anything else, e.g. comments, escapes or other functions, so that the SAC
+ * parser can handle it.
+ * </p>
+ */
+public class CSSValueParser {
+
+	private final String text;
+
+	private final int length;
+
+	private int position;
+
+	private CSSValueParser(String text) {
+		this.text = text;
+		this.length = text.length();
+	}
+
+	/**
+	 * Parses the given property value.
+	 *
+	 * @param text
+	 *            the property value
+	 * @return the parsed value, or <code>null</code> if this parser does not
+	 *         support the value
+	 */
+	public static CSSValue parse(String text) {
+		LexicalUnit value = new CSSValueParser(text).parseExpression(false);
+		if (value == null) {
+			return null;
+		}
+		return CSSValueFactory.newValue(value);
+	}
+
+	/**
+	 * Parses terms separated by white space or operators up to the end of the
+	 * text, or up to the closing parenthesis of function parameters.
+	 */
+	private Unit parseExpression(boolean parameters) {
+		skipSpaces();
+		Unit first = parseTerm(null);
+		Unit last = first;
+		while (last != null) {
+			if (position == length) {
+				return parameters ? null : first;
+			}
+			char c = text.charAt(position);
+			if (c == ')' && parameters) {
+				position++;
+				skipSpaces();
+				return first;
+			}
+			if (c == ',' || c == '/') {
+				last = new Unit(c == ',' ? LexicalUnit.SAC_OPERATOR_COMMA : LexicalUnit.SAC_OPERATOR_SLASH, last);
+				position++;
+				skipSpaces();
+			}
+			last = parseTerm(last);
+		}
+		return null;
+	}
+
+	private Unit parseTerm(Unit previous) {
+		if (position == length) {
+			return null;
+		}
+		char c = text.charAt(position);
+		if (c == '-' || c == '+') {
+			position++;
+			if (position < length && (isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+				return parseNumber(c == '-', previous);
+			}
+			return null;
+		}
+		if (isDigit(c) || c == '.') {
+			return parseNumber(false, previous);
+		}
+		if (c == '#') {
+			return parseHexColor(previous);
+		}
+		if (c == '\'' || c == '"') {
+			int start = position + 1;
+			int end = scanString(c);
+			if (end < 0) {
+				return null;
+			}
+			skipSpaces();
+			return new Unit(LexicalUnit.SAC_STRING_VALUE, text.substring(start, end), previous);
+		}
+		if (isIdentifierStart(c)) {
+			return parseIdentifier(previous);
+		}
+		return null;
+	}
+
+	private Unit parseNumber(boolean negative, Unit previous) {
+		int start = position;
+		boolean integer = true;
+		long integerValue = 0;
+		while (position < length && isDigit(text.charAt(position))) {
+			if (integerValue <= Integer.MAX_VALUE) {
+				integerValue = integerValue * 10 + text.charAt(position) - '0';
+			}
+			position++;
+		}
+		if (position < length && text.charAt(position) == '.') {
+			integer = false;
+			position++;
+			if (position == length || !isDigit(text.charAt(position))) {
+				return null;
+			}
+			while (position < length && isDigit(text.charAt(position))) {
+				position++;
+			}
+		}
+		int end = position;
+		short type = integer ? LexicalUnit.SAC_INTEGER : LexicalUnit.SAC_REAL;
+		String dimension = null;
+		if (position < length && text.charAt(position) == '%') {
+			position++;
+			type = LexicalUnit.SAC_PERCENTAGE;
+		} else if (position < length && isIdentifierStart(text.charAt(position))) {
+			int unitStart = position;
+			while (position < length && isNameCharacter(text.charAt(position))) {
+				position++;
+			}
+			dimension = text.substring(unitStart, position);
+			type = getUnitType(dimension);
+			// the SAC scanner ends a unit starting with s after the s
+			if (type == LexicalUnit.SAC_DIMENSION && (dimension.charAt(0) == 's' || dimension.charAt(0) == 'S')) {
+				return null;
+			}
+			if (type != LexicalUnit.SAC_DIMENSION) {
+				dimension = null;
+			}
+		}
+		if (!isTokenEnd()) {
+			return null;
+		}
+		skipSpaces();
+		if (type == LexicalUnit.SAC_INTEGER) {
+			long value = negative ? -integerValue : integerValue;
+			if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+				return new Unit((int) value, previous);
+			}
+			type = LexicalUnit.SAC_REAL;
+		}
+		float value = Float.parseFloat(text.substring(start, end));
+		return new Unit(type, negative ? -value : value, dimension, previous);
+	}
+
+	private Unit parseHexColor(Unit previous) {
+		int start = ++position;
+		while (position < length && isNameCharacter(text.charAt(position))) {
+			position++;
+		}
+		int digits = position - start;
+		if ((digits != 3 && digits != 6) || !isTokenEnd()) {
+			return null;
+		}
+		int[] rgb = new int[3];
+		for (int i = 0; i < digits; i++) {
+			int digit = Character.digit(text.charAt(start + i), 16);
+			if (digit < 0) {
+				return null;
+			}
+			if (digits == 3) {
+				rgb[i] = digit << 4 | digit;
+			} else {
+				rgb[i / 2] = rgb[i / 2] << 4 | digit;
+			}
+		}
+		skipSpaces();
+		Unit parameters = new Unit(rgb[0], null);
+		Unit last = new Unit(LexicalUnit.SAC_OPERATOR_COMMA, parameters);
+		last = new Unit(rgb[1], last);
+		last = new Unit(LexicalUnit.SAC_OPERATOR_COMMA, last);
+		new Unit(rgb[2], last);
+		return new Unit(parameters, previous);
+	}
+
+	private Unit parseIdentifier(Unit previous) {
+		int start = position;
+		while (position < length && isNameCharacter(text.charAt(position))) {
+			position++;
+		}
+		int end = position;
+		if (position < length && text.charAt(position) == '(') {
+			position++;
+			if (end - start == 3 && text.regionMatches(true, start, "url", 0, 3)) {
+				return parseURI(previous);
+			}
+			if (end - start == 3 && text.regionMatches(true, start, "rgb", 0, 3)) {
+				Unit parameters = parseExpression(true);
+				if (parameters == null || !isRGBColor(parameters)) {
+					return null;
+				}
+				return new Unit(parameters, previous);
+			}
+			return null;
+		}
+		// u+ starts a unicode range, which is not a property value
+		if (!isTokenEnd() || (end - start == 1 && position < length && text.charAt(position) == '+'
+				&& (text.charAt(start) == 'u' || text.charAt(start) == 'U'))) {
+			return null;
+		}
+		skipSpaces();
+		if (end - start == 7 && text.regionMatches(true, start, "inherit", 0, 7)) {
+			return new Unit(LexicalUnit.SAC_INHERIT, previous);
+		}
+		return new Unit(LexicalUnit.SAC_IDENT, text.substring(start, end).intern(), previous);
+	}
+
+	private Unit parseURI(Unit previous) {
+		skipSpaces();
+		if (position == length) {
+			return null;
+		}
+		int start;
+		int end;
+		char c = text.charAt(position);
+		if (c == '\'' || c == '"') {
+			start = position + 1;
+			end = scanString(c);
+			if (end < 0) {
+				return null;
+			}
+		} else {
+			start = position;
+			while (position < length && isURICharacter(text.charAt(position))) {
+				position++;
+			}
+			end = position;
+			if (end == start) {
+				return null;
+			}
+		}
+		skipSpaces();
+		if (position == length || text.charAt(position) != ')') {
+			return null;
+		}
+		position++;
+		skipSpaces();
+		return new Unit(LexicalUnit.SAC_URI, text.substring(start, end), previous);
+	}
+
+	/**
+	 * Scans a quoted string without escapes and returns the index of its
+	 * closing quote, or -1 if the string is not supported.
+	 */
+	private int scanString(char quote) {
+		for (position++; position < length; position++) {
+			char c = text.charAt(position);
+			if (c == quote) {
+				return position++;
+			}
+			if (c == '\\' || (c < ' ' && c != '\t') || c == 0x7F) {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks that the parameters of an <code>rgb()</code> function are three
+	 * integers or percentages separated by commas, as the Batik parser does.
+	 */
+	private static boolean isRGBColor(LexicalUnit parameters) {
+		LexicalUnit unit = parameters;
+		for (int i = 0; i < 5; i++) {
+			if (unit == null) {
+				return false;
+			}
+			short type = unit.getLexicalUnitType();
+			if (i % 2 == 0 ? type != LexicalUnit.SAC_INTEGER && type != LexicalUnit.SAC_PERCENTAGE
+					: type != LexicalUnit.SAC_OPERATOR_COMMA) {
+				return false;
+			}
+			unit = unit.getNextLexicalUnit();
+		}
+		return unit == null;
+	}
+
+	private static short getUnitType(String unit) {
+		switch (unit.toLowerCase()) {
+		case "px":
+			return LexicalUnit.SAC_PIXEL;
+		case "pt":
+			return LexicalUnit.SAC_POINT;
+		case "pc":
+			return LexicalUnit.SAC_PICA;
+		case "em":
+			return LexicalUnit.SAC_EM;
+		case "ex":
+			return LexicalUnit.SAC_EX;
+		case "cm":
+			return LexicalUnit.SAC_CENTIMETER;
+		case "mm":
+			return LexicalUnit.SAC_MILLIMETER;
+		case "in":
+			return LexicalUnit.SAC_INCH;
+		case "deg":
+			return LexicalUnit.SAC_DEGREE;
+		case "rad":
+			return LexicalUnit.SAC_RADIAN;
+		case "grad":
+			return LexicalUnit.SAC_GRADIAN;
+		case "s":
+			return LexicalUnit.SAC_SECOND;
+		case "ms":
+			return LexicalUnit.SAC_MILLISECOND;
+		case "hz":
+			return LexicalUnit.SAC_HERTZ;
+		case "khz":
+			return LexicalUnit.SAC_KILOHERTZ;
+		default:
+			return LexicalUnit.SAC_DIMENSION;
+		}
+	}
+
+	private static String getUnitText(short type) {
+		switch (type) {
+		case LexicalUnit.SAC_PIXEL:
+			return "px";
+		case LexicalUnit.SAC_POINT:
+			return "pt";
+		case LexicalUnit.SAC_PICA:
+			return "pc";
+		case LexicalUnit.SAC_EM:
+			return "em";
+		case LexicalUnit.SAC_EX:
+			return "ex";
+		case LexicalUnit.SAC_CENTIMETER:
+			return "cm";
+		case LexicalUnit.SAC_MILLIMETER:
+			return "mm";
+		case LexicalUnit.SAC_INCH:
+			return "in";
+		case LexicalUnit.SAC_DEGREE:
+			return "deg";
+		case LexicalUnit.SAC_RADIAN:
+			return "rad";
+		case LexicalUnit.SAC_GRADIAN:
+			return "grad";
+		case LexicalUnit.SAC_SECOND:
+			return "s";
+		case LexicalUnit.SAC_MILLISECOND:
+			return "ms";
+		case LexicalUnit.SAC_HERTZ:
+			return "Hz";
+		case LexicalUnit.SAC_KILOHERTZ:
+			return "kHz";
+		case LexicalUnit.SAC_PERCENTAGE:
+			return "%";
+		case LexicalUnit.SAC_REAL:
+			return "";
+		default:
+			throw new IllegalStateException("No unit text for type: " + type);
+		}
+	}
+
+	/**
+	 * Returns whether the current character cannot continue the token just
+	 * scanned, i.e. whether the SAC scanner would end the token here too.
+	 */
+	private boolean isTokenEnd() {
+		if (position == length) {
+			return true;
+		}
+		char c = text.charAt(position);
+		return c != '\\' && c < 128;
+	}
+
+	private void skipSpaces() {
+		while (position < length) {
+			switch (text.charAt(position)) {
+			case ' ':
+			case '\t':
+			case '\r':
+			case '\n':
+			case '\f':
+				position++;
+				break;
+			default:
+				return;
+			}
+		}
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isIdentifierStart(char c) {
+		return isLetter(c) || c == '_';
+	}
+
+	private static boolean isNameCharacter(char c) {
+		return isLetter(c) || isDigit(c) || c == '-' || c == '_';
+	}
+
+	private static boolean isURICharacter(char c) {
+		return c > ' ' && c < 0x7F && c != '"' && c != '\'' && c != '(' && c != ')' && c != '\\';
+	}
+
+	/**
+	 * A lexical unit of a parsed value.
+	 */
+	private static class Unit implements LexicalUnit {
+
+		private final short type;
+
+		private Unit next;
+
+		private final Unit previous;
+
+		private int integerValue;
+
+		private float floatValue;
+
+		private boolean floating;
+
+		private String stringValue;
+
+		private Unit parameters;
+
+		Unit(short type, Unit previous) {
+			this.type = type;
+			this.previous = previous;
+			if (previous != null) {
+				previous.next = this;
+			}
+		}
+
+		Unit(int value, Unit previous) {
+			this(LexicalUnit.SAC_INTEGER, previous);
+			this.integerValue = value;
+		}
+
+		Unit(short type, float value, String dimension, Unit previous) {
+			this(type, previous);
+			this.floatValue = value;
+			this.floating = true;
+			this.stringValue = dimension;
+		}
+
+		Unit(short type, String value, Unit previous) {
+			this(type, previous);
+			this.stringValue = value;
+		}
+
+		Unit(Unit rgbParameters, Unit previous) {
+			this(LexicalUnit.SAC_RGBCOLOR, previous);
+			this.parameters = rgbParameters;
+		}
+
+		@Override
+		public short getLexicalUnitType() {
+			return type;
+		}
+
+		@Override
+		public LexicalUnit getNextLexicalUnit() {
+			return next;
+		}
+
+		@Override
+		public LexicalUnit getPreviousLexicalUnit() {
+			return previous;
+		}
+
+		@Override
+		public int getIntegerValue() {
+			if (type != LexicalUnit.SAC_INTEGER) {
+				throw new IllegalStateException();
+			}
+			return integerValue;
+		}
+
+		@Override
+		public float getFloatValue() {
+			if (!floating) {
+				throw new IllegalStateException();
+			}
+			return floatValue;
+		}
+
+		@Override
+		public String getDimensionUnitText() {
+			if (type == LexicalUnit.SAC_DIMENSION) {
+				return stringValue;
+			}
+			return getUnitText(type);
+		}
+
+		@Override
+		public String getFunctionName() {
+			if (type != LexicalUnit.SAC_RGBCOLOR) {
+				throw new IllegalStateException();
+			}
+			return "rgb";
+		}
+
+		@Override
+		public LexicalUnit getParameters() {
+			if (type != LexicalUnit.SAC_RGBCOLOR) {
+				throw new IllegalStateException();
+			}
+			return parameters;
+		}
+
+		@Override
+		public String getStringValue() {
+			if (type != LexicalUnit.SAC_IDENT && type != LexicalUnit.SAC_STRING_VALUE
+					&& type != LexicalUnit.SAC_URI) {
+				throw new IllegalStateException();
+			}
+			return stringValue;
+		}
+
+		@Override
+		public LexicalUnit getSubValues() {
+			throw new IllegalStateException();
+		}
+	}
+}
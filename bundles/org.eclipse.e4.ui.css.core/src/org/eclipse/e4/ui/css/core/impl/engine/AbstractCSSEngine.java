@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,10 @@ import java.io.StringReader;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -57,6 +59,7 @@ import org.eclipse.e4.ui.css.core.impl.dom.CSSRuleListImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.CSSStyleSheetImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
+import org.eclipse.e4.ui.css.core.impl.dom.parsers.CSSValueParser;
 import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
 import org.eclipse.e4.ui.css.core.resources.IResourcesRegistry;
 import org.eclipse.e4.ui.css.core.resources.ResourceRegistryKeyFactory;
@@ -103,6 +106,12 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	 */
 	private static final String ARCHIVE_IDENTIFIER = "!";
 
+	/**
+	 * Maximum number of parsed property values kept by
+	 * {@link #parsePropertyValue(String)}
+	 */
+	private static final int MAX_PARSED_VALUES = 256;
+
 	/**
 	 * Default {@link IResourcesLocatorManager} used to get InputStream, Reader
 	 * resource like Image.
@@ -153,6 +162,31 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	private ResourceRegistryKeyFactory keyFactory;
 
+	/**
+	 * The dependencies of the selectors of the current style sheets, computed
+	 * on demand
+	 */
+	private SelectorDependencies selectorDependencies;
+
+	private long restyledElementCount;
+
+	private long skippedRestyleCount;
+
+	/**
+	 * The most recently parsed property values, keyed by their text. The
+	 * values cannot be modified, so they are shared by all callers.
+	 */
+	private final Map<String, CSSValue> parsedValues = new LinkedHashMap<String, CSSValue>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CSSValue> eldest) {
+			return size() > MAX_PARSED_VALUES;
+		}
+	};
+
+	private long parsedValueHitCount;
+
 	public AbstractCSSEngine() {
 		this(new DocumentCSSImpl());
 	}
@@ -161,6 +195,17 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		this.documentCSS = documentCSS;
 		this.viewCSS = new ViewCSSImpl(documentCSS);
 		keyFactory = new ResourceRegistryKeyFactory();
+		documentCSS.addStyleSheetChangeListener(new ExtendedDocumentCSS.StyleSheetChangeListener() {
+			@Override
+			public void styleSheetAdded(StyleSheet styleSheet) {
+				selectorDependencies = null;
+			}
+
+			@Override
+			public void styleSheetRemoved(StyleSheet styleSheet) {
+				selectorDependencies = null;
+			}
+		});
 	}
 
 	/*--------------- Parse style sheet -----------------*/
@@ -189,6 +234,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		CSSRuleList rules = styleSheet.getCssRules();
 		int length = rules.getLength();
 		CSSRuleListImpl masterList = new CSSRuleListImpl();
+		List<String> importedURLs = new ArrayList<>();
 		int counter;
 		for (counter = 0; counter < length; counter++) {
 			CSSRule rule = rules.item(counter);
@@ -230,6 +276,10 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 				for (int j = 0; j < tempRules.getLength(); j++) {
 					masterList.add(tempRules.item(j));
 				}
+				importedURLs.add(url.toString());
+				if (styleSheet instanceof CSSStyleSheetImpl) {
+					importedURLs.addAll(((CSSStyleSheetImpl) styleSheet).getImportedURLs());
+				}
 			}
 		}
 
@@ -241,6 +291,9 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		// final stylesheet
 		CSSStyleSheetImpl s = new CSSStyleSheetImpl();
 		s.setRuleList(masterList);
+		if (!importedURLs.isEmpty()) {
+			s.setImportedURLs(importedURLs);
+		}
 		if (parseImport == 0) {
 			documentCSS.addStyleSheet(s);
 		}
@@ -340,8 +393,39 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	@Override
 	public CSSValue parsePropertyValue(String value) throws IOException {
-		Reader reader = new StringReader(value);
-		return parsePropertyValue(reader);
+		CSSValue cssValue;
+		synchronized (parsedValues) {
+			cssValue = parsedValues.get(value);
+			if (cssValue != null) {
+				parsedValueHitCount++;
+				return cssValue;
+			}
+		}
+		cssValue = CSSValueParser.parse(value);
+		if (cssValue == null) {
+			Reader reader = new StringReader(value);
+			cssValue = parsePropertyValue(reader);
+		}
+		if (cssValue != null) {
+			synchronized (parsedValues) {
+				parsedValues.put(value, cssValue);
+			}
+		}
+		return cssValue;
+	}
+
+	/**
+	 * Returns the number of property values {@link #parsePropertyValue(String)}
+	 * returned without parsing them again.
+	 *
+	 * @return the number of reused property values since the engine was
+	 *         created
+	 * @since 0.13.0
+	 */
+	public long getParsedValueHitCount() {
+		synchronized (parsedValues) {
+			return parsedValueHitCount;
+		}
 	}
 
 	@Override
@@ -365,6 +449,7 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			if (!isVisible(elt)) {
 				return;
 			}
+			restyledElementCount++;
 
 			/*
 			 * Compute new Style to apply.
@@ -435,6 +520,78 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	}
 
+	@Override
+	public void applyStylesOnChange(Object element, String oldCSSClass, String oldCSSId) {
+		Element elt = getElement(element);
+		if (oldCSSClass == null && oldCSSId == null) {
+			// the element is styled for the first time
+			applyStyles(element, true);
+		} else if (elt instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) elt;
+			applyStylesOnChange(elt, SelectorDependencies.getChanges(oldCSSClass, stylableElement.getCSSClass(),
+					oldCSSId, stylableElement.getCSSId()), computeDefaultStyle);
+		} else if (elt != null) {
+			applyStyles(elt, true);
+		}
+	}
+
+	@Override
+	public void applyStylesOnPseudoClassChange(Object element, String pseudoClass) {
+		Element elt = getElement(element);
+		if (elt != null) {
+			applyStylesOnChange(elt, Collections.singleton(':' + pseudoClass.toLowerCase()), true);
+		}
+	}
+
+	/**
+	 * Restyles the elements that rules depending on the changes of an element
+	 * can apply to, see {@link SelectorDependencies}. The default style is
+	 * computed for the element as requested, and for its descendants as
+	 * configured for the engine.
+	 */
+	private void applyStylesOnChange(Element elt, Set<String> changes, boolean computeDefaultStyle) {
+		if (selectorDependencies == null) {
+			selectorDependencies = new SelectorDependencies(documentCSS.getStyleSheets());
+		}
+		switch (selectorDependencies.getScope(changes)) {
+		case SelectorDependencies.NONE:
+			skippedRestyleCount++;
+			break;
+		case SelectorDependencies.ELEMENT:
+			applyStyles(elt, false, computeDefaultStyle);
+			break;
+		case SelectorDependencies.SUBTREE:
+			applyStyles(elt, true);
+			break;
+		default:
+			Node parent = elt.getParentNode();
+			applyStyles(parent != null ? parent : elt, true);
+			break;
+		}
+	}
+
+	/**
+	 * Returns the number of elements styles were applied to. Compare it before
+	 * and after a change to find how many elements the change restyled.
+	 *
+	 * @return the number of elements styled since the engine was created
+	 * @since 0.13.0
+	 */
+	public long getRestyledElementCount() {
+		return restyledElementCount;
+	}
+
+	/**
+	 * Returns the number of changes of CSS classes, ids or pseudo classes no
+	 * rule depended on, so no element was restyled.
+	 *
+	 * @return the number of changes skipped since the engine was created
+	 * @since 0.13.0
+	 */
+	public long getSkippedRestyleCount() {
+		return skippedRestyleCount;
+	}
+
 	/**
 	 * Allow the CSS engine to skip particular elements if they are not visible.
 	 * Elements need to be restyled when they become visible.
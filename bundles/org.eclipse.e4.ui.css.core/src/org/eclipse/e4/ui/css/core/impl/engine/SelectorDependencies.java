@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.CombinatorCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.NegativeCondition;
+import org.w3c.css.sac.NegativeSelector;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSRuleList;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleRule;
+import org.w3c.dom.css.CSSStyleSheet;
+import org.w3c.dom.css.CSSValue;
+import org.w3c.dom.stylesheets.StyleSheetList;
+
+/**
+ * Indexes the CSS class names, ids and pseudo classes the selectors of style
+ * sheets depend on, to find which elements have to be restyled when they
+ * change on an element.
+ * <p>
+ * Changes are written like in selectors: <code>.name</code> for a class name,
+ * <code>#name</code> for an id and <code>:name</code> for a pseudo class. For
+ * each of them, the index keeps the widest scope of the rules using it: a
+ * change used by the last compound selector of rules only affects the changed
+ * element, a change used by ancestor selectors affects its descendants too,
+ * and a change used by sibling selectors affects its siblings. Attribute
+ * selectors on the <code>class</code> or <code>id</code> attributes depend on
+ * all class names or ids. If a rule uses the <code>inherit</code> value, the
+ * descendants of a restyled element are always restyled, as their styles may
+ * be taken from it.
+ * </p>
+ */
+public final class SelectorDependencies {
+
+	/**
+	 * The change affects no rule, so no element needs to be restyled.
+	 */
+	public static final int NONE = 0;
+
+	/**
+	 * The change affects the styles of the changed element only.
+	 */
+	public static final int ELEMENT = 1;
+
+	/**
+	 * The change affects the styles of the changed element and its
+	 * descendants.
+	 */
+	public static final int SUBTREE = 2;
+
+	/**
+	 * The change affects the styles of the changed element, its siblings and
+	 * their descendants.
+	 */
+	public static final int SIBLINGS = 3;
+
+	private static final String ANY_CLASS = ".";
+
+	private static final String ANY_ID = "#";
+
+	private final Map<String, Integer> scopes = new HashMap<>();
+
+	private boolean inherits;
+
+	/**
+	 * Indexes the style rules of style sheets.
+	 *
+	 * @param styleSheets
+	 *            the style sheets
+	 */
+	public SelectorDependencies(StyleSheetList styleSheets) {
+		for (int i = 0; i < styleSheets.getLength(); i++) {
+			CSSRuleList rules = ((CSSStyleSheet) styleSheets.item(i)).getCssRules();
+			for (int j = 0; j < rules.getLength(); j++) {
+				CSSRule rule = rules.item(j);
+				if (rule.getType() == CSSRule.STYLE_RULE && rule instanceof ExtendedCSSRule) {
+					SelectorList selectors = ((ExtendedCSSRule) rule).getSelectorList();
+					for (int k = 0; k < selectors.getLength(); k++) {
+						addSelector(selectors.item(k), ELEMENT);
+					}
+					inherits |= usesInherit(((CSSStyleRule) rule).getStyle());
+				}
+			}
+		}
+	}
+
+	private void addSelector(Selector selector, int scope) {
+		switch (selector.getSelectorType()) {
+		case Selector.SAC_CONDITIONAL_SELECTOR:
+			ConditionalSelector conditional = (ConditionalSelector) selector;
+			addCondition(conditional.getCondition(), scope);
+			addSelector(conditional.getSimpleSelector(), scope);
+			break;
+		case Selector.SAC_DESCENDANT_SELECTOR:
+		case Selector.SAC_CHILD_SELECTOR:
+			DescendantSelector descendant = (DescendantSelector) selector;
+			addSelector(descendant.getSimpleSelector(), scope);
+			addSelector(descendant.getAncestorSelector(), Math.max(scope, SUBTREE));
+			break;
+		case Selector.SAC_DIRECT_ADJACENT_SELECTOR:
+			SiblingSelector sibling = (SiblingSelector) selector;
+			addSelector(sibling.getSiblingSelector(), scope);
+			addSelector(sibling.getSelector(), SIBLINGS);
+			break;
+		case Selector.SAC_NEGATIVE_SELECTOR:
+			addSelector(((NegativeSelector) selector).getSimpleSelector(), scope);
+			break;
+		default:
+			// element selectors do not depend on classes, ids or pseudo classes
+			break;
+		}
+	}
+
+	private void addCondition(Condition condition, int scope) {
+		switch (condition.getConditionType()) {
+		case Condition.SAC_AND_CONDITION:
+		case Condition.SAC_OR_CONDITION:
+			CombinatorCondition combinator = (CombinatorCondition) condition;
+			addCondition(combinator.getFirstCondition(), scope);
+			addCondition(combinator.getSecondCondition(), scope);
+			break;
+		case Condition.SAC_NEGATIVE_CONDITION:
+			addCondition(((NegativeCondition) condition).getCondition(), scope);
+			break;
+		case Condition.SAC_CLASS_CONDITION:
+			add(ANY_CLASS + ((AttributeCondition) condition).getValue(), scope);
+			break;
+		case Condition.SAC_ID_CONDITION:
+			add(ANY_ID + ((AttributeCondition) condition).getValue(), scope);
+			break;
+		case Condition.SAC_PSEUDO_CLASS_CONDITION:
+			add(':' + ((AttributeCondition) condition).getValue().toLowerCase(), scope);
+			break;
+		case Condition.SAC_ATTRIBUTE_CONDITION:
+		case Condition.SAC_ONE_OF_ATTRIBUTE_CONDITION:
+		case Condition.SAC_BEGIN_HYPHEN_ATTRIBUTE_CONDITION:
+			String attribute = ((AttributeCondition) condition).getLocalName();
+			if ("class".equals(attribute)) {
+				add(ANY_CLASS, scope);
+			} else if ("id".equals(attribute)) {
+				add(ANY_ID, scope);
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void add(String dependency, int scope) {
+		scopes.merge(dependency, Integer.valueOf(scope), (a, b) -> a.intValue() >= b.intValue() ? a : b);
+	}
+
+	private static boolean usesInherit(CSSStyleDeclaration style) {
+		for (int i = 0; i < style.getLength(); i++) {
+			CSSValue value = style.getPropertyCSSValue(style.item(i));
+			// like AbstractCSSEngine#applyCSSProperty
+			if (value != null && "inherit".equals(value.getCssText())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns which elements have to be restyled after changes on an element.
+	 *
+	 * @param changes
+	 *            the changed class names, ids and pseudo classes, written like
+	 *            in selectors
+	 * @return {@link #NONE}, {@link #ELEMENT}, {@link #SUBTREE} or
+	 *         {@link #SIBLINGS}
+	 */
+	public int getScope(Collection<String> changes) {
+		int scope = NONE;
+		for (String change : changes) {
+			scope = Math.max(scope, getScope(change));
+			if (change.startsWith(ANY_CLASS)) {
+				scope = Math.max(scope, getScope(ANY_CLASS));
+			} else if (change.startsWith(ANY_ID)) {
+				scope = Math.max(scope, getScope(ANY_ID));
+			}
+		}
+		if (scope == ELEMENT && inherits) {
+			return SUBTREE;
+		}
+		return scope;
+	}
+
+	private int getScope(String change) {
+		Integer scope = scopes.get(change);
+		return scope == null ? NONE : scope.intValue();
+	}
+
+	/**
+	 * Returns the changes between the CSS classes and ids of an element.
+	 *
+	 * @param oldClasses
+	 *            the space separated class names before the change, may be
+	 *            <code>null</code>
+	 * @param newClasses
+	 *            the space separated class names after the change, may be
+	 *            <code>null</code>
+	 * @param oldId
+	 *            the id before the change, may be <code>null</code>
+	 * @param newId
+	 *            the id after the change, may be <code>null</code>
+	 * @return the added and removed class names and ids, written like in
+	 *         selectors
+	 */
+	public static Set<String> getChanges(String oldClasses, String newClasses, String oldId, String newId) {
+		Set<String> changes = new HashSet<>();
+		Set<String> oldNames = split(oldClasses);
+		Set<String> newNames = split(newClasses);
+		for (String name : oldNames) {
+			if (!newNames.contains(name)) {
+				changes.add(ANY_CLASS + name);
+			}
+		}
+		for (String name : newNames) {
+			if (!oldNames.contains(name)) {
+				changes.add(ANY_CLASS + name);
+			}
+		}
+		if (oldId == null ? newId != null : !oldId.equals(newId)) {
+			if (oldId != null) {
+				changes.add(ANY_ID + oldId);
+			}
+			if (newId != null) {
+				changes.add(ANY_ID + newId);
+			}
+		}
+		return changes;
+	}
+
+	private static Set<String> split(String classes) {
+		Set<String> names = new HashSet<>();
+		if (classes != null) {
+			for (String name : classes.split(" ")) {
+				if (!name.isEmpty()) {
+					names.add(name);
+				}
+			}
+		}
+		return names;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,18 +75,15 @@ public abstract class AbstractResourcesRegistry implements IResourcesRegistry {
 		if (resourcesMap == null) {
 			return;
 		}
-		Object resource = resourcesMap.get(key);
-		if (resource != null) {
-			resourcesMap.remove(resource);
-		}
+		resourcesMap.remove(key);
 	}
 
 	public void unregisterResource(Object resource) {
 		Object type = getResourceType(resource);
-		if (type != null) {
+		if (type != null && allResourcesMap != null) {
 			Map<Object, Object> resourcesMap = allResourcesMap.get(type);
 			if (resourcesMap != null) {
-				resourcesMap.remove(resource);
+				resourcesMap.values().remove(resource);
 			}
 		}
 	}
@@ -113,5 +110,20 @@ public abstract class AbstractResourcesRegistry implements IResourcesRegistry {
 		allResourcesMap = null;
 	}
 
+	/**
+	 * Removes all resources from the cache without disposing them.
+	 *
+	 * @return the removed resources by type and key
+	 * @since 0.13.0
+	 */
+	protected Map<Object, Map<Object, Object>> removeAllResources() {
+		if (allResourcesMap == null) {
+			return Collections.emptyMap();
+		}
+		Map<Object, Map<Object, Object>> resources = allResourcesMap;
+		allResourcesMap = null;
+		return resources;
+	}
+
 	public abstract void disposeResource(Object type, Object key, Object resource);
 }
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.swt.internal.theme;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.dom.CSSStyleSheetImpl;
+import org.osgi.framework.Bundle;
+import org.w3c.css.sac.InputSource;
+import org.w3c.dom.stylesheets.StyleSheet;
+
+/**
+ * Keeps the parsed style sheets of the themes, so switching back to a theme,
+ * resetting it or adding a CSS engine does not parse its CSS files again.
+ * <p>
+ * The style sheets of a theme are parsed once, by the first CSS engine, with
+ * their imports inlined, and shared by all engines. They are parsed again when
+ * the CSS files of the theme or the files they import change: the cache entry
+ * of a theme is stamped with the version of the bundle contributing each of
+ * these files, or the time the file was last modified if it is not contributed
+ * by a bundle, like the style sheets modified by the user.
+ * </p>
+ * <p>
+ * The cache is only kept in memory, so the style sheets are still parsed once
+ * per session.
+ * </p>
+ */
+public final class StyleSheetCache {
+
+	private static final String PLUGIN_PREFIX = "platform:/plugin/";
+
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	private long hits;
+
+	private long misses;
+
+	/**
+	 * Adds the style sheets of a theme to the CSS engines, parsing the CSS files
+	 * only if they were not parsed already. The engines should have been reset.
+	 * CSS files that cannot be read are logged and skipped, and the style sheets
+	 * of a theme with such files are not kept.
+	 *
+	 * @param themeId
+	 *            the id of the theme
+	 * @param stylesheets
+	 *            the URIs of the CSS files of the theme
+	 * @param engines
+	 *            the CSS engines to add the style sheets to
+	 * @return the style sheets of the theme
+	 */
+	public synchronized List<StyleSheet> load(String themeId, List<String> stylesheets,
+			Collection<CSSEngine> engines) {
+		if (engines.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<URL> urls = new ArrayList<>(stylesheets.size());
+		StringBuilder stamp = new StringBuilder();
+		boolean complete = true;
+		for (String stylesheet : stylesheets) {
+			try {
+				URL url = FileLocator.resolve(new URL(stylesheet));
+				urls.add(url);
+				stamp.append(stylesheet).append('@').append(getVersion(stylesheet, url)).append(';');
+			} catch (IOException e) {
+				ThemeEngineManager.logError(e.getMessage(), e);
+				complete = false;
+			}
+		}
+
+		Entry entry = entries.get(themeId);
+		if (entry != null && complete && entry.stamp.equals(stamp + getImportStamp(entry.imports))) {
+			hits++;
+			for (CSSEngine engine : engines) {
+				addStyleSheets(engine, entry.styleSheets);
+			}
+			return entry.styleSheets;
+		}
+
+		misses++;
+		entries.remove(themeId);
+		CSSEngine parser = engines.iterator().next();
+		List<StyleSheet> styleSheets = new ArrayList<>(urls.size());
+		for (URL url : urls) {
+			try {
+				styleSheets.add(parse(parser, url));
+			} catch (IOException e) {
+				ThemeEngineManager.logError(e.getMessage(), e);
+				complete = false;
+			}
+		}
+		for (CSSEngine engine : engines) {
+			if (engine != parser) {
+				addStyleSheets(engine, styleSheets);
+			}
+		}
+		if (complete) {
+			List<String> imports = new ArrayList<>();
+			for (StyleSheet styleSheet : styleSheets) {
+				if (styleSheet instanceof CSSStyleSheetImpl) {
+					imports.addAll(((CSSStyleSheetImpl) styleSheet).getImportedURLs());
+				}
+			}
+			entries.put(themeId, new Entry(stamp + getImportStamp(imports), imports, styleSheets));
+		}
+		return styleSheets;
+	}
+
+	/**
+	 * Parses a CSS file, which adds its style sheet to the engine.
+	 *
+	 * @param engine
+	 *            the CSS engine to parse with
+	 * @param url
+	 *            the resolved URL of the CSS file
+	 * @return the style sheet
+	 * @throws IOException
+	 *             if the file cannot be read
+	 */
+	public static StyleSheet parse(CSSEngine engine, URL url) throws IOException {
+		try (InputStream stream = url.openStream()) {
+			InputSource source = new InputSource();
+			source.setByteStream(stream);
+			source.setURI(url.toString());
+			return engine.parseStyleSheet(source);
+		}
+	}
+
+	private static void addStyleSheets(CSSEngine engine, List<StyleSheet> styleSheets) {
+		ExtendedDocumentCSS document = (ExtendedDocumentCSS) engine.getDocumentCSS();
+		for (StyleSheet styleSheet : styleSheets) {
+			document.addStyleSheet(styleSheet);
+		}
+	}
+
+	private static String getImportStamp(List<String> imports) {
+		StringBuilder stamp = new StringBuilder();
+		for (String imported : imports) {
+			stamp.append(imported).append('@');
+			try {
+				stamp.append(getVersion(imported, new URL(imported)));
+			} catch (MalformedURLException e) {
+				// stamped without a version
+			}
+			stamp.append(';');
+		}
+		return stamp.toString();
+	}
+
+	private static String getVersion(String stylesheet, URL url) {
+		if ("file".equals(url.getProtocol())) {
+			return Long.toString(new File(url.getFile()).lastModified());
+		}
+		if ("jar".equals(url.getProtocol())) {
+			// a file of a bundle that is a jar, imported by a theme file
+			String file = url.getFile();
+			int separator = file.indexOf("!/");
+			if (separator > 0 && file.startsWith("file:")) {
+				return Long.toString(new File(file.substring("file:".length(), separator)).lastModified());
+			}
+		}
+		if (stylesheet.startsWith(PLUGIN_PREFIX)) {
+			int end = stylesheet.indexOf('/', PLUGIN_PREFIX.length());
+			Bundle bundle = end < 0 ? null : Platform.getBundle(stylesheet.substring(PLUGIN_PREFIX.length(), end));
+			if (bundle != null) {
+				return bundle.getVersion().toString();
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * Forgets all parsed style sheets.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return the number of themes loaded without parsing their CSS files
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of themes whose CSS files had to be parsed
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	private static final class Entry {
+		final String stamp;
+		final List<String> imports;
+		final List<StyleSheet> styleSheets;
+
+		Entry(String stamp, List<String> imports, List<StyleSheet> styleSheets) {
+			this.stamp = stamp;
+			this.imports = imports;
+			this.styleSheets = styleSheets;
+		}
+	}
+}
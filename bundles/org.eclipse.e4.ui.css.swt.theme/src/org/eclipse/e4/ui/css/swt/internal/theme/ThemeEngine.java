@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 Tom Schindl and others.
+ * Copyright (c) 2010, 2026 Tom Schindl and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,6 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -32,7 +31,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
-import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
@@ -60,7 +58,6 @@ import org.osgi.framework.ServiceReference;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
 import org.osgi.service.prefs.BackingStoreException;
-import org.w3c.css.sac.InputSource;
 import org.w3c.dom.Element;
 import org.w3c.dom.css.CSSStyleDeclaration;
 
@@ -81,6 +78,8 @@ public class ThemeEngine implements IThemeEngine {
 	private HashMap<String, List<String>> modifiedStylesheets = new HashMap<>();
 	private HashMap<String, List<IResourceLocator>> sourceLocators = new HashMap<>();
 
+	private StyleSheetCache styleSheetCache = new StyleSheetCache();
+
 	private static final String THEMEID_KEY = "themeid";
 
 	public static final String THEME_PLUGIN_ID = "org.eclipse.e4.ui.css.swt.theme";
@@ -416,34 +415,7 @@ public class ThemeEngine implements IThemeEngine {
 					.registerResourceLocator(l);
 				}
 			}
-			for (String stylesheet : getAllStyles(theme.getId())) {
-				URL url;
-				InputStream stream = null;
-				try {
-					url = FileLocator.resolve(new URL(stylesheet.toString()));
-					for (CSSEngine engine : cssEngines) {
-						try {
-							stream = url.openStream();
-							InputSource source = new InputSource();
-							source.setByteStream(stream);
-							source.setURI(url.toString());
-							engine.parseStyleSheet(source);
-						} catch (IOException e) {
-							ThemeEngineManager.logError(e.getMessage(), e);
-						} finally {
-							if (stream != null) {
-								try {
-									stream.close();
-								} catch (IOException e) {
-									ThemeEngineManager.logError(e.getMessage(), e);
-								}
-							}
-						}
-					}
-				} catch (IOException e) {
-					ThemeEngineManager.logError(e.getMessage(), e);
-				}
-			}
+			styleSheetCache.load(theme.getId(), getAllStyles(theme.getId()), cssEngines);
 		}
 
 		if (restore) {
@@ -512,6 +484,16 @@ public class ThemeEngine implements IThemeEngine {
 		}
 	}
 
+	@Override
+	public void applyStylesOnChange(Object widget, String oldCSSClass, String oldCSSId) {
+		for (CSSEngine engine : cssEngines) {
+			Object element = engine.getElement(widget);
+			if (element != null) {
+				engine.applyStylesOnChange(element, oldCSSClass, oldCSSId);
+			}
+		}
+	}
+
 	private String getPreferenceThemeId() {
 		return getPreferences().get(THEMEID_KEY, null);
 	}
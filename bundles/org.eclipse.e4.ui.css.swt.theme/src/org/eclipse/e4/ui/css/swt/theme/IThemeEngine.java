@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 Tom Schindl and others.
+ * Copyright (c) 2010, 2026 Tom Schindl and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -155,6 +155,24 @@ public interface IThemeEngine {
 	 */
 	void applyStyles(Object widget, boolean applyStylesToChildNodes);
 
+	/**
+	 * Reapply the style after the CSS class or id of the widget changed,
+	 * updating only the widgets whose style can depend on the change
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param oldCSSClass
+	 *            the CSS class of the widget before the change, may be
+	 *            <code>null</code>
+	 * @param oldCSSId
+	 *            the CSS id of the widget before the change, may be
+	 *            <code>null</code>
+	 * @since 0.13.0
+	 */
+	default void applyStylesOnChange(Object widget, String oldCSSClass, String oldCSSId) {
+		applyStyles(widget, true);
+	}
+
 	/**
 	 * Get the style currently active for a widget
 	 *
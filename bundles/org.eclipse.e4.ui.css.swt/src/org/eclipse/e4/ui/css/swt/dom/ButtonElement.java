@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 Angelo Zerr and others.
+ * Copyright (c) 2009, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,7 +36,7 @@ public class ButtonElement extends ControlElement {
 		public void widgetSelected(SelectionEvent e) {
 			if (!e.widget.isDisposed()) {
 				ButtonElement.this.isSelected = getButton().getSelection();
-				doApplyStyles();
+				doApplyStyles("checked");
 			}
 		}
 	};
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 Angelo Zerr and others.
+ * Copyright (c) 2009, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.e4.ui.css.swt.dom;
 
 import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.helpers.CSSSWTAppliedValueHelper;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTCursorHelper;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTFontHelper;
 import org.eclipse.e4.ui.css.swt.properties.GradientBackgroundListener;
@@ -47,13 +48,13 @@ public class ControlElement extends WidgetElement {
 		@Override
 		public void focusGained(FocusEvent e) {
 			ControlElement.this.hasFocus = true;
-			doApplyStyles();
+			doApplyStyles("focus");
 		}
 
 		@Override
 		public void focusLost(FocusEvent e) {
 			ControlElement.this.hasFocus = false;
-			doApplyStyles();
+			doApplyStyles("focus");
 		}
 	};
 
@@ -64,14 +65,14 @@ public class ControlElement extends WidgetElement {
 			// mouse hover, apply styles
 			// into the SWT control
 			ControlElement.this.hasMouseHover = true;
-			doApplyStyles();
+			doApplyStyles("hover");
 		}
 
 		@Override
 		public void mouseExit(MouseEvent e) {
 			// mouse hover, apply styles
 			ControlElement.this.hasMouseHover = false;
-			doApplyStyles();
+			doApplyStyles("hover");
 
 		}
 	};
@@ -150,6 +151,7 @@ public class ControlElement extends WidgetElement {
 	@Override
 	public void reset() {
 		Control control = getControl();
+		CSSSWTAppliedValueHelper.reset(control, engine);
 		CSSSWTFontHelper.restoreDefaultFont(control);
 		CSSSWTCursorHelper.restoreDefaultCursor(control);
 		GradientBackgroundListener.remove(control);
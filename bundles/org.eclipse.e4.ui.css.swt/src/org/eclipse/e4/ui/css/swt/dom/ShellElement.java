@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 Angelo Zerr and others.
+ * Copyright (c) 2009, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,13 +40,13 @@ public class ShellElement extends CompositeElement {
 		@Override
 		public void shellActivated(ShellEvent e) {
 			ShellElement.this.isActive = true;
-			doApplyStyles();
+			doApplyStyles("active");
 		}
 
 		@Override
 		public void shellDeactivated(ShellEvent e) {
 			ShellElement.this.isActive = false;
-			doApplyStyles();
+			doApplyStyles("active");
 		}
 
 		@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -126,7 +126,13 @@ public abstract class AbstractCSSSWTEngineImpl extends CSSEngineImpl {
 			}
 		}
 
-		getResourcesRegistry().dispose();
+		IResourcesRegistry resourcesRegistry = getResourcesRegistry();
+		if (resourcesRegistry instanceof SWTResourcesRegistry) {
+			// the widgets use the resources until the styles are applied again
+			((SWTResourcesRegistry) resourcesRegistry).releaseResources();
+		} else {
+			resourcesRegistry.dispose();
+		}
 		super.reset();
 	}
 
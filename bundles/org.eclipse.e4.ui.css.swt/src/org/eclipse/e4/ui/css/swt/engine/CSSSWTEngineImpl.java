@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ package org.eclipse.e4.ui.css.swt.engine;
 import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.e4.ui.css.core.impl.engine.RegistryCSSElementProvider;
 import org.eclipse.e4.ui.css.core.impl.engine.RegistryCSSPropertyHandlerProvider;
+import org.eclipse.e4.ui.css.core.resources.IResourcesRegistry;
+import org.eclipse.e4.ui.css.swt.resources.SWTResourcesRegistry;
 import org.eclipse.e4.ui.internal.css.swt.CSSActivator;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
@@ -87,6 +89,10 @@ public class CSSSWTEngineImpl extends AbstractCSSSWTEngineImpl {
 				s.setRedraw(true);
 			}
 		}
+		IResourcesRegistry resourcesRegistry = getResourcesRegistry();
+		if (resourcesRegistry instanceof SWTResourcesRegistry) {
+			((SWTResourcesRegistry) resourcesRegistry).disposeReleasedResources();
+		}
 	}
 
 }
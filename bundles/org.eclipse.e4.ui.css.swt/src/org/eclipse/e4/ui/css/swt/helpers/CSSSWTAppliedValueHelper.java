@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.swt.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.e4.ui.css.core.engine.CSSElementContext;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.swt.widgets.Widget;
+import org.w3c.dom.css.CSSValue;
+import org.w3c.dom.css.CSSValueList;
+
+/**
+ * Remembers the last CSS value applied by a property handler to a widget, so
+ * that applying the same value again can be skipped without converting it and
+ * calling the SWT setters. The values are kept in the
+ * {@link CSSElementContext} of the widget and forgotten when its element is
+ * reset.
+ * <p>
+ * Values whose result does not depend on their text alone, like references to
+ * color definitions the user may change and <code>inherit</code>, are never
+ * remembered.
+ * </p>
+ * <p>
+ * Also counts the SWT setter calls avoided because the value did not change,
+ * either here or in the helpers comparing the new value with the current one
+ * of the widget.
+ * </p>
+ */
+public class CSSSWTAppliedValueHelper {
+
+	private static final String APPLIED_VALUES_KEY = "org.eclipse.e4.ui.css.swt.appliedValues"; //$NON-NLS-1$
+
+	private static final AtomicLong avoidedCalls = new AtomicLong();
+
+	/**
+	 * Returns whether <code>value</code> is the last value applied to the
+	 * <code>property</code> of the widget with the same pseudo class. If so,
+	 * the call is counted as avoided.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param property
+	 *            the CSS property, like <code>background-color</code>
+	 * @param value
+	 *            the value to apply
+	 * @param pseudo
+	 *            the pseudo class, may be <code>null</code>
+	 * @param engine
+	 *            the engine applying the value
+	 * @return <code>true</code> if the value is applied already
+	 */
+	public static boolean isApplied(Widget widget, String property, CSSValue value, String pseudo,
+			CSSEngine engine) {
+		if (!isRemembered(value)) {
+			return false;
+		}
+		Map<String, String> values = getAppliedValues(widget, engine, false);
+		if (values != null && toString(value, pseudo).equals(values.get(property))) {
+			avoidedCalls.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Remembers <code>value</code> as the last value applied to the
+	 * <code>property</code> of the widget.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param property
+	 *            the CSS property, like <code>background-color</code>
+	 * @param value
+	 *            the applied value
+	 * @param pseudo
+	 *            the pseudo class, may be <code>null</code>
+	 * @param engine
+	 *            the engine applying the value
+	 */
+	public static void setApplied(Widget widget, String property, CSSValue value, String pseudo,
+			CSSEngine engine) {
+		boolean remembered = isRemembered(value);
+		Map<String, String> values = getAppliedValues(widget, engine, remembered);
+		if (values == null) {
+			return;
+		}
+		if (remembered) {
+			values.put(property, toString(value, pseudo));
+		} else {
+			values.remove(property);
+		}
+	}
+
+	/**
+	 * Forgets the values applied to the widget, after its styles were reset.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param engine
+	 *            the engine which applied the values
+	 */
+	public static void reset(Widget widget, CSSEngine engine) {
+		CSSElementContext context = engine.getCSSElementContext(widget);
+		if (context != null) {
+			context.setData(APPLIED_VALUES_KEY, null);
+		}
+	}
+
+	/**
+	 * Counts a SWT setter call avoided because the widget has the value
+	 * already.
+	 */
+	static void avoided() {
+		avoidedCalls.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of SWT setter calls avoided since the bundle was
+	 *         loaded
+	 */
+	public static long getAvoidedCallCount() {
+		return avoidedCalls.get();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> getAppliedValues(Widget widget, CSSEngine engine, boolean create) {
+		CSSElementContext context = engine.getCSSElementContext(widget);
+		if (context == null) {
+			return null;
+		}
+		Map<String, String> values = (Map<String, String>) context.getData(APPLIED_VALUES_KEY);
+		if (values == null && create) {
+			values = new HashMap<>(4);
+			context.setData(APPLIED_VALUES_KEY, values);
+		}
+		return values;
+	}
+
+	private static boolean isRemembered(CSSValue value) {
+		if ("inherit".equals(value.getCssText())) { //$NON-NLS-1$
+			return false;
+		}
+		if (value.getCssValueType() == CSSValue.CSS_VALUE_LIST) {
+			CSSValueList list = (CSSValueList) value;
+			for (int i = 0; i < list.getLength(); i++) {
+				if (!isRemembered(list.item(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return !CSSSWTColorHelper.hasColorDefinitionAsValue(value);
+	}
+
+	private static String toString(CSSValue value, String pseudo) {
+		String cssText = value.getCssText();
+		return pseudo == null ? cssText : pseudo + ':' + cssText;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -351,6 +351,8 @@ public class CSSSWTColorHelper {
 	public static void setForeground(Control control, Color newColor) {
 		if (!equals(control.getForeground(), newColor)) {
 			control.setForeground(newColor);
+		} else {
+			CSSSWTAppliedValueHelper.avoided();
 		}
 	}
 
@@ -358,6 +360,8 @@ public class CSSSWTColorHelper {
 	public static void setBackground(Control control, Color newColor) {
 		if (!equals(control.getBackground(), newColor)) {
 			control.setBackground(newColor);
+		} else {
+			CSSSWTAppliedValueHelper.avoided();
 		}
 	}
 
@@ -365,6 +369,8 @@ public class CSSSWTColorHelper {
 	public static void setSelectionForeground(CTabFolder folder, Color newColor) {
 		if (!equals(folder.getSelectionForeground(), newColor)) {
 			folder.setSelectionForeground(newColor);
+		} else {
+			CSSSWTAppliedValueHelper.avoided();
 		}
 	}
 
@@ -372,6 +378,8 @@ public class CSSSWTColorHelper {
 	public static void setSelectionBackground(CTabFolder folder, Color newColor) {
 		if (!equals(folder.getSelectionBackground(), newColor)) {
 			folder.setSelectionBackground(newColor);
+		} else {
+			CSSSWTAppliedValueHelper.avoided();
 		}
 	}
 }
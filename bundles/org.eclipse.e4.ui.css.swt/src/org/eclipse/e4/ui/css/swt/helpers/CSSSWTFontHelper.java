@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -519,6 +519,8 @@ public class CSSSWTFontHelper {
 		if (!equals(control.getFont(), font)) {
 			storeDefaultFont(control);
 			control.setFont(font);
+		} else {
+			CSSSWTAppliedValueHelper.avoided();
 		}
 	}
 
@@ -527,6 +529,8 @@ public class CSSSWTFontHelper {
 		if (!equals(item.getFont(), font)) {
 			storeDefaultFont(item);
 			item.setFont(font);
+		} else {
+			CSSSWTAppliedValueHelper.avoided();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.e4.ui.css.core.dom.properties.css2.ICSSPropertyBackgroundHand
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.swt.dom.CompositeElement;
 import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.helpers.CSSSWTAppliedValueHelper;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTColorHelper;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTImageHelper;
 import org.eclipse.e4.ui.css.swt.helpers.SWTElementHelpers;
@@ -64,6 +65,10 @@ AbstractCSSPropertyBackgroundHandler {
 	public void applyCSSPropertyBackgroundColor(Object element, CSSValue value,
 			String pseudo, CSSEngine engine) throws Exception {
 		Widget widget = (Widget) ((WidgetElement) element).getNativeWidget();
+		if (widget instanceof Control && CSSSWTAppliedValueHelper.isApplied(widget, "background-color", value,
+				pseudo, engine)) {
+			return;
+		}
 		if (value.getCssValueType() == CSSValue.CSS_PRIMITIVE_VALUE) {
 			Color newColor = (Color) engine.convert(value, Color.class, widget
 					.getDisplay());
@@ -79,6 +84,7 @@ AbstractCSSPropertyBackgroundHandler {
 				GradientBackgroundListener.remove((Control) widget);
 				CSSSWTColorHelper.setBackground((Control) widget, newColor);
 				CompositeElement.setBackgroundOverriddenByCSSMarker(widget);
+				CSSSWTAppliedValueHelper.setApplied(widget, "background-color", value, pseudo, engine);
 			}
 		} else if (value.getCssValueType() == CSSValue.CSS_VALUE_LIST) {
 			Gradient grad = (Gradient) engine.convert(value, Gradient.class,
@@ -101,6 +107,7 @@ AbstractCSSPropertyBackgroundHandler {
 			} else if (widget instanceof Control) {
 				GradientBackgroundListener.handle((Control) widget, grad);
 				CompositeElement.setBackgroundOverriddenByCSSMarker(widget);
+				CSSSWTAppliedValueHelper.setApplied(widget, "background-color", value, pseudo, engine);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import org.eclipse.e4.ui.css.core.dom.properties.css2.AbstractCSSPropertyTextHan
 import org.eclipse.e4.ui.css.core.dom.properties.css2.ICSSPropertyTextHandler;
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.swt.CSSSWTConstants;
+import org.eclipse.e4.ui.css.swt.helpers.CSSSWTAppliedValueHelper;
 import org.eclipse.e4.ui.css.swt.helpers.CSSSWTColorHelper;
 import org.eclipse.e4.ui.css.swt.helpers.SWTElementHelpers;
 import org.eclipse.swt.custom.CTabFolder;
@@ -61,6 +62,9 @@ public class CSSPropertyTextSWTHandler extends AbstractCSSPropertyTextHandler {
 	public void applyCSSPropertyColor(Object element, CSSValue value,
 			String pseudo, CSSEngine engine) throws Exception {
 		Widget widget = (Widget) element;
+		if (widget instanceof Control && CSSSWTAppliedValueHelper.isApplied(widget, "color", value, pseudo, engine)) {
+			return;
+		}
 		if (value.getCssValueType() == CSSValue.CSS_PRIMITIVE_VALUE) {
 			Color newColor = (Color) engine.convert(value, Color.class, widget
 					.getDisplay());
@@ -77,6 +81,7 @@ public class CSSPropertyTextSWTHandler extends AbstractCSSPropertyTextHandler {
 				}
 			} else if (widget instanceof Control) {
 				CSSSWTColorHelper.setForeground((Control) widget, newColor);
+				CSSSWTAppliedValueHelper.setApplied(widget, "color", value, pseudo, engine);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,27 +15,53 @@
 package org.eclipse.e4.ui.css.swt.resources;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import org.eclipse.e4.ui.css.core.resources.AbstractResourcesRegistry;
+import org.eclipse.jface.resource.FontDescriptor;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.ResourceManager;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 
 /**
  * SWT Resources Registry to cache SWT Resource like Color, Cursor and Font and
  * dispose it.
+ * <p>
+ * Fonts created by {@link #createFont(FontData, Display)} are shared with the
+ * JFace resource manager of the display, which counts their references: the
+ * fonts of all CSS engines and JFace clients of a display are created once,
+ * and only disposed when no one uses them anymore.
+ * </p>
+ * <p>
+ * When the styles are reset, like on a theme change, the cached resources are
+ * released but kept alive until {@link #disposeReleasedResources()} is
+ * called after the styles were applied again, since widgets still use them
+ * until then.
+ * </p>
  */
 public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 
+	private final ResourceManager resourceManager;
+
+	private final Map<Object, SharedResource> sharedResources = new IdentityHashMap<>();
+
+	private List<Object[]> releasedResources = new ArrayList<>();
+
 	public SWTResourcesRegistry(Display display) {
 		if (display == null) {
+			resourceManager = null;
 			return;
 		}
+		resourceManager = JFaceResources.getResources(display);
 		// When SWT Display will dispose, all SWT resources stored
 		// into cache will be dispose it too.
 		display.addListener(SWT.Dispose, event -> dispose());
@@ -49,7 +75,8 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 			if (isDisposed(resource)) {
 				// SWT Resource is disposed
 				// unregister it.
-				super.unregisterResource(resource);
+				super.unregisterResource(type, key);
+				sharedResources.remove(resource);
 				return null;
 			}
 		}
@@ -81,8 +108,42 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 		super.registerResource(type, key, resource);
 	}
 
+	/**
+	 * Creates a font shared with the other users of the JFace resource manager
+	 * of the display. Once registered with this registry, the font is released
+	 * instead of disposed when it is removed, and only disposed when no one
+	 * uses it anymore.
+	 *
+	 * @param fontData
+	 *            the data of the font
+	 * @param display
+	 *            the display of the font
+	 * @return the shared font
+	 */
+	public Font createFont(FontData fontData, Display display) {
+		ResourceManager manager = resourceManager != null ? resourceManager : JFaceResources.getResources(display);
+		FontDescriptor descriptor = FontDescriptor.createFrom(fontData);
+		Font font = manager.createFont(descriptor);
+		SharedResource shared = sharedResources.get(font);
+		if (shared == null) {
+			shared = new SharedResource(manager, descriptor);
+			sharedResources.put(font, shared);
+		}
+		shared.references++;
+		return font;
+	}
+
 	@Override
 	public void disposeResource(Object type, Object key, Object resource) {
+		SharedResource shared = sharedResources.get(resource);
+		if (shared != null) {
+			// Release the reference to the font of the resource manager
+			if (--shared.references == 0) {
+				sharedResources.remove(resource);
+			}
+			shared.manager.destroyFont(shared.descriptor);
+			return;
+		}
 		// Dispose SWT Resource
 		if (resource instanceof Color) {
 			((Color)resource).dispose();
@@ -123,6 +184,18 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 		return false;
 	}
 
+	/**
+	 * Removes the resources of the given types cached with keys of the given
+	 * type. Shared fonts are released by the next call to
+	 * {@link #disposeReleasedResources()}, the other resources are returned
+	 * and must be disposed by the caller.
+	 *
+	 * @param keyType
+	 *            the type of the keys of the resources to remove
+	 * @param types
+	 *            the types of the resources to remove
+	 * @return the removed resources which are not shared
+	 */
 	public List<Object> removeResourcesByKeyTypeAndType(Class<?> keyType, Class<?>... types) {
 		List<Object> removedResources = new ArrayList<Object>();
 		for (Class<?> cls : types) {
@@ -130,11 +203,94 @@ public class SWTResourcesRegistry extends AbstractResourcesRegistry {
 			while (iter.hasNext()) {
 				Entry<Object, Object> entry = iter.next();
 				if (keyType.isAssignableFrom(entry.getKey().getClass())) {
-					removedResources.add(entry.getValue());
+					if (sharedResources.containsKey(entry.getValue())) {
+						releasedResources.add(new Object[] { cls, entry.getKey(), entry.getValue() });
+					} else {
+						removedResources.add(entry.getValue());
+					}
 					iter.remove();
 				}
 			}
 		}
 		return removedResources;
 	}
+
+	/**
+	 * Removes all resources from the cache, keeping them alive until
+	 * {@link #disposeReleasedResources()} is called. Resources released by a
+	 * previous call and not disposed yet are disposed first.
+	 */
+	public void releaseResources() {
+		disposeReleasedResources();
+		for (Entry<Object, Map<Object, Object>> entry : removeAllResources().entrySet()) {
+			for (Entry<Object, Object> resource : entry.getValue().entrySet()) {
+				releasedResources.add(new Object[] { entry.getKey(), resource.getKey(), resource.getValue() });
+			}
+		}
+	}
+
+	/**
+	 * Disposes the resources released by {@link #releaseResources()} or
+	 * {@link #removeResourcesByKeyTypeAndType(Class, Class...)}. Shared fonts
+	 * still cached by this registry, or used by other clients of the JFace
+	 * resource manager, stay alive.
+	 */
+	public void disposeReleasedResources() {
+		if (releasedResources.isEmpty()) {
+			return;
+		}
+		List<Object[]> resources = releasedResources;
+		releasedResources = new ArrayList<>();
+		for (Object[] resource : resources) {
+			disposeResource(resource[0], resource[1], resource[2]);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		disposeReleasedResources();
+		super.dispose();
+	}
+
+	/**
+	 * @return the number of cached and released resources which are not
+	 *         disposed
+	 */
+	public int getResourceCount() {
+		int count = 0;
+		for (Object type : new Object[] { Color.class, Cursor.class, Font.class, Image.class }) {
+			for (Object resource : getCacheByType(type).values()) {
+				if (!isDisposed(resource)) {
+					count++;
+				}
+			}
+		}
+		for (Object[] resource : releasedResources) {
+			if (!isDisposed(resource[2])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of distinct fonts shared with the JFace resource
+	 *         manager
+	 */
+	public int getSharedResourceCount() {
+		return sharedResources.size();
+	}
+
+	private static class SharedResource {
+		final ResourceManager manager;
+
+		final FontDescriptor descriptor;
+
+		int references;
+
+		SharedResource(ResourceManager manager, FontDescriptor descriptor) {
+			this.manager = manager;
+			this.descriptor = descriptor;
+		}
+	}
 }
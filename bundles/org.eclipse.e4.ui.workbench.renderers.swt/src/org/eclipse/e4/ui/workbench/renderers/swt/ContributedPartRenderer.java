@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.contributions.IContributionFactory;
 import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
 import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
@@ -44,6 +45,8 @@ import org.eclipse.swt.widgets.Widget;
  */
 public class ContributedPartRenderer extends SWTPartRenderer {
 
+	private static final String CREATE_PART_SPAN = "createPart"; //$NON-NLS-1$
+
 	@Inject
 	private IPresentationEngine engine;
 
@@ -129,8 +132,13 @@ public class ContributedPartRenderer extends SWTPartRenderer {
 		localContext.set(Composite.class, partComposite);
 
 		IContributionFactory contributionFactory = localContext.get(IContributionFactory.class);
-		Object newPart = contributionFactory.create(part.getContributionURI(), localContext);
-		part.setObject(newPart);
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, CREATE_PART_SPAN, part.getElementId());
+		try {
+			Object newPart = contributionFactory.create(part.getContributionURI(), localContext);
+			part.setObject(newPart);
+		} finally {
+			PerformanceTracing.end(CREATE_PART_SPAN);
+		}
 
 		return partComposite;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.ui.bindings.EBindingService;
 import org.eclipse.e4.ui.internal.workbench.Activator;
 import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
 import org.eclipse.e4.ui.internal.workbench.renderers.swt.IUpdateService;
 import org.eclipse.e4.ui.internal.workbench.swt.Policy;
 import org.eclipse.e4.ui.internal.workbench.swt.WorkbenchSWTActivator;
@@ -78,6 +79,8 @@ public class HandledContributionItem extends AbstractContributionItem {
 	private static final String WW_SUPPORT = "org.eclipse.ui.IWorkbenchWindow"; //$NON-NLS-1$
 	private static final String HCI_STATIC_CONTEXT = "HCI-staticContext"; //$NON-NLS-1$
 
+	private static final String EXECUTE_SPAN = "executeItem"; //$NON-NLS-1$
+
 	@Inject
 	private ECommandService commandService;
 
@@ -435,7 +438,12 @@ public class HandledContributionItem extends AbstractContributionItem {
 		final IEclipseContext lclContext = getContext(getModel());
 		EHandlerService service = lclContext.get(EHandlerService.class);
 		final IEclipseContext staticContext = getStaticContext(trigger);
-		service.executeHandler(cmd, staticContext);
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_COMMANDS, EXECUTE_SPAN, cmd.getId());
+		try {
+			service.executeHandler(cmd, staticContext);
+		} finally {
+			PerformanceTracing.end(EXECUTE_SPAN);
+		}
 		Object object = staticContext.get(HandlerServiceImpl.HANDLER_EXCEPTION);
 		if (object instanceof ExecutionException) {
 			if (logger != null) {
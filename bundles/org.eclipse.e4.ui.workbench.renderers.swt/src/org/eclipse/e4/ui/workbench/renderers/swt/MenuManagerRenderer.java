@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -109,6 +110,13 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 
 	private Collection<IContributionManager> mgrToUpdate = new LinkedHashSet<>();
 
+	/**
+	 * The menu contributions targeting a menu, by menu id, kind and tags. Popup
+	 * menus are processed each time they are shown, so the application's
+	 * contributions are not scanned again until they change.
+	 */
+	private Map<String, List<MMenuContribution>> menuContributionsCache = new HashMap<>();
+
 	@Inject
 	private Logger logger;
 
@@ -221,6 +229,38 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 		// nothing to do otherwise
 	}
 
+	@Inject
+	@Optional
+	private void subscribeTopicMenuContributions(
+			@UIEventTopic(UIEvents.MenuContributions.TOPIC_MENUCONTRIBUTIONS) Event event) {
+		menuContributionsCache.clear();
+	}
+
+	@Inject
+	@Optional
+	private void subscribeTopicMenuContributionParent(
+			@UIEventTopic(UIEvents.MenuContribution.TOPIC_PARENTID) Event event) {
+		menuContributionsCache.clear();
+	}
+
+	@Inject
+	@Optional
+	private void subscribeTopicMenuContributionRendered(
+			@UIEventTopic(UIEvents.UIElement.TOPIC_TOBERENDERED) Event event) {
+		if (event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MMenuContribution) {
+			menuContributionsCache.clear();
+		}
+	}
+
+	@Inject
+	@Optional
+	private void subscribeTopicMenuContributionTags(
+			@UIEventTopic(UIEvents.ApplicationElement.TOPIC_TAGS) Event event) {
+		if (event.getProperty(UIEvents.EventTags.ELEMENT) instanceof MMenuContribution) {
+			menuContributionsCache.clear();
+		}
+	}
+
 	@Inject
 	@Optional
 	private void subscribeItemEnabledUpdate(@UIEventTopic(UIEvents.Item.TOPIC_ENABLED) Event event) {
@@ -490,9 +530,8 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 		if (elementId == null) {
 			return;
 		}
-		final ArrayList<MMenuContribution> toContribute = new ArrayList<>();
-		ContributionsAnalyzer.XXXgatherMenuContributions(menuModel, application.getMenuContributions(), elementId,
-				toContribute, null, isPopup);
+		final ArrayList<MMenuContribution> toContribute = new ArrayList<>(
+				getMenuContributions(menuModel, elementId, isPopup));
 		generateContributions(menuModel, toContribute, isMenuBar);
 		for (MMenuElement element : menuModel.getChildren()) {
 			if (element instanceof MMenu) {
@@ -501,6 +540,34 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 		}
 	}
 
+	/**
+	 * Returns the contributions of the application that target the given menu.
+	 * The result is cached until the menu contributions of the application
+	 * change.
+	 *
+	 * @param menuModel
+	 *            the menu
+	 * @param elementId
+	 *            the id the contributions refer to
+	 * @param isPopup
+	 *            whether popup contributions are included
+	 * @return the contributions, in the order of the application model
+	 */
+	public List<MMenuContribution> getMenuContributions(MMenu menuModel, String elementId, boolean isPopup) {
+		// the tags of the menu decide which contributions are filtered
+		String key = elementId + '\n' + isPopup + '\n' + (menuModel instanceof MPopupMenu) + '\n'
+				+ menuModel.getTags();
+		List<MMenuContribution> contributions = menuContributionsCache.get(key);
+		if (contributions == null) {
+			ArrayList<MMenuContribution> gathered = new ArrayList<>();
+			ContributionsAnalyzer.XXXgatherMenuContributions(menuModel, application.getMenuContributions(), elementId,
+					gathered, null, isPopup);
+			contributions = Collections.unmodifiableList(gathered);
+			menuContributionsCache.put(key, contributions);
+		}
+		return contributions;
+	}
+
 	/**
 	 * @param menuModel
 	 * @param toContribute
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
 
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -35,6 +38,25 @@ import org.eclipse.swt.widgets.Shell;
  */
 public class PerspectiveStackRenderer extends LazyStackRenderer {
 
+	/**
+	 * System property for the number of recently shown perspectives of a window
+	 * kept in place when another one is shown. Switching back to one of them
+	 * only changes the visible control instead of moving the controls of the
+	 * perspective back from 'limbo'. Defaults to 0, which keeps none.
+	 */
+	private static final String CACHE_SIZE_PROPERTY = "eclipse.perspectiveCacheSize"; //$NON-NLS-1$
+
+	/**
+	 * System property for the maximum number of controls all kept perspectives
+	 * of a window may consist of. The least recently shown perspectives are
+	 * moved to 'limbo' beyond it.
+	 */
+	private static final String CACHE_MAX_CONTROLS_PROPERTY = "eclipse.perspectiveCacheMaxControls"; //$NON-NLS-1$
+
+	private static final int DEFAULT_CACHE_MAX_CONTROLS = 10000;
+
+	private static final String CACHE_KEY = "org.eclipse.e4.ui.workbench.renderers.swt.perspectiveCache"; //$NON-NLS-1$
+
 	@Inject
 	private IPresentationEngine renderer;
 
@@ -106,13 +128,70 @@ public class PerspectiveStackRenderer extends LazyStackRenderer {
 			}
 		}
 
-		// Move any other controls to 'limbo'
+		// Move any other controls to 'limbo', unless they are kept
+		Map<Control, Integer> cache = getCache(psComp);
 		Control[] kids = ctrl.getParent().getChildren();
 		Shell limbo = (Shell) persp.getContext().get("limbo"); //$NON-NLS-1$
-		for (Control child : kids) {
-			if (child != ctrl) {
-				child.setParent(limbo);
+		if (cache == null) {
+			for (Control child : kids) {
+				if (child != ctrl) {
+					child.setParent(limbo);
+				}
+			}
+		} else {
+			cache.remove(ctrl);
+			for (Control child : kids) {
+				if (child != ctrl && !cache.containsKey(child)) {
+					cache.put(child, Integer.valueOf(countControls(child)));
+				}
+			}
+			evict(cache, limbo);
+		}
+	}
+
+	/**
+	 * @return the kept perspective controls of the stack by their number of
+	 *         controls, the least recently shown first, or <code>null</code> if
+	 *         no perspectives are kept
+	 */
+	private Map<Control, Integer> getCache(Composite psComp) {
+		@SuppressWarnings("unchecked")
+		Map<Control, Integer> cache = (Map<Control, Integer>) psComp.getData(CACHE_KEY);
+		if (cache == null && Integer.getInteger(CACHE_SIZE_PROPERTY, 0).intValue() > 0) {
+			cache = new LinkedHashMap<>();
+			psComp.setData(CACHE_KEY, cache);
+		}
+		return cache;
+	}
+
+	private void evict(Map<Control, Integer> cache, Shell limbo) {
+		int maxSize = Integer.getInteger(CACHE_SIZE_PROPERTY, 0).intValue();
+		int maxControls = Integer.getInteger(CACHE_MAX_CONTROLS_PROPERTY, DEFAULT_CACHE_MAX_CONTROLS).intValue();
+		int controls = 0;
+		for (Iterator<Map.Entry<Control, Integer>> iterator = cache.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Control, Integer> entry = iterator.next();
+			if (entry.getKey().isDisposed()) {
+				iterator.remove();
+			} else {
+				controls += entry.getValue().intValue();
+			}
+		}
+		for (Iterator<Map.Entry<Control, Integer>> iterator = cache.entrySet().iterator(); iterator.hasNext()
+				&& (cache.size() > maxSize || controls > maxControls);) {
+			Map.Entry<Control, Integer> entry = iterator.next();
+			iterator.remove();
+			controls -= entry.getValue().intValue();
+			entry.getKey().setParent(limbo);
+		}
+	}
+
+	private static int countControls(Control control) {
+		int count = 1;
+		if (control instanceof Composite) {
+			for (Control child : ((Composite) control).getChildren()) {
+				count += countControls(child);
 			}
 		}
+		return count;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,37 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import org.eclipse.e4.ui.model.application.ui.menu.MItem;
 import org.eclipse.e4.ui.workbench.Selector;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.ToolBar;
+import org.eclipse.swt.widgets.ToolItem;
 
+/**
+ * Updates the enablement of tool items in batches. All items selected within
+ * a short delay are updated once, together. Items on tool bars
+ * that are not shown (hidden trim bars, minimized stacks) are skipped and
+ * updated when their tool bar is painted again.
+ */
 public class ToolItemUpdater implements Runnable {
 
 	private static int DELAY = 100;
+	private static long updateCount;
+	private static long skippedCount;
 	private long timestampOfEarliestQueuedUpdate = 0;
-	private List<AbstractContributionItem> itemsToCheck = new ArrayList<>();
+	private final Set<AbstractContributionItem> itemsToCheck = new LinkedHashSet<>();
 	private final List<AbstractContributionItem> orphanedToolItems = new ArrayList<>();
 	private final Set<AbstractContributionItem> itemsToUpdateLater = new LinkedHashSet<>();
+	private final Map<ToolBar, Set<AbstractContributionItem>> itemsToUpdateWhenShown = new HashMap<>();
+	private final Listener toolBarListener = this::handleToolBarEvent;
 
 	public ToolItemUpdater() {
 		String delayProperty = System.getProperty("ToolItemUpdaterDelayInMs"); //$NON-NLS-1$
@@ -36,34 +54,40 @@ public class ToolItemUpdater implements Runnable {
 		}
 	}
 
+	/**
+	 * @return the number of tool item enablement updates performed by all
+	 *         updaters
+	 */
+	public static long getUpdateCount() {
+		return updateCount;
+	}
+
+	/**
+	 * @return the number of tool item enablement updates all updaters skipped
+	 *         because the item was not shown
+	 */
+	public static long getSkippedCount() {
+		return skippedCount;
+	}
+
 	void registerItem(AbstractContributionItem item) {
-		if (!itemsToCheck.contains(item)) {
-			itemsToCheck.add(item);
-		}
+		itemsToCheck.add(item);
 	}
 
 	void removeItem(AbstractContributionItem item) {
 		itemsToCheck.remove(item);
+		for (Set<AbstractContributionItem> items : itemsToUpdateWhenShown.values()) {
+			items.remove(item);
+		}
 	}
 
 	public void updateContributionItems(Selector selector) {
-		boolean doRunNow = false;
+		boolean queued = false;
 		for (final AbstractContributionItem ci : itemsToCheck) {
 			if (ci.getModel() != null && ci.getModel().getParent() != null) {
 				if (selector.select(ci.getModel())) {
 					itemsToUpdateLater.add(ci);
-					if (timestampOfEarliestQueuedUpdate == 0) {
-						timestampOfEarliestQueuedUpdate = System.nanoTime();
-					}
-					if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
-						// runnable was not called within the last DELAY milliseconds, do it now.
-						// For scenario: a plugin is forcing that updateContributionItems is called
-						// again and again in less than given DELAY frequency. TimerExec would then
-						// never be executed.
-						doRunNow = true;
-					} else {
-						Display.getDefault().timerExec(DELAY, this);
-					}
+					queued = true;
 				}
 			} else {
 				orphanedToolItems.add(ci);
@@ -73,8 +97,20 @@ public class ToolItemUpdater implements Runnable {
 			itemsToCheck.removeAll(orphanedToolItems);
 			orphanedToolItems.clear();
 		}
-		if (doRunNow) {
+		if (!queued) {
+			return;
+		}
+		if (timestampOfEarliestQueuedUpdate == 0) {
+			timestampOfEarliestQueuedUpdate = System.nanoTime();
+		}
+		if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
+			// runnable was not called within the last DELAY milliseconds, do it now.
+			// For scenario: a plugin is forcing that updateContributionItems is called
+			// again and again in less than given DELAY frequency. TimerExec would then
+			// never be executed.
 			run();
+		} else {
+			Display.getDefault().timerExec(DELAY, this);
 		}
 	}
 
@@ -84,7 +120,55 @@ public class ToolItemUpdater implements Runnable {
 		AbstractContributionItem[] copy = itemsToUpdateLater.toArray(new AbstractContributionItem[] {});
 		itemsToUpdateLater.clear();
 		for (AbstractContributionItem it : copy) {
-			it.updateItemEnablement();
+			ToolBar hiddenToolBar = getHiddenToolBar(it.getModel());
+			if (hiddenToolBar != null) {
+				updateWhenShown(hiddenToolBar, it);
+				skippedCount++;
+			} else {
+				updateCount++;
+				it.updateItemEnablement();
+			}
+		}
+	}
+
+	/**
+	 * Returns the tool bar of the given item if it is not shown although its
+	 * shell is. Tool bars of shells that are not open yet are updated as
+	 * usual.
+	 */
+	private static ToolBar getHiddenToolBar(MItem item) {
+		Object widget = item == null ? null : item.getWidget();
+		if (!(widget instanceof ToolItem) || ((ToolItem) widget).isDisposed()) {
+			return null;
+		}
+		ToolBar toolBar = ((ToolItem) widget).getParent();
+		if (toolBar.isVisible() || !toolBar.getShell().isVisible()) {
+			return null;
+		}
+		return toolBar;
+	}
+
+	private void updateWhenShown(ToolBar toolBar, AbstractContributionItem item) {
+		Set<AbstractContributionItem> items = itemsToUpdateWhenShown.get(toolBar);
+		if (items == null) {
+			items = new LinkedHashSet<>();
+			itemsToUpdateWhenShown.put(toolBar, items);
+			toolBar.addListener(SWT.Paint, toolBarListener);
+			toolBar.addListener(SWT.Dispose, toolBarListener);
+		}
+		items.add(item);
+	}
+
+	private void handleToolBarEvent(Event event) {
+		ToolBar toolBar = (ToolBar) event.widget;
+		toolBar.removeListener(SWT.Paint, toolBarListener);
+		toolBar.removeListener(SWT.Dispose, toolBarListener);
+		Set<AbstractContributionItem> items = itemsToUpdateWhenShown.remove(toolBar);
+		if (event.type == SWT.Dispose || items == null || items.isEmpty()) {
+			return;
 		}
+		// don't change the items while the tool bar is painted
+		itemsToUpdateLater.addAll(items);
+		toolBar.getDisplay().asyncExec(this);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,7 @@ import org.eclipse.e4.ui.bindings.keys.KeyBindingDispatcher;
 import org.eclipse.e4.ui.css.core.util.impl.resources.OSGiResourceLocator;
 import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
 import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.css.swt.helpers.CSSSWTAppliedValueHelper;
 import org.eclipse.e4.ui.css.swt.helpers.EclipsePreferencesHelper;
 import org.eclipse.e4.ui.css.swt.theme.IThemeEngine;
 import org.eclipse.e4.ui.css.swt.theme.IThemeManager;
@@ -61,6 +62,7 @@ import org.eclipse.e4.ui.di.Focus;
 import org.eclipse.e4.ui.di.PersistState;
 import org.eclipse.e4.ui.internal.workbench.Activator;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.MContribution;
@@ -122,6 +124,10 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 	public static final String ENABLED_THEME_KEY = "themeEnabled";
 
+	private static final String CREATE_GUI_SPAN = "createGui"; //$NON-NLS-1$
+
+	private static final String APPLY_STYLES_SPAN = "applyStyles"; //$NON-NLS-1$
+
 	private String factoryUrl;
 
 	IRendererFactory curFactory = null;
@@ -541,7 +547,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 		final Object[] gui = { null };
 		// wrap the handling in a SafeRunner so that exceptions do not prevent
 		// the renderer from processing other elements
-		SafeRunner.run(new ISafeRunnable() {
+		ISafeRunnable runnable = new ISafeRunnable() {
 			@Override
 			public void handleException(Throwable e) {
 				if (e instanceof Error) {
@@ -559,7 +565,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 			public void run() throws Exception {
 				gui[0] = safeCreateGui(element, parentWidget, parentContext);
 			}
-		});
+		};
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_RENDERING, CREATE_GUI_SPAN, element.getElementId());
+		try {
+			SafeRunner.run(runnable);
+		} finally {
+			PerformanceTracing.end(CREATE_GUI_SPAN);
+		}
 		return gui[0];
 	}
 
@@ -727,7 +739,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 		final Object[] gui = { null };
 		// wrap the handling in a SafeRunner so that exceptions do not prevent
 		// the renderer from processing other elements
-		SafeRunner.run(new ISafeRunnable() {
+		ISafeRunnable runnable = new ISafeRunnable() {
 			@Override
 			public void handleException(Throwable e) {
 				if (e instanceof Error) {
@@ -745,7 +757,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 			public void run() throws Exception {
 				gui[0] = safeCreateGui(element);
 			}
-		});
+		};
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_RENDERING, CREATE_GUI_SPAN, element.getElementId());
+		try {
+			SafeRunner.run(runnable);
+		} finally {
+			PerformanceTracing.end(CREATE_GUI_SPAN);
+		}
 		return gui[0];
 	}
 
@@ -1268,6 +1286,49 @@ public class PartRenderingEngine implements IPresentationEngine {
 		}
 	}
 
+	/**
+	 * Applies the styles of the theme engine to the given widget and its
+	 * children, traced as a span.
+	 */
+	private static void applyStyles(IThemeEngine themeEngine, Object widget) {
+		long avoidedCalls = CSSSWTAppliedValueHelper.getAvoidedCallCount();
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_CSS, APPLY_STYLES_SPAN, null);
+		try {
+			themeEngine.applyStyles(widget, true);
+		} finally {
+			PerformanceTracing.end(APPLY_STYLES_SPAN);
+		}
+		traceAvoidedCalls(avoidedCalls);
+	}
+
+	/**
+	 * Applies the styles of the theme engine after the CSS class or id of the
+	 * given widget changed, traced as a span.
+	 */
+	private static void applyStylesOnChange(IThemeEngine themeEngine, Widget widget, String oldClassname,
+			String oldId) {
+		long avoidedCalls = CSSSWTAppliedValueHelper.getAvoidedCallCount();
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_CSS, APPLY_STYLES_SPAN, null);
+		try {
+			themeEngine.applyStylesOnChange(widget, oldClassname, oldId);
+		} finally {
+			PerformanceTracing.end(APPLY_STYLES_SPAN);
+		}
+		traceAvoidedCalls(avoidedCalls);
+	}
+
+	/**
+	 * Traces the number of SWT setter calls avoided by the CSS property
+	 * handlers since <code>avoidedCalls</code> was read, because the values
+	 * did not change.
+	 */
+	private static void traceAvoidedCalls(long avoidedCalls) {
+		if (Policy.DEBUG_RENDERER) {
+			WorkbenchSWTActivator.trace(Policy.DEBUG_RENDERER_FLAG, "Styles applied, avoided SWT setter calls: " //$NON-NLS-1$
+					+ (CSSSWTAppliedValueHelper.getAvoidedCallCount() - avoidedCalls), null);
+		}
+	}
+
 	public static void initializeStyling(Display display,
 			IEclipseContext appContext) {
 		String cssTheme = (String) appContext.get(E4Application.THEME_ID);
@@ -1318,19 +1379,23 @@ public class PartRenderingEngine implements IPresentationEngine {
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					themeEngine.applyStyles(widget, true);
+					Widget w = (Widget) widget;
+					String oldClassname = WidgetElement.getCSSClass(w);
+					WidgetElement.setCSSClass(w, classname);
+					applyStylesOnChange(themeEngine, w, oldClassname, WidgetElement.getID(w));
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
-					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					Widget w = (Widget) widget;
+					String oldId = WidgetElement.getID(w);
+					WidgetElement.setID(w, id);
+					applyStylesOnChange(themeEngine, w, WidgetElement.getCSSClass(w), oldId);
 				}
 
 				@Override
 				public void style(Object widget) {
-					themeEngine.applyStyles(widget, true);
+					applyStyles(themeEngine, widget);
 				}
 
 				@Override
@@ -1340,9 +1405,12 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 				@Override
 				public void setClassnameAndId(Object widget, String classname, String id) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					Widget w = (Widget) widget;
+					String oldClassname = WidgetElement.getCSSClass(w);
+					String oldId = WidgetElement.getID(w);
+					WidgetElement.setCSSClass(w, classname);
+					WidgetElement.setID(w, id);
+					applyStylesOnChange(themeEngine, w, oldClassname, oldId);
 				}
 			});
 
@@ -1361,14 +1429,18 @@ public class PartRenderingEngine implements IPresentationEngine {
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					cssEngine.applyStyles(widget, true);
+					Widget w = (Widget) widget;
+					String oldClassname = WidgetElement.getCSSClass(w);
+					WidgetElement.setCSSClass(w, classname);
+					cssEngine.applyStylesOnChange(w, oldClassname, WidgetElement.getID(w));
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
-					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					Widget w = (Widget) widget;
+					String oldId = WidgetElement.getID(w);
+					WidgetElement.setID(w, id);
+					cssEngine.applyStylesOnChange(w, WidgetElement.getCSSClass(w), oldId);
 				}
 
 				@Override
@@ -1387,9 +1459,12 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 				@Override
 				public void setClassnameAndId(Object widget, String classname, String id) {
-					WidgetElement.setCSSClass((Widget) widget, classname);
-					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					Widget w = (Widget) widget;
+					String oldClassname = WidgetElement.getCSSClass(w);
+					String oldId = WidgetElement.getID(w);
+					WidgetElement.setCSSClass(w, classname);
+					WidgetElement.setID(w, id);
+					cssEngine.applyStylesOnChange(w, oldClassname, oldId);
 				}
 			});
 
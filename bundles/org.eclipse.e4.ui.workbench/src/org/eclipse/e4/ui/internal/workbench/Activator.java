@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,9 @@ import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_WORKBENCH;
 import static org.eclipse.e4.ui.internal.workbench.Policy.DEBUG_WORKBENCH_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.Policy.TRACE;
 import static org.eclipse.e4.ui.internal.workbench.Policy.TRACE_FLAG;
+import static org.eclipse.e4.ui.internal.workbench.Policy.TRACE_SPANS;
+import static org.eclipse.e4.ui.internal.workbench.Policy.TRACE_SPANS_FILE_FLAG;
+import static org.eclipse.e4.ui.internal.workbench.Policy.TRACE_SPANS_FLAG;
 
 import java.util.Hashtable;
 import java.util.List;
@@ -71,6 +74,8 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 
 	private DebugTrace trace;
 
+	private EventTopicFilter eventTopicFilter;
+
 	/**
 	 * Get the default activator.
 	 *
@@ -96,6 +101,14 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 		return bundleFinder.findBundle(bundleName);
 	}
 
+	/**
+	 * @return the topics event handlers are registered for, or
+	 *         <code>null</code> if the bundle is not active
+	 */
+	EventTopicFilter getEventTopicFilter() {
+		return eventTopicFilter;
+	}
+
 	/**
 	 * @return this bundles context
 	 */
@@ -115,10 +128,20 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 		resolvedBundles = new BundleTracker<>(context, Bundle.RESOLVED
 				| Bundle.STARTING | Bundle.ACTIVE | Bundle.STOPPING, bundleFinder);
 		resolvedBundles.open();
+
+		eventTopicFilter = new EventTopicFilter(context);
+		eventTopicFilter.open();
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		if (TRACE_SPANS) {
+			PerformanceTracing.writeOutputFile();
+		}
+		if (eventTopicFilter != null) {
+			eventTopicFilter.close();
+			eventTopicFilter = null;
+		}
 		if (locationTracker != null) {
 			locationTracker.close();
 			locationTracker = null;
@@ -151,6 +174,8 @@ public class Activator implements BundleActivator, DebugOptionsListener {
 		DEBUG_MENUS = options.getBooleanOption(PI_WORKBENCH + DEBUG_MENUS_FLAG, false);
 		DEBUG_RENDERER = options.getBooleanOption(PI_WORKBENCH + DEBUG_RENDERER_FLAG, false);
 		DEBUG_WORKBENCH = options.getBooleanOption(PI_WORKBENCH + DEBUG_WORKBENCH_FLAG, false);
+		TRACE_SPANS = options.getBooleanOption(PI_WORKBENCH + TRACE_SPANS_FLAG, false);
+		PerformanceTracing.setOutputFile(options.getOption(PI_WORKBENCH + TRACE_SPANS_FILE_FLAG));
 	}
 
 	public DebugTrace getTrace() {
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+import org.osgi.util.tracker.ServiceTracker;
+import org.osgi.util.tracker.ServiceTrackerCustomizer;
+
+/**
+ * Tracks the topics of all registered {@link EventHandler} services, which
+ * includes every subscription made through the event broker, to tell whether
+ * an event sent on a topic would reach any handler at all.
+ * <p>
+ * The answer is conservative: it only considers the topics handlers are
+ * registered for, not their event filters.
+ * </p>
+ */
+final class EventTopicFilter implements ServiceTrackerCustomizer<EventHandler, AtomicReference<String[]>> {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+
+	private final ServiceTracker<EventHandler, AtomicReference<String[]>> tracker;
+
+	/** number of handlers by exact topic, guarded by <code>this</code> */
+	private final Map<String, Integer> topics = new HashMap<>();
+
+	/**
+	 * number of handlers by wildcard topic, without the trailing
+	 * <code>*</code>, guarded by <code>this</code>
+	 */
+	private final Map<String, Integer> prefixes = new HashMap<>();
+
+	/** answers by topic, cleared whenever a handler comes or goes */
+	private final Map<String, Boolean> cache = new ConcurrentHashMap<>();
+
+	EventTopicFilter(BundleContext context) {
+		this.tracker = new ServiceTracker<>(context, EventHandler.class, this);
+	}
+
+	void open() {
+		// the event admin delivers to handlers of every class space
+		tracker.open(true);
+	}
+
+	void close() {
+		tracker.close();
+	}
+
+	/**
+	 * @param topic
+	 *            the topic of an event
+	 * @return <code>false</code> if no handler is registered for the topic
+	 */
+	boolean hasHandlers(String topic) {
+		Boolean cached = cache.get(topic);
+		if (cached != null) {
+			return cached.booleanValue();
+		}
+		synchronized (this) {
+			boolean result = computeHasHandlers(topic);
+			cache.put(topic, Boolean.valueOf(result));
+			return result;
+		}
+	}
+
+	private boolean computeHasHandlers(String topic) {
+		if (topics.containsKey(topic) || prefixes.containsKey("")) { //$NON-NLS-1$
+			return true;
+		}
+		for (int i = topic.indexOf('/'); i >= 0; i = topic.indexOf('/', i + 1)) {
+			if (prefixes.containsKey(topic.substring(0, i + 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public AtomicReference<String[]> addingService(ServiceReference<EventHandler> reference) {
+		String[] handlerTopics = getTopics(reference.getProperty(EventConstants.EVENT_TOPIC));
+		update(handlerTopics, 1);
+		return new AtomicReference<>(handlerTopics);
+	}
+
+	@Override
+	public synchronized void modifiedService(ServiceReference<EventHandler> reference,
+			AtomicReference<String[]> service) {
+		String[] handlerTopics = getTopics(reference.getProperty(EventConstants.EVENT_TOPIC));
+		update(service.getAndSet(handlerTopics), -1);
+		update(handlerTopics, 1);
+	}
+
+	@Override
+	public void removedService(ServiceReference<EventHandler> reference, AtomicReference<String[]> service) {
+		update(service.get(), -1);
+	}
+
+	private synchronized void update(String[] handlerTopics, int delta) {
+		for (String topic : handlerTopics) {
+			if (topic.equals(WILDCARD)) {
+				count(prefixes, "", delta); //$NON-NLS-1$
+			} else if (topic.endsWith("/" + WILDCARD)) { //$NON-NLS-1$
+				count(prefixes, topic.substring(0, topic.length() - 1), delta);
+			} else {
+				count(topics, topic, delta);
+			}
+		}
+		cache.clear();
+	}
+
+	private static void count(Map<String, Integer> counts, String key, int delta) {
+		Integer count = counts.get(key);
+		int newCount = (count == null ? 0 : count.intValue()) + delta;
+		if (newCount <= 0) {
+			counts.remove(key);
+		} else {
+			counts.put(key, Integer.valueOf(newCount));
+		}
+	}
+
+	private static String[] getTopics(Object property) {
+		if (property instanceof String) {
+			return new String[] { (String) property };
+		}
+		if (property instanceof String[]) {
+			return ((String[]) property).clone();
+		}
+		if (property instanceof Collection<?>) {
+			Collection<?> collection = (Collection<?>) property;
+			String[] result = new String[collection.size()];
+			int i = 0;
+			for (Object topic : collection) {
+				result[i++] = String.valueOf(topic);
+			}
+			return result;
+		}
+		return new String[0];
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2018 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,15 +102,20 @@ public class ModelAssembler {
 	 * @param initial <code>true</code> if running from a non-persisted state
 	 */
 	public void processModel(boolean initial) {
-		IExtensionPoint extPoint = registry.getExtensionPoint(EXTENSION_POINT_ID);
-		IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
-
-		// run processors which are marked to run before fragments
-		runProcessors(extensions, initial, false);
-		// process fragments (and resolve imports)
-		processFragments(extensions, initial);
-		// run processors which are marked to run after fragments
-		runProcessors(extensions, initial, true);
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_MODEL, "processModel", null); //$NON-NLS-1$
+		try {
+			IExtensionPoint extPoint = registry.getExtensionPoint(EXTENSION_POINT_ID);
+			IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
+
+			// run processors which are marked to run before fragments
+			runProcessors(extensions, initial, false);
+			// process fragments (and resolve imports)
+			processFragments(extensions, initial);
+			// run processors which are marked to run after fragments
+			runProcessors(extensions, initial, true);
+		} finally {
+			PerformanceTracing.end("processModel"); //$NON-NLS-1$
+		}
 	}
 
 	/**
@@ -0,0 +1,402 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.osgi.service.log.LogService;
+
+/**
+ * Records nested spans of workbench activity, like rendering, styling, handler
+ * execution or model assembly, and exports them in the Chrome trace event
+ * format. The exported file can be loaded in <code>chrome://tracing</code> or
+ * similar timeline viewers.
+ * <p>
+ * Tracing is enabled with the <code>org.eclipse.e4.ui.workbench/trace/spans</code>
+ * debug option. If <code>org.eclipse.e4.ui.workbench/trace/spans.file</code>
+ * is set too, the spans are written to that file when the workbench bundle
+ * stops. When tracing is disabled, {@link #begin(String, String, String)} and
+ * {@link #end(String)} return immediately without allocating.
+ * </p>
+ * <p>
+ * Each thread records into its own ring buffer, keeping only its most recent
+ * spans. The buffers start small and grow with the spans recorded. The buffer
+ * of a thread that ended is dropped once its spans have been written or reset.
+ * Spans must be ended on the thread that began them.
+ * </p>
+ */
+public final class PerformanceTracing {
+
+	/** Category of spans of the rendering engine */
+	public static final String CATEGORY_RENDERING = "rendering"; //$NON-NLS-1$
+	/** Category of spans of CSS styling */
+	public static final String CATEGORY_CSS = "css"; //$NON-NLS-1$
+	/** Category of spans of command and handler execution */
+	public static final String CATEGORY_COMMANDS = "commands"; //$NON-NLS-1$
+	/** Category of spans of the model assembly */
+	public static final String CATEGORY_MODEL = "model"; //$NON-NLS-1$
+	/** Category of spans of key binding lookups */
+	public static final String CATEGORY_BINDINGS = "bindings"; //$NON-NLS-1$
+	/** Category of spans of the workbench and its parts */
+	public static final String CATEGORY_WORKBENCH = "workbench"; //$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 16384;
+
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
+	private static final int MAX_DEPTH = 128;
+
+	private static final long ORIGIN = System.nanoTime();
+
+	private static final List<SpanBuffer> buffers = new CopyOnWriteArrayList<>();
+
+	private static final ThreadLocal<SpanBuffer> threadBuffer = new ThreadLocal<>();
+
+	private static volatile String outputFile;
+
+	private PerformanceTracing() {
+	}
+
+	/**
+	 * @return <code>true</code> if spans are recorded
+	 */
+	public static boolean isEnabled() {
+		return Policy.TRACE_SPANS;
+	}
+
+	/**
+	 * Begins a span on the current thread.
+	 *
+	 * @param category
+	 *            the category of the span, one of the <code>CATEGORY_*</code>
+	 *            constants
+	 * @param name
+	 *            the name of the span
+	 * @param detail
+	 *            additional information shown with the span, like an element
+	 *            id. May be <code>null</code>.
+	 */
+	public static void begin(String category, String name, String detail) {
+		if (!Policy.TRACE_SPANS) {
+			return;
+		}
+		getBuffer().begin(category, name, detail, System.nanoTime());
+	}
+
+	/**
+	 * Ends the innermost span with the given name on the current thread. Spans
+	 * begun after it and not ended yet are ended too.
+	 *
+	 * @param name
+	 *            the name the span was begun with
+	 */
+	public static void end(String name) {
+		if (!Policy.TRACE_SPANS) {
+			return;
+		}
+		SpanBuffer buffer = threadBuffer.get();
+		if (buffer != null) {
+			buffer.end(name, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Discards all recorded spans.
+	 */
+	public static void reset() {
+		for (SpanBuffer buffer : buffers) {
+			buffer.reset();
+		}
+		removeEndedThreads();
+	}
+
+	static void setOutputFile(String file) {
+		outputFile = file == null || file.isEmpty() ? null : file;
+	}
+
+	/**
+	 * Writes the recorded spans to the file given by the
+	 * <code>trace/spans.file</code> debug option, if any.
+	 */
+	static void writeOutputFile() {
+		String file = outputFile;
+		if (file == null || buffers.isEmpty()) {
+			return;
+		}
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(new File(file)), StandardCharsets.UTF_8)) {
+			writeChromeTrace(writer);
+		} catch (IOException e) {
+			Activator.log(LogService.LOG_ERROR, "Failed to write span trace to " + file); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes the recorded spans of all threads as a Chrome trace event JSON
+	 * object. Spans still open are written as begin events.
+	 *
+	 * @param writer
+	 *            the writer, not closed by this method
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public static void writeChromeTrace(Writer writer) throws IOException {
+		StringBuilder json = new StringBuilder(1024);
+		json.append("{\"traceEvents\":["); //$NON-NLS-1$
+		boolean first = true;
+		for (SpanBuffer buffer : buffers) {
+			first = buffer.write(json, first);
+			writer.write(json.toString());
+			json.setLength(0);
+		}
+		json.append("],\"displayTimeUnit\":\"ms\"}"); //$NON-NLS-1$
+		writer.write(json.toString());
+		writer.flush();
+		removeEndedThreads();
+	}
+
+	/**
+	 * Drops the buffers of the threads that ended, their spans have been
+	 * drained.
+	 */
+	private static void removeEndedThreads() {
+		buffers.removeIf(buffer -> !buffer.isThreadAlive());
+	}
+
+	private static SpanBuffer getBuffer() {
+		SpanBuffer buffer = threadBuffer.get();
+		if (buffer == null) {
+			buffer = new SpanBuffer(Thread.currentThread());
+			threadBuffer.set(buffer);
+			buffers.add(buffer);
+		}
+		return buffer;
+	}
+
+	/**
+	 * The completed spans of a thread. Replaced by a larger ring until it has
+	 * {@link PerformanceTracing#BUFFER_SIZE} slots.
+	 */
+	private static final class Ring {
+		final String[] categories;
+		final String[] names;
+		final String[] details;
+		final long[] starts;
+		final long[] durations;
+
+		Ring(int size) {
+			categories = new String[size];
+			names = new String[size];
+			details = new String[size];
+			starts = new long[size];
+			durations = new long[size];
+		}
+
+		int size() {
+			return names.length;
+		}
+
+		Ring grow(int used) {
+			Ring ring = new Ring(Math.min(size() * 2, BUFFER_SIZE));
+			System.arraycopy(categories, 0, ring.categories, 0, used);
+			System.arraycopy(names, 0, ring.names, 0, used);
+			System.arraycopy(details, 0, ring.details, 0, used);
+			System.arraycopy(starts, 0, ring.starts, 0, used);
+			System.arraycopy(durations, 0, ring.durations, 0, used);
+			return ring;
+		}
+	}
+
+	/**
+	 * The spans of one thread: a stack of open spans and a ring of completed
+	 * ones. Only the owning thread writes; exports from other threads may miss
+	 * or mix up spans completed concurrently.
+	 */
+	private static final class SpanBuffer {
+		/** held weakly, the buffer must not keep an ended thread alive */
+		private final WeakReference<Thread> thread;
+		private final long threadId;
+		private final String threadName;
+
+		private final String[] openCategories = new String[MAX_DEPTH];
+		private final String[] openNames = new String[MAX_DEPTH];
+		private final String[] openDetails = new String[MAX_DEPTH];
+		private final long[] openStarts = new long[MAX_DEPTH];
+		private int depth;
+		/** spans begun beyond MAX_DEPTH, ignored */
+		private int overflow;
+
+		private volatile Ring ring = new Ring(INITIAL_BUFFER_SIZE);
+		private volatile long count;
+
+		SpanBuffer(Thread thread) {
+			this.thread = new WeakReference<>(thread);
+			this.threadId = thread.getId();
+			this.threadName = thread.getName();
+		}
+
+		boolean isThreadAlive() {
+			Thread owner = thread.get();
+			return owner != null && owner.isAlive();
+		}
+
+		void begin(String category, String name, String detail, long time) {
+			if (depth == MAX_DEPTH) {
+				overflow++;
+				return;
+			}
+			openCategories[depth] = category;
+			openNames[depth] = name;
+			openDetails[depth] = detail;
+			openStarts[depth] = time;
+			depth++;
+		}
+
+		void end(String name, long time) {
+			if (overflow > 0) {
+				overflow--;
+				return;
+			}
+			int index = depth - 1;
+			while (index >= 0 && !openNames[index].equals(name)) {
+				index--;
+			}
+			if (index < 0) {
+				// begun before tracing was enabled
+				return;
+			}
+			while (depth > index) {
+				depth--;
+				Ring current = ring;
+				if (count == current.size() && current.size() < BUFFER_SIZE) {
+					current = current.grow((int) count);
+					ring = current;
+				}
+				int slot = (int) (count % current.size());
+				current.categories[slot] = openCategories[depth];
+				current.names[slot] = openNames[depth];
+				current.details[slot] = openDetails[depth];
+				current.starts[slot] = openStarts[depth];
+				current.durations[slot] = time - openStarts[depth];
+				openCategories[depth] = null;
+				openNames[depth] = null;
+				openDetails[depth] = null;
+				count++;
+			}
+		}
+
+		void reset() {
+			count = 0;
+		}
+
+		boolean write(StringBuilder json, boolean first) {
+			if (!first) {
+				json.append(',');
+			}
+			json.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(threadId); //$NON-NLS-1$
+			json.append(",\"args\":{\"name\":"); //$NON-NLS-1$
+			appendString(json, threadName);
+			json.append("}}"); //$NON-NLS-1$
+			long end = count;
+			Ring current = ring;
+			int size = current.size();
+			for (long i = Math.max(0, end - size); i < end; i++) {
+				int slot = (int) (i % size);
+				appendEvent(json, 'X', current.categories[slot], current.names[slot], current.details[slot],
+						current.starts[slot], current.durations[slot]);
+			}
+			int open = depth;
+			for (int i = 0; i < open; i++) {
+				appendEvent(json, 'B', openCategories[i], openNames[i], openDetails[i], openStarts[i], -1);
+			}
+			return false;
+		}
+
+		private void appendEvent(StringBuilder json, char phase, String category, String name, String detail,
+				long start, long duration) {
+			if (name == null) {
+				return;
+			}
+			json.append(",\n{\"name\":"); //$NON-NLS-1$
+			appendString(json, name);
+			json.append(",\"cat\":"); //$NON-NLS-1$
+			appendString(json, category);
+			json.append(",\"ph\":\"").append(phase).append('"');
+			json.append(",\"ts\":"); //$NON-NLS-1$
+			appendMicros(json, start - ORIGIN);
+			if (duration >= 0) {
+				json.append(",\"dur\":"); //$NON-NLS-1$
+				appendMicros(json, duration);
+			}
+			json.append(",\"pid\":1,\"tid\":").append(threadId); //$NON-NLS-1$
+			if (detail != null) {
+				json.append(",\"args\":{\"detail\":"); //$NON-NLS-1$
+				appendString(json, detail);
+				json.append('}');
+			}
+			json.append('}');
+		}
+	}
+
+	private static void appendMicros(StringBuilder json, long nanos) {
+		json.append(nanos / 1000).append('.');
+		long fraction = Math.abs(nanos % 1000);
+		if (fraction < 100) {
+			json.append('0');
+		}
+		if (fraction < 10) {
+			json.append('0');
+		}
+		json.append(fraction);
+	}
+
+	private static void appendString(StringBuilder json, String text) {
+		json.append('"');
+		if (text != null) {
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				switch (c) {
+				case '"':
+					json.append("\\\""); //$NON-NLS-1$
+					break;
+				case '\\':
+					json.append("\\\\"); //$NON-NLS-1$
+					break;
+				case '\n':
+					json.append("\\n"); //$NON-NLS-1$
+					break;
+				case '\r':
+					json.append("\\r"); //$NON-NLS-1$
+					break;
+				case '\t':
+					json.append("\\t"); //$NON-NLS-1$
+					break;
+				default:
+					if (c < 0x20) {
+						json.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+					} else {
+						json.append(c);
+					}
+				}
+			}
+		}
+		json.append('"');
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,8 @@ public class Policy {
 	public static final String DEBUG_CONTEXTS_VERBOSE_FLAG = "/trace/eclipse.context.verbose"; //$NON-NLS-1$
 	public static final String DEBUG_WORKBENCH_FLAG = "/trace/workbench"; //$NON-NLS-1$
 	public static final String DEBUG_RENDERER_FLAG = "/trace/renderer"; //$NON-NLS-1$
+	public static final String TRACE_SPANS_FLAG = "/trace/spans"; //$NON-NLS-1$
+	public static final String TRACE_SPANS_FILE_FLAG = "/trace/spans.file"; //$NON-NLS-1$
 
 	/***/
 	public static boolean DEBUG;
@@ -47,4 +49,6 @@ public class Policy {
 	public static boolean DEBUG_WORKBENCH;
 	/***/
 	public static boolean DEBUG_RENDERER;
+	/** Whether {@link PerformanceTracing} records spans */
+	public static boolean TRACE_SPANS;
 }
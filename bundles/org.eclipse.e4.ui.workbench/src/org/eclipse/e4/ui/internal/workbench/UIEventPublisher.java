@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.e4.ui.internal.workbench;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
@@ -36,8 +37,16 @@ import org.osgi.service.log.LogService;
  */
 public class UIEventPublisher extends EContentAdapter {
 
+	private static final String APPLICATION_ELEMENT_TOPIC_BASE = "org/eclipse/e4/ui/model/application/ApplicationElement/"; //$NON-NLS-1$
+
 	private IEclipseContext context;
 
+	/**
+	 * The topics of the features of the model, indexed by the type of the
+	 * notification
+	 */
+	private final Map<EStructuralFeature, String[]> topics = new ConcurrentHashMap<>();
+
 	/**
 	 * @param e4Context
 	 */
@@ -53,15 +62,42 @@ public class UIEventPublisher extends EContentAdapter {
 		if (notification.isTouch())
 			return;
 
+		String topic = getTopic(notification);
+		if (topic == null) {
+			return;
+		}
+
+		// Bulk changes like a perspective reset notify for every element and
+		// feature, most of them without subscribers
+		Activator activator = Activator.getDefault();
+		EventTopicFilter filter = activator == null ? null : activator.getEventTopicFilter();
+		if (filter != null && !filter.hasHandlers(topic)) {
+			return;
+		}
+
 		// Format the EMF event as an E4 UIEvent
 		Map<String, Object> argMap = new HashMap<>();
+		formatData(notification, argMap);
 
-		String topic = formatData(notification, argMap);
+		IEventBroker eventManager = context.get(IEventBroker.class);
+		eventManager.send(topic, argMap);
+	}
 
-		if (topic != null) {
-			IEventBroker eventManager = context.get(IEventBroker.class);
-			eventManager.send(topic, argMap);
+	/**
+	 * @return the topic of the event for the notification, or <code>null</code>
+	 *         if no event is published for it
+	 */
+	private String getTopic(Notification notification) {
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof MApplicationElement) {
+			return getTopic((EStructuralFeature) notification.getFeature(), notification.getEventType());
+		} else if (notifier instanceof StringToObjectMapImpl) {
+			return getTopic(UIEvents.ApplicationElement.TRANSIENTDATA, getEventType(notification));
+		} else if (notifier instanceof StringToStringMapImpl) {
+			return getTopic(UIEvents.ApplicationElement.PERSISTEDSTATE, getEventType(notification));
 		}
+		// Unhandled notification type. Ignore event
+		return null;
 	}
 
 	/**
@@ -102,11 +138,10 @@ public class UIEventPublisher extends EContentAdapter {
 	 * Likely there is some "simple" EMF wisdom we are missing to make this work with a couple of
 	 * annotations, a white swan and a full moon.
 	 */
-	private String formatData(final Notification notification, Map<String, Object> argMap) {
+	private void formatData(final Notification notification, Map<String, Object> argMap) {
 		MApplicationElement appElement = null;
 		EStructuralFeature feature = null;
 		String attributeName = null;
-		String topic = null;
 
 		Object notifier = notification.getNotifier();
 		Object oldValue = null;
@@ -118,7 +153,6 @@ public class UIEventPublisher extends EContentAdapter {
 			appElement = (MApplicationElement) notifier;
 			feature = (EStructuralFeature) notification.getFeature();
 			attributeName = feature.getName();
-			topic = getTopic(feature, getEventType(notification));
 			switch (notification.getEventType()) {
 			case Notification.MOVE:
 				// for MOVE, oldValue is actually the source position
@@ -168,7 +202,6 @@ public class UIEventPublisher extends EContentAdapter {
 			}
 
 			attributeName = UIEvents.ApplicationElement.TRANSIENTDATA;
-			topic = getTopic(attributeName, getEventType(notification));
 
 			// We need to send MapEntries for the old and new values.
 			oldValue = createMapEntry(key, notification.getOldValue());
@@ -191,12 +224,10 @@ public class UIEventPublisher extends EContentAdapter {
 			}
 
 			attributeName = UIEvents.ApplicationElement.PERSISTEDSTATE;
-			topic = getTopic(attributeName, getEventType(notification));
 			oldValue = createMapEntry(key, notification.getOldValue());
 			newValue = createMapEntry(key, notification.getNewValue());
 		} else {
-			// Unhandled notification type. Ignore event
-			return null;
+			return;
 		}
 
 		argMap.put(EventTags.TYPE, getEventType(notification));
@@ -224,12 +255,14 @@ public class UIEventPublisher extends EContentAdapter {
 		if (appElement instanceof MUIElement) {
 			argMap.put(EventTags.WIDGET, ((MUIElement) appElement).getWidget());
 		}
-
-		return topic;
 	}
 
 	private String getEventType(Notification notification) {
-		switch (notification.getEventType()) {
+		return getEventType(notification.getEventType());
+	}
+
+	private String getEventType(int eventType) {
+		switch (eventType) {
 		case Notification.ADD:
 			return EventTypes.ADD;
 
@@ -272,6 +305,23 @@ public class UIEventPublisher extends EContentAdapter {
 		};
 	}
 
+	private String getTopic(EStructuralFeature eFeature, int eventType) {
+		String[] featureTopics = topics.get(eFeature);
+		if (featureTopics == null) {
+			featureTopics = new String[Notification.MOVE + 1];
+			topics.put(eFeature, featureTopics);
+		}
+		if (eventType < 0 || eventType >= featureTopics.length) {
+			return getTopic(eFeature, "UNKNOWN"); //$NON-NLS-1$
+		}
+		String topic = featureTopics[eventType];
+		if (topic == null) {
+			topic = getTopic(eFeature, getEventType(eventType));
+			featureTopics[eventType] = topic;
+		}
+		return topic;
+	}
+
 	private String getTopic(EStructuralFeature eFeature, String type) {
 		EClass eContainingClass = eFeature.getEContainingClass();
 		return UIEvents.UIModelTopicBase + UIEvents.TOPIC_SEP
@@ -281,7 +331,6 @@ public class UIEventPublisher extends EContentAdapter {
 	}
 
 	private String getTopic(String attributeName, String type) {
-		String topicBase = "org/eclipse/e4/ui/model/application/ApplicationElement/"; //$NON-NLS-1$
-		return topicBase + attributeName + UIEvents.TOPIC_SEP + type;
+		return APPLICATION_ELEMENT_TOPIC_BASE + attributeName + UIEvents.TOPIC_SEP + type;
 	}
 }
@@ -0,0 +1,613 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * A cache of decoded images that is kept on disk across sessions, so images
+ * read from bundles and files do not have to be decoded again on every start.
+ * <p>
+ * The images are stored one after the other in a single file, preceded by an
+ * index of their keys and positions. The file is mapped into memory when the
+ * cache is opened, and images are copied out of it when they are requested.
+ * Images decoded in the session are appended to a session file as they are
+ * added, so only their positions are kept in memory. When the cache is closed,
+ * a new file is written with the images used in the session first and the
+ * remaining ones up to the size limit.
+ * </p>
+ * <p>
+ * An image is identified by its URL, the zoom it was requested for and the
+ * version and modification time of the bundle or file it is read from, so an
+ * updated bundle or file is decoded again. Images of other kinds of URLs are not
+ * cached.
+ * </p>
+ * <p>
+ * The cache may be used from any thread. Images are encoded and decoded
+ * outside of its lock.
+ * </p>
+ */
+public final class ImageDataCache {
+
+	private static final int MAGIC = 0x4a494443; // "JIDC"
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String FILE_PREFIX = "images."; //$NON-NLS-1$
+
+	private static final String FILE_SUFFIX = ".cache"; //$NON-NLS-1$
+
+	private static final String TEMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+	private static final String SESSION_FILE = "images.session" + TEMP_SUFFIX; //$NON-NLS-1$
+
+	/** guards the state of the cache */
+	private static final Object lock = new Object();
+
+	private static File directory;
+
+	private static long maxSize;
+
+	private static int generation;
+
+	/** the file of the previous session, <code>null</code> if there is none */
+	private static MappedByteBuffer mapped;
+
+	/** position and length of the images in the mapped file, by key */
+	private static Map<String, long[]> index = new HashMap<>();
+
+	/**
+	 * the file the images decoded in this session are appended to,
+	 * <code>null</code> until the first one is added
+	 */
+	private static FileChannel session;
+
+	/** position and length of the images in the session file, by key */
+	private static Map<String, long[]> added = new HashMap<>();
+
+	private static long addedSize;
+
+	/** the keys of the images read or added in this session, in order */
+	private static Set<String> used = new LinkedHashSet<>();
+
+	private static final AtomicInteger hits = new AtomicInteger();
+
+	private static final AtomicInteger misses = new AtomicInteger();
+
+	private ImageDataCache() {
+		// prevents instantiation
+	}
+
+	/**
+	 * Opens the cache, reading the images stored by the previous session.
+	 *
+	 * @param cacheDirectory
+	 *            the directory to store the cache in
+	 * @param cacheMaxSize
+	 *            the maximum size of the cache file in bytes
+	 */
+	public static void open(File cacheDirectory, long cacheMaxSize) {
+		synchronized (lock) {
+			if (directory != null) {
+				return;
+			}
+			directory = cacheDirectory;
+			maxSize = cacheMaxSize;
+			hits.set(0);
+			misses.set(0);
+			File[] files = cacheDirectory.listFiles();
+			File latest = null;
+			if (files != null) {
+				for (File file : files) {
+					int fileGeneration = getGeneration(file);
+					if (fileGeneration > generation) {
+						generation = fileGeneration;
+						latest = file;
+					}
+				}
+				for (File file : files) {
+					if (file != latest && (getGeneration(file) >= 0 || file.getName().endsWith(TEMP_SUFFIX))) {
+						// a file of an older session, still mapped back then on
+						// some platforms, or an incomplete one
+						file.delete();
+					}
+				}
+			}
+			if (latest != null) {
+				try {
+					readIndex(latest);
+				} catch (IOException | RuntimeException e) {
+					// a damaged file is replaced when the cache is closed
+					mapped = null;
+					index.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Closes the cache, writing the images decoded in this session to disk.
+	 */
+	public static void close() {
+		synchronized (lock) {
+			if (directory == null) {
+				return;
+			}
+			if (!added.isEmpty()) {
+				try {
+					write();
+				} catch (IOException e) {
+					Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE, "Could not write image cache", e)); //$NON-NLS-1$
+				}
+			}
+			if (session != null) {
+				try {
+					session.close();
+				} catch (IOException e) {
+					// deleted anyway
+				}
+				new File(directory, SESSION_FILE).delete();
+			}
+			directory = null;
+			mapped = null;
+			index = new HashMap<>();
+			session = null;
+			added = new HashMap<>();
+			addedSize = 0;
+			used = new LinkedHashSet<>();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the cache is open
+	 */
+	public static boolean isOpen() {
+		synchronized (lock) {
+			return directory != null;
+		}
+	}
+
+	/**
+	 * @return the directory of the open cache, or <code>null</code> if it is
+	 *         closed
+	 */
+	public static File getDirectory() {
+		synchronized (lock) {
+			return directory;
+		}
+	}
+
+	/**
+	 * @return the maximum size of the cache file in bytes
+	 */
+	public static long getMaxSize() {
+		synchronized (lock) {
+			return maxSize;
+		}
+	}
+
+	/**
+	 * Returns the key of an image.
+	 *
+	 * @param url
+	 *            the URL the image is read from, after resolving
+	 *            <code>platform:</code> URLs
+	 * @param zoom
+	 *            the zoom the image is requested for
+	 * @return the key, or <code>null</code> if the cache is closed or images
+	 *         from the URL cannot be cached
+	 */
+	public static String getKey(URL url, int zoom) {
+		if (!isOpen()) {
+			return null;
+		}
+		String version = getVersion(url);
+		if (version == null) {
+			return null;
+		}
+		return url.toExternalForm() + '|' + zoom + '|' + version;
+	}
+
+	/**
+	 * Returns a copy of a cached image.
+	 *
+	 * @param key
+	 *            the key of the image
+	 * @return the image, or <code>null</code> if it is not cached
+	 */
+	public static ImageData get(String key) {
+		ByteBuffer buffer = null;
+		long[] entry;
+		FileChannel channel;
+		synchronized (lock) {
+			if (directory == null) {
+				return null;
+			}
+			entry = added.get(key);
+			channel = session;
+			if (entry == null) {
+				entry = index.get(key);
+				if (entry != null) {
+					buffer = mapped.duplicate();
+					buffer.position((int) entry[0]);
+					buffer.limit((int) (entry[0] + entry[1]));
+					buffer = buffer.slice();
+					used.add(key);
+				}
+			}
+		}
+		if (entry == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		try {
+			if (buffer == null) {
+				buffer = ByteBuffer.allocate((int) entry[1]);
+				read(channel, buffer, entry[0]);
+				buffer.flip();
+			}
+			ImageData data = decode(buffer);
+			hits.incrementAndGet();
+			return data;
+		} catch (IOException | RuntimeException e) {
+			// the file was modified or closed meanwhile, decode the image again
+			synchronized (lock) {
+				index.remove(key);
+			}
+			misses.incrementAndGet();
+			return null;
+		}
+	}
+
+	/**
+	 * Adds a decoded image to the cache.
+	 *
+	 * @param key
+	 *            the key of the image
+	 * @param data
+	 *            the image
+	 */
+	public static void put(String key, ImageData data) {
+		synchronized (lock) {
+			if (!canAdd(key)) {
+				return;
+			}
+		}
+		byte[] bytes = encode(data);
+		synchronized (lock) {
+			if (!canAdd(key)) {
+				return;
+			}
+			try {
+				if (session == null) {
+					if (!directory.isDirectory() && !directory.mkdirs()) {
+						throw new IOException("Could not create " + directory); //$NON-NLS-1$
+					}
+					session = FileChannel.open(new File(directory, SESSION_FILE).toPath(), StandardOpenOption.CREATE,
+							StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				}
+				ByteBuffer buffer = ByteBuffer.wrap(bytes);
+				while (buffer.hasRemaining()) {
+					session.write(buffer, addedSize + buffer.position());
+				}
+			} catch (IOException e) {
+				Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE, "Could not write image cache", e)); //$NON-NLS-1$
+				// stop adding images
+				addedSize = maxSize;
+				return;
+			}
+			added.put(key, new long[] { addedSize, bytes.length });
+			addedSize += bytes.length;
+			used.add(key);
+		}
+	}
+
+	private static boolean canAdd(String key) {
+		return directory != null && !added.containsKey(key) && addedSize < maxSize;
+	}
+
+	/**
+	 * @return the number of images read from the cache since it was opened
+	 */
+	public static int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of images not found in the cache since it was opened
+	 */
+	public static int getMisses() {
+		return misses.get();
+	}
+
+	private static int getGeneration(File file) {
+		String name = file.getName();
+		if (!name.startsWith(FILE_PREFIX) || !name.endsWith(FILE_SUFFIX)) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static void readIndex(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		try {
+			if (mapped.getInt() != MAGIC || mapped.getInt() != FORMAT_VERSION) {
+				throw new IOException("Unknown image cache format: " + file); //$NON-NLS-1$
+			}
+			int count = mapped.getInt();
+			for (int i = 0; i < count; i++) {
+				int keyLength = mapped.getInt();
+				if (keyLength < 0 || keyLength > mapped.remaining()) {
+					throw new IOException("Damaged image cache: " + file); //$NON-NLS-1$
+				}
+				byte[] key = new byte[keyLength];
+				mapped.get(key);
+				long position = mapped.getInt();
+				long length = mapped.getInt();
+				if (position < 0 || length < 0 || position + length > mapped.capacity()) {
+					throw new IOException("Truncated image cache: " + file); //$NON-NLS-1$
+				}
+				index.put(new String(key, StandardCharsets.UTF_8), new long[] { position, length });
+			}
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Truncated image cache: " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	private static void read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Truncated image cache"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static void write() throws IOException {
+		// the images used in this session first, then the others
+		List<String> keys = new ArrayList<>();
+		// 1 if in the session file, 0 if in the mapped one, position, length
+		List<long[]> entries = new ArrayList<>();
+		long size = 0;
+		int indexSize = 12;
+		Set<String> candidates = new LinkedHashSet<>(used);
+		candidates.addAll(index.keySet());
+		for (String key : candidates) {
+			long[] entry = added.get(key);
+			boolean inSession = entry != null;
+			if (entry == null) {
+				entry = index.get(key);
+				if (entry == null) {
+					continue;
+				}
+			}
+			if (size + entry[1] > maxSize) {
+				break;
+			}
+			keys.add(key);
+			entries.add(new long[] { inSession ? 1 : 0, entry[0], entry[1] });
+			size += entry[1];
+			indexSize += 12 + key.getBytes(StandardCharsets.UTF_8).length;
+		}
+
+		ByteArrayOutputStream indexBytes = new ByteArrayOutputStream(indexSize);
+		DataOutputStream indexOut = new DataOutputStream(indexBytes);
+		indexOut.writeInt(MAGIC);
+		indexOut.writeInt(FORMAT_VERSION);
+		indexOut.writeInt(keys.size());
+		long position = indexSize;
+		for (int i = 0; i < keys.size(); i++) {
+			byte[] key = keys.get(i).getBytes(StandardCharsets.UTF_8);
+			long length = entries.get(i)[2];
+			indexOut.writeInt(key.length);
+			indexOut.write(key);
+			indexOut.writeInt((int) position);
+			indexOut.writeInt((int) length);
+			position += length;
+		}
+
+		// a new file, the previous one may still be mapped
+		File file = new File(directory, FILE_PREFIX + (generation + 1) + FILE_SUFFIX);
+		File temp = new File(directory, file.getName() + TEMP_SUFFIX);
+		try (FileOutputStream out = new FileOutputStream(temp)) {
+			indexBytes.writeTo(out);
+			FileChannel channel = out.getChannel();
+			for (long[] entry : entries) {
+				if (entry[0] != 0) {
+					long written = 0;
+					while (written < entry[2]) {
+						written += session.transferTo(entry[1] + written, entry[2] - written, channel);
+					}
+				} else {
+					ByteBuffer buffer = mapped.duplicate();
+					buffer.position((int) entry[1]);
+					buffer.limit((int) (entry[1] + entry[2]));
+					while (buffer.hasRemaining()) {
+						channel.write(buffer);
+					}
+				}
+			}
+		}
+		if (!temp.renameTo(file)) {
+			temp.delete();
+			throw new IOException("Could not write " + file); //$NON-NLS-1$
+		}
+	}
+
+	private static String getVersion(URL url) {
+		String protocol = url.getProtocol();
+		if ("file".equalsIgnoreCase(protocol)) { //$NON-NLS-1$
+			File file = new File(url.getPath());
+			long modified = file.lastModified();
+			return modified == 0 ? null : modified + ":" + file.length(); //$NON-NLS-1$
+		}
+		if (InternalPolicy.OSGI_AVAILABLE
+				&& ("bundleentry".equals(protocol) || "bundleresource".equals(protocol))) { //$NON-NLS-1$ //$NON-NLS-2$
+			// the host is the id of the bundle followed by the framework
+			String host = url.getHost();
+			int dot = host.indexOf('.');
+			Bundle bundle;
+			try {
+				long id = Long.parseLong(dot == -1 ? host : host.substring(0, dot));
+				BundleContext context = FrameworkUtil.getBundle(ImageDataCache.class).getBundleContext();
+				bundle = context == null ? null : context.getBundle(id);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+			if (bundle == null) {
+				return null;
+			}
+			return bundle.getSymbolicName() + '_' + bundle.getVersion() + ':' + bundle.getLastModified();
+		}
+		return null;
+	}
+
+	private static byte[] encode(ImageData data) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + data.data.length);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(data.width);
+			out.writeInt(data.height);
+			out.writeInt(data.depth);
+			out.writeInt(data.scanlinePad);
+			PaletteData palette = data.palette;
+			out.writeBoolean(palette.isDirect);
+			if (palette.isDirect) {
+				out.writeInt(palette.redMask);
+				out.writeInt(palette.greenMask);
+				out.writeInt(palette.blueMask);
+			} else {
+				out.writeInt(palette.colors.length);
+				for (RGB color : palette.colors) {
+					out.writeByte(color.red);
+					out.writeByte(color.green);
+					out.writeByte(color.blue);
+				}
+			}
+			out.writeInt(data.transparentPixel);
+			out.writeInt(data.maskPad);
+			writeBytes(out, data.maskData);
+			writeBytes(out, data.alphaData);
+			out.writeInt(data.alpha);
+			out.writeInt(data.type);
+			out.writeInt(data.x);
+			out.writeInt(data.y);
+			out.writeInt(data.disposalMethod);
+			out.writeInt(data.delayTime);
+			writeBytes(out, data.data);
+		} catch (IOException e) {
+			// cannot happen when writing to memory
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static ImageData decode(ByteBuffer in) {
+		int width = in.getInt();
+		int height = in.getInt();
+		int depth = in.getInt();
+		int scanlinePad = in.getInt();
+		PaletteData palette;
+		if (in.get() != 0) {
+			palette = new PaletteData(in.getInt(), in.getInt(), in.getInt());
+		} else {
+			int count = in.getInt();
+			if (count < 0 || count > in.remaining() / 3) {
+				throw new BufferUnderflowException();
+			}
+			RGB[] colors = new RGB[count];
+			for (int i = 0; i < colors.length; i++) {
+				colors[i] = new RGB(in.get() & 0xff, in.get() & 0xff, in.get() & 0xff);
+			}
+			palette = new PaletteData(colors);
+		}
+		int transparentPixel = in.getInt();
+		int maskPad = in.getInt();
+		byte[] maskData = readBytes(in);
+		byte[] alphaData = readBytes(in);
+		int alpha = in.getInt();
+		int type = in.getInt();
+		int x = in.getInt();
+		int y = in.getInt();
+		int disposalMethod = in.getInt();
+		int delayTime = in.getInt();
+		ImageData data = new ImageData(width, height, depth, palette, scanlinePad, readBytes(in));
+		data.transparentPixel = transparentPixel;
+		data.maskPad = maskPad;
+		data.maskData = maskData;
+		data.alphaData = alphaData;
+		data.alpha = alpha;
+		data.type = type;
+		data.x = x;
+		data.y = y;
+		data.disposalMethod = disposalMethod;
+		data.delayTime = delayTime;
+		return data;
+	}
+
+	private static byte[] readBytes(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > in.remaining()) {
+			// damaged, do not allocate more than the image could hold
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return bytes;
+	}
+}
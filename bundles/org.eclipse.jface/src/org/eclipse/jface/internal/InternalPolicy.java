@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,14 @@ public class InternalPolicy {
 	 */
 	public static boolean DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x_PNG_FOR_GIF = false;
 
+	/**
+	 * (NON-API) Account for the images, fonts and colors allocated by device
+	 * resource managers in {@link ResourceAccounting}.
+	 *
+	 * @since 3.16
+	 */
+	public static boolean DEBUG_TRACK_RESOURCE_HANDLES = false;
+
 	/**
 	 * (NON-API) A flag to indicate whether the JFace bundle is running inside
 	 * an OSGi container
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.resource.DeviceResourceDescriptor;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Accounts for the operating system handles of the images, fonts and colors
+ * allocated by the device resource managers, if
+ * {@link InternalPolicy#DEBUG_TRACK_RESOURCE_HANDLES} is set.
+ * <p>
+ * Every live resource is attributed to the bundle that requested it, which is
+ * the first caller outside of JFace's resource management and SWT, and the
+ * stack of every {@value #SAMPLE_INTERVAL}th allocation is kept to show where
+ * resources are allocated. A warning with a report of the live resources is
+ * logged whenever their number grows by more than the budget set with
+ * {@link #setBudget(int)}, which helps finding resources that are never
+ * released.
+ * </p>
+ *
+ * @since 3.16
+ */
+public final class ResourceAccounting {
+
+	/**
+	 * The number of allocations for each one whose stack is kept
+	 */
+	public static final int SAMPLE_INTERVAL = 10;
+
+	private static final String[] INTERNAL_PACKAGES = { "org.eclipse.jface.resource.", "org.eclipse.swt.", //$NON-NLS-1$ //$NON-NLS-2$
+			"org.eclipse.jface.internal.ResourceAccounting" }; //$NON-NLS-1$
+
+	private static final String UNKNOWN_OWNER = "<unknown>"; //$NON-NLS-1$
+
+	private static final int REPORTED_RESOURCES = 20;
+
+	/** the live resources, guarded by the class */
+	private static final Map<Object, Allocation> allocations = new IdentityHashMap<>();
+
+	private static long allocationCount;
+
+	private static int budget;
+
+	private static int baseline;
+
+	private ResourceAccounting() {
+		// prevents instantiation
+	}
+
+	/**
+	 * Sets the number of resources that may be allocated, beyond the number
+	 * live when the budget was last exceeded, before a warning is logged.
+	 *
+	 * @param newBudget
+	 *            the budget, <code>0</code> to never warn
+	 */
+	public static synchronized void setBudget(int newBudget) {
+		budget = Math.max(0, newBudget);
+		baseline = allocations.size();
+	}
+
+	/**
+	 * Records the allocation of a resource. Called by the device resource
+	 * managers if the handles are tracked.
+	 *
+	 * @param descriptor
+	 *            the descriptor of the resource
+	 * @param resource
+	 *            the allocated resource
+	 */
+	public static void allocated(DeviceResourceDescriptor descriptor, Object resource) {
+		Allocation allocation = new Allocation(descriptor, resource, getOwner());
+		String warning = null;
+		synchronized (ResourceAccounting.class) {
+			allocation.sequence = allocationCount++;
+			if (allocation.sequence % SAMPLE_INTERVAL == 0) {
+				allocation.site = new Throwable("Allocation site of " + descriptor); //$NON-NLS-1$
+			}
+			allocations.put(resource, allocation);
+			if (budget > 0 && allocations.size() > baseline + budget) {
+				warning = "The number of live resources grew by " + (allocations.size() - baseline) //$NON-NLS-1$
+						+ " to " + allocations.size() + ", more than the budget of " + budget; //$NON-NLS-1$ //$NON-NLS-2$
+				baseline = allocations.size();
+			}
+		}
+		if (warning != null) {
+			Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE, warning + '\n' + getReport()));
+		}
+	}
+
+	/**
+	 * Records the release of a resource.
+	 *
+	 * @param resource
+	 *            the released resource
+	 */
+	public static synchronized void released(Object resource) {
+		allocations.remove(resource);
+	}
+
+	/**
+	 * @return the number of live resources
+	 */
+	public static synchronized int getLiveCount() {
+		return allocations.size();
+	}
+
+	/**
+	 * Returns the number of live resources of a type for each bundle that
+	 * requested them.
+	 *
+	 * @param type
+	 *            {@link Image}, {@link Font}, {@link Color}, or
+	 *            <code>Object</code> for all resources
+	 * @return the counts by bundle symbolic name
+	 */
+	public static synchronized Map<String, Integer> getLiveCountsByOwner(Class<?> type) {
+		Map<String, Integer> counts = new TreeMap<>();
+		for (Allocation allocation : allocations.values()) {
+			if (type.isInstance(allocation.resource)) {
+				counts.merge(allocation.owner, Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Returns the number of live resources for each descriptor. A descriptor
+	 * has one resource for each device resource manager it was allocated in.
+	 *
+	 * @return the counts by descriptor
+	 */
+	public static synchronized Map<DeviceResourceDescriptor, Integer> getLiveCountsByDescriptor() {
+		Map<DeviceResourceDescriptor, Integer> counts = new HashMap<>();
+		for (Allocation allocation : allocations.values()) {
+			counts.merge(allocation.descriptor, Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+		}
+		return counts;
+	}
+
+	/**
+	 * Returns a report of the live resources: their totals by bundle, and the
+	 * most recently allocated ones with the stacks of the sampled allocations.
+	 *
+	 * @return the report
+	 */
+	public static String getReport() {
+		List<Allocation> recent = new ArrayList<>();
+		Map<String, int[]> totals = new TreeMap<>();
+		int count;
+		synchronized (ResourceAccounting.class) {
+			count = allocations.size();
+			for (Allocation allocation : allocations.values()) {
+				int[] total = totals.computeIfAbsent(allocation.owner, owner -> new int[4]);
+				total[allocation.getTypeIndex()]++;
+				recent.add(allocation);
+			}
+		}
+		recent.sort((a, b) -> Long.compare(b.sequence, a.sequence));
+
+		StringWriter report = new StringWriter();
+		PrintWriter writer = new PrintWriter(report);
+		writer.println(count + " live resources (images, fonts, colors, other) by bundle:"); //$NON-NLS-1$
+		for (Map.Entry<String, int[]> entry : totals.entrySet()) {
+			int[] total = entry.getValue();
+			writer.println("  " + entry.getKey() + ": " + total[0] + ", " + total[1] + ", " + total[2] + ", " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+					+ total[3]);
+		}
+		writer.println("Most recently allocated live resources:"); //$NON-NLS-1$
+		for (Allocation allocation : recent.subList(0, Math.min(REPORTED_RESOURCES, recent.size()))) {
+			writer.println("  " + allocation.descriptor + " (" + allocation.owner + ')'); //$NON-NLS-1$ //$NON-NLS-2$
+			if (allocation.site != null) {
+				StackTraceElement[] stack = allocation.site.getStackTrace();
+				for (StackTraceElement element : stack) {
+					writer.println("    at " + element); //$NON-NLS-1$
+				}
+			}
+		}
+		writer.flush();
+		return report.toString();
+	}
+
+	/**
+	 * Forgets all live resources.
+	 */
+	public static synchronized void reset() {
+		allocations.clear();
+		allocationCount = 0;
+		baseline = 0;
+	}
+
+	private static String getOwner() {
+		for (Class<?> caller : CallerResolver.INSTANCE.getCallers()) {
+			if (isInternal(caller.getName())) {
+				continue;
+			}
+			if (InternalPolicy.OSGI_AVAILABLE) {
+				Bundle bundle = FrameworkUtil.getBundle(caller);
+				if (bundle != null) {
+					return bundle.getSymbolicName();
+				}
+			}
+			// outside of OSGi, the package of the caller stands in for its bundle
+			String name = caller.getName();
+			int lastDot = name.lastIndexOf('.');
+			return lastDot < 0 ? name : name.substring(0, lastDot);
+		}
+		return UNKNOWN_OWNER;
+	}
+
+	private static boolean isInternal(String className) {
+		for (String prefix : INTERNAL_PACKAGES) {
+			if (className.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Provides the classes of the calling stack frames.
+	 */
+	private static final class CallerResolver extends SecurityManager {
+		static final CallerResolver INSTANCE = new CallerResolver();
+
+		Class<?>[] getCallers() {
+			return getClassContext();
+		}
+	}
+
+	private static final class Allocation {
+		final DeviceResourceDescriptor descriptor;
+		final Object resource;
+		final String owner;
+
+		/* the following fields are guarded by the class */
+		long sequence;
+
+		/** the stack of the allocation, if sampled */
+		Throwable site;
+
+		Allocation(DeviceResourceDescriptor descriptor, Object resource, String owner) {
+			this.descriptor = descriptor;
+			this.resource = resource;
+			this.owner = owner;
+		}
+
+		int getTypeIndex() {
+			if (resource instanceof Image) {
+				return 0;
+			} else if (resource instanceof Font) {
+				return 1;
+			} else if (resource instanceof Color) {
+				return 2;
+			}
+			return 3;
+		}
+	}
+}
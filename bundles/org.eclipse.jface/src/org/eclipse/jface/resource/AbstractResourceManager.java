@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map.Entry;
 
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageDataProvider;
+
 /**
  * Abstract implementation of ResourceManager. Maintains reference counts for all previously
  * allocated SWT resources. Delegates to the abstract method allocate(...) the first time a resource
@@ -93,6 +96,36 @@ abstract class AbstractResourceManager extends ResourceManager {
         return resource;
     }
 
+    @Override
+	final Image createImage(ImageDescriptor descriptor, ImageDataProvider provider) throws DeviceResourceException {
+        RefCount count = map == null ? null : map.get(descriptor);
+        if (count != null) {
+            count.count++;
+            return (Image) count.resource;
+        }
+
+        Image image = allocateImage(descriptor, provider);
+
+        if (map == null) {
+            map = new HashMap<>();
+        }
+        map.put(descriptor, new RefCount(image));
+
+        return image;
+    }
+
+    /**
+     * Called the first time an image decoded in advance is requested. Allocates
+     * the image from the given image data, or like {@link #allocate(DeviceResourceDescriptor)}.
+     * @param descriptor identifier for the image to allocate
+     * @param provider the decoded image data of the descriptor
+     * @return the newly allocated image
+     * @throws DeviceResourceException Thrown when allocation of the image fails
+     */
+    Image allocateImage(ImageDescriptor descriptor, ImageDataProvider provider) throws DeviceResourceException {
+        return (Image) allocate(descriptor);
+    }
+
     @Override
 	public final void destroy(DeviceResourceDescriptor descriptor) {
         // If the map is empty (null) then there are no resources to dispose
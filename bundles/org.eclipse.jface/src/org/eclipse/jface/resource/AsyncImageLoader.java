@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataProvider;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Decodes the image data of image descriptors on background threads and hands
+ * it back to the UI thread, where the images are created from it.
+ * <p>
+ * The data is decoded for the zoom levels the display creates images at. The
+ * results of all images decoded in the meantime are handed back together, in a
+ * single runnable on the UI thread, so the images of a viewer are created and
+ * shown in batches rather than one by one.
+ * </p>
+ * <p>
+ * Only the data of descriptors reading URLs or files is decoded in the
+ * background. Other descriptors, like those of existing images or derived
+ * from other images, may need the UI thread to compute their data.
+ * </p>
+ */
+final class AsyncImageLoader {
+
+	private static final ImageData PROBE_DATA = new ImageData(1, 1, 1,
+			new PaletteData(new RGB[] { new RGB(0, 0, 0), new RGB(255, 255, 255) }));
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	private static final ExecutorService executor = Executors.newFixedThreadPool(
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), r -> {
+				Thread thread = new Thread(r, "JFace Image Loader " + threadCount.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			});
+
+	private static final String ZOOM_LEVELS_KEY = AsyncImageLoader.class.getName() + ".zoomLevels"; //$NON-NLS-1$
+
+	/** the decoded images not handed back yet, by display */
+	private static final Map<Display, List<Runnable>> ready = new HashMap<>();
+
+	private AsyncImageLoader() {
+		// prevents instantiation
+	}
+
+	/**
+	 * @param descriptor
+	 *            the descriptor of an image
+	 * @return <code>true</code> if the data of the image can be decoded in the
+	 *         background
+	 */
+	static boolean canLoad(ImageDescriptor descriptor) {
+		return descriptor instanceof URLImageDescriptor || descriptor instanceof FileImageDescriptor;
+	}
+
+	/**
+	 * Decodes the data of an image in the background. Must be called on the UI
+	 * thread, only for descriptors accepted by {@link #canLoad(ImageDescriptor)}.
+	 *
+	 * @param display
+	 *            the display to create the image on
+	 * @param descriptor
+	 *            the descriptor of the image
+	 * @param callback
+	 *            called on the UI thread with a provider of the decoded data
+	 */
+	static void load(Display display, ImageDescriptor descriptor, Consumer<ImageDataProvider> callback) {
+		Set<Integer> zooms = getZoomLevels(display);
+		executor.execute(() -> {
+			Map<Integer, ImageData> data = new HashMap<>();
+			for (Integer zoom : zooms) {
+				try {
+					ImageData imageData = descriptor.getImageData(zoom.intValue());
+					if (imageData != null) {
+						data.put(zoom, imageData);
+					}
+				} catch (RuntimeException e) {
+					// decoded again when the image is created, which reports
+					// the error
+				}
+			}
+			handBack(display, () -> callback.accept(new DecodedImageDataProvider(descriptor, data)));
+		});
+	}
+
+	private static void handBack(Display display, Runnable runnable) {
+		synchronized (ready) {
+			List<Runnable> runnables = ready.get(display);
+			if (runnables != null) {
+				runnables.add(runnable);
+				return;
+			}
+			runnables = new ArrayList<>();
+			runnables.add(runnable);
+			ready.put(display, runnables);
+		}
+		try {
+			display.asyncExec(() -> {
+				List<Runnable> batch;
+				synchronized (ready) {
+					batch = ready.remove(display);
+				}
+				if (batch != null) {
+					for (Runnable r : batch) {
+						r.run();
+					}
+				}
+			});
+		} catch (SWTException e) {
+			// the display is disposed, as are the images of its resource managers
+			synchronized (ready) {
+				ready.remove(display);
+			}
+		}
+	}
+
+	/**
+	 * Finds the zoom levels the display creates images at by creating an image
+	 * with a provider that records what it is asked for. The levels are kept
+	 * with the display, the data of zoom levels used later is decoded when the
+	 * image is created.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Set<Integer> getZoomLevels(Display display) {
+		Set<Integer> zooms = (Set<Integer>) display.getData(ZOOM_LEVELS_KEY);
+		if (zooms != null) {
+			return zooms;
+		}
+		Set<Integer> found = new LinkedHashSet<>();
+		found.add(Integer.valueOf(100));
+		Image probe = new Image(display, (ImageDataProvider) zoom -> {
+			found.add(Integer.valueOf(zoom));
+			return PROBE_DATA;
+		});
+		probe.dispose();
+		zooms = Collections.unmodifiableSet(found);
+		display.setData(ZOOM_LEVELS_KEY, zooms);
+		return zooms;
+	}
+
+	/**
+	 * Provides the decoded data of an image, decoding the data of other zoom
+	 * levels on demand.
+	 */
+	private static final class DecodedImageDataProvider implements ImageDataProvider {
+		private final ImageDescriptor descriptor;
+		private final Map<Integer, ImageData> data;
+
+		DecodedImageDataProvider(ImageDescriptor descriptor, Map<Integer, ImageData> data) {
+			this.descriptor = descriptor;
+			this.data = data;
+		}
+
+		@Override
+		public ImageData getImageData(int zoom) {
+			ImageData imageData = data.get(Integer.valueOf(zoom));
+			return imageData != null ? imageData : descriptor.getImageData(zoom);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
@@ -71,13 +73,21 @@ public class ColorRegistry extends ResourceRegistry {
      * Table of known colors, keyed by symbolic color name (key type: <code>String</code>,
      * value type: <code>org.eclipse.swt.graphics.Color</code>.
      */
-    private Map<String, Color> stringToColor = new HashMap<>(7);
+    private Map<String, Color> stringToColor = new ConcurrentHashMap<>(7);
 
     /**
      * Table of known color data, keyed by symbolic color name (key type:
      * <code>String</code>, value type: <code>org.eclipse.swt.graphics.RGB</code>).
+     * An immutable snapshot that is replaced as a whole on every change, so it
+     * can be read without locking.
      */
-    private Map<String, RGB> stringToRGB = new HashMap<>(7);
+    private volatile Map<String, RGB> stringToRGB = Collections.emptyMap();
+
+    /**
+     * Lock held while a new snapshot of the color data is created, so that
+     * concurrent changes do not overwrite each other.
+     */
+    private final Object lock = new Object();
 
     /**
      * Runnable that cleans up the manager on disposal of the display.
@@ -188,7 +198,7 @@ public class ColorRegistry extends ResourceRegistry {
 
     @Override
 	public Set<String> getKeySet() {
-        return Collections.unmodifiableSet(stringToRGB.keySet());
+        return stringToRGB.keySet();
     }
 
     /**
@@ -275,6 +285,45 @@ public class ColorRegistry extends ResourceRegistry {
         put(symbolicName, colorData, true);
     }
 
+    /**
+     * Adds (or replaces) several colors to this color registry under their
+     * symbolic names, as a single change.
+     * <p>
+     * The registry changes to the new colors at once. A property change event
+     * is reported for every symbolic name whose color changes, and the events
+     * are fired together once all colors have been changed.
+     * </p>
+     *
+     * @param colors the <code>RGB</code> objects by symbolic color name
+     * @since 3.16
+     */
+    public void putAll(Map<String, RGB> colors) {
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        synchronized (lock) {
+            Map<String, RGB> rgbs = new HashMap<>(stringToRGB);
+            for (Map.Entry<String, RGB> entry : colors.entrySet()) {
+                String symbolicName = entry.getKey();
+                RGB colorData = entry.getValue();
+                Assert.isNotNull(symbolicName);
+                Assert.isNotNull(colorData);
+
+                RGB existing = rgbs.put(symbolicName, colorData);
+                if (!colorData.equals(existing)) {
+                    events.add(new PropertyChangeEvent(this, symbolicName, existing, colorData));
+                }
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+
+            stringToRGB = Collections.unmodifiableMap(rgbs);
+            for (PropertyChangeEvent event : events) {
+                removeColor(event.getProperty());
+            }
+        }
+        fireMappingsChanged(events);
+    }
+
     /**
      * Adds (or replaces) a color to this color registry under the given
      * symbolic name.
@@ -295,17 +344,29 @@ public class ColorRegistry extends ResourceRegistry {
         Assert.isNotNull(symbolicName);
         Assert.isNotNull(colorData);
 
-        RGB existing = stringToRGB.get(symbolicName);
-        if (colorData.equals(existing)) {
-			return;
-		}
-
-        Color oldColor = stringToColor.remove(symbolicName);
-        stringToRGB.put(symbolicName, colorData);
+        RGB existing;
+        synchronized (lock) {
+            existing = stringToRGB.get(symbolicName);
+            if (colorData.equals(existing)) {
+                return;
+            }
+
+            Map<String, RGB> rgbs = new HashMap<>(stringToRGB);
+            rgbs.put(symbolicName, colorData);
+            stringToRGB = Collections.unmodifiableMap(rgbs);
+            removeColor(symbolicName);
+        }
         if (update) {
 			fireMappingChanged(symbolicName, existing, colorData);
 		}
+    }
 
+    /**
+     * Removes the color allocated for a symbolic name, to be disposed on
+     * shutdown.
+     */
+    private void removeColor(String symbolicName) {
+        Color oldColor = stringToColor.remove(symbolicName);
         if (oldColor != null) {
 			staleColors.add(oldColor);
 		}
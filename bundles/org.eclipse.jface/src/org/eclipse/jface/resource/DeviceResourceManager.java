@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jface.resource;
 
+import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.internal.ResourceAccounting;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageDataProvider;
 
 /**
  * Manages SWT resources for a particular device.
@@ -52,11 +56,33 @@ public final class DeviceResourceManager extends AbstractResourceManager {
 
     @Override
 	protected Object allocate(DeviceResourceDescriptor descriptor) throws DeviceResourceException {
-        return descriptor.createResource(device);
+        Object resource = descriptor.createResource(device);
+        if (InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES) {
+            ResourceAccounting.allocated(descriptor, resource);
+        }
+        return resource;
+    }
+
+    @Override
+	Image allocateImage(ImageDescriptor descriptor, ImageDataProvider provider) throws DeviceResourceException {
+        Image image;
+        try {
+            image = new Image(device, provider);
+        } catch (SWTException | IllegalArgumentException e) {
+            // the descriptor reports why it cannot be created
+            return (Image) allocate(descriptor);
+        }
+        if (InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES) {
+            ResourceAccounting.allocated(descriptor, image);
+        }
+        return image;
     }
 
     @Override
 	protected void deallocate(Object resource, DeviceResourceDescriptor descriptor) {
+        if (InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES) {
+            ResourceAccounting.released(resource);
+        }
         descriptor.destroyResource(resource);
     }
 
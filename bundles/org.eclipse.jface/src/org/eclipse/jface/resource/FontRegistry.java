@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,8 +24,10 @@ import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.Util;
 import org.eclipse.swt.SWT;
@@ -184,14 +186,22 @@ public class FontRegistry extends ResourceRegistry {
      * (key type: <code>String</code>,
      *  value type: <code>FontRecord</code>.
      */
-    private Map<String, FontRecord> stringToFontRecord = new HashMap<>(7);
+    private Map<String, FontRecord> stringToFontRecord = new ConcurrentHashMap<>(7);
 
     /**
      * Table of known font data, keyed by symbolic font name
      * (key type: <code>String</code>,
      *  value type: <code>org.eclipse.swt.graphics.FontData[]</code>).
+     * An immutable snapshot that is replaced as a whole on every change, so it
+     * can be read without locking.
      */
-    private Map<String, FontData[]> stringToFontData = new HashMap<>(7);
+    private volatile Map<String, FontData[]> stringToFontData = Collections.emptyMap();
+
+    /**
+     * Lock held while a new snapshot of the font data is created, so that
+     * concurrent changes do not overwrite each other.
+     */
+    private final Object lock = new Object();
 
     /**
      * Collection of Fonts that are now stale to be disposed
@@ -688,7 +698,7 @@ public class FontRegistry extends ResourceRegistry {
 
     @Override
 	public Set<String> getKeySet() {
-        return Collections.unmodifiableSet(stringToFontData.keySet());
+        return stringToFontData.keySet();
     }
 
     @Override
@@ -775,6 +785,45 @@ public class FontRegistry extends ResourceRegistry {
         put(symbolicName, fontData, true);
     }
 
+    /**
+     * Adds (or replaces) several fonts to this font registry under their
+     * symbolic names, as a single change.
+     * <p>
+     * The registry changes to the new fonts at once. A property change event
+     * is reported for every symbolic name whose font changes, and the events
+     * are fired together once all fonts have been changed.
+     * </p>
+     *
+     * @param fonts the arrays of FontData by symbolic font name
+     * @since 3.16
+     */
+    public void putAll(Map<String, FontData[]> fonts) {
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        synchronized (lock) {
+            Map<String, FontData[]> fontData = new HashMap<>(stringToFontData);
+            for (Map.Entry<String, FontData[]> entry : fonts.entrySet()) {
+                String symbolicName = entry.getKey();
+                FontData[] data = entry.getValue();
+                Assert.isNotNull(symbolicName);
+                Assert.isNotNull(data);
+
+                FontData[] existing = fontData.put(symbolicName, data);
+                if (!Arrays.equals(existing, data)) {
+                    events.add(new PropertyChangeEvent(this, symbolicName, existing, data));
+                }
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+
+            stringToFontData = Collections.unmodifiableMap(fontData);
+            for (PropertyChangeEvent event : events) {
+                removeFontRecord(event.getProperty());
+            }
+        }
+        fireMappingsChanged(events);
+    }
+
     /**
      * Adds (or replaces) a font to this font registry under the given
      * symbolic name.
@@ -795,18 +844,29 @@ public class FontRegistry extends ResourceRegistry {
         Assert.isNotNull(symbolicName);
         Assert.isNotNull(fontData);
 
-        FontData[] existing = stringToFontData.get(symbolicName);
-        if (Arrays.equals(existing, fontData)) {
-			return;
-		}
+        FontData[] existing;
+        synchronized (lock) {
+            existing = stringToFontData.get(symbolicName);
+            if (Arrays.equals(existing, fontData)) {
+                return;
+            }
 
-        FontRecord oldFont = stringToFontRecord
-                .remove(symbolicName);
-        stringToFontData.put(symbolicName, fontData);
+            Map<String, FontData[]> newFontData = new HashMap<>(stringToFontData);
+            newFontData.put(symbolicName, fontData);
+            stringToFontData = Collections.unmodifiableMap(newFontData);
+            removeFontRecord(symbolicName);
+        }
         if (update) {
 			fireMappingChanged(symbolicName, existing, fontData);
 		}
+    }
 
+    /**
+     * Removes the fonts allocated for a symbolic name, to be disposed on
+     * shutdown.
+     */
+    private void removeFontRecord(String symbolicName) {
+        FontRecord oldFont = stringToFontRecord.remove(symbolicName);
         if (oldFont != null) {
 			oldFont.addAllocatedFontsToStale(defaultFontRecord().getBaseFont());
 		}
@@ -819,36 +879,40 @@ public class FontRegistry extends ResourceRegistry {
      */
     private void readResourceBundle(ResourceBundle bundle, String bundleName)
             throws MissingResourceException {
-        Enumeration<String> keys = bundle.getKeys();
-        while (keys.hasMoreElements()) {
-            String key = keys.nextElement();
-            int pos = key.lastIndexOf('.');
-            if (pos == -1) {
-                stringToFontData.put(key, new FontData[] { makeFontData(bundle
-                        .getString(key)) });
-            } else {
-                String name = key.substring(0, pos);
-                int i = 0;
-                try {
-                    i = Integer.parseInt(key.substring(pos + 1));
-                } catch (NumberFormatException e) {
-                    //Panic the file can not be parsed.
-                    throw new MissingResourceException(
-                            "Wrong key format ", bundleName, key); //$NON-NLS-1$
-                }
-                FontData[] elements = stringToFontData.get(name);
-                if (elements == null) {
-                    elements = new FontData[8];
-                    stringToFontData.put(name, elements);
-                }
-                if (i > elements.length) {
-                    FontData[] na = new FontData[i + 8];
-                    System.arraycopy(elements, 0, na, 0, elements.length);
-                    elements = na;
-                    stringToFontData.put(name, elements);
+        synchronized (lock) {
+            Map<String, FontData[]> fontData = new HashMap<>(stringToFontData);
+            Enumeration<String> keys = bundle.getKeys();
+            while (keys.hasMoreElements()) {
+                String key = keys.nextElement();
+                int pos = key.lastIndexOf('.');
+                if (pos == -1) {
+                    fontData.put(key, new FontData[] { makeFontData(bundle
+                            .getString(key)) });
+                } else {
+                    String name = key.substring(0, pos);
+                    int i = 0;
+                    try {
+                        i = Integer.parseInt(key.substring(pos + 1));
+                    } catch (NumberFormatException e) {
+                        //Panic the file can not be parsed.
+                        throw new MissingResourceException(
+                                "Wrong key format ", bundleName, key); //$NON-NLS-1$
+                    }
+                    FontData[] elements = fontData.get(name);
+                    if (elements == null) {
+                        elements = new FontData[8];
+                        fontData.put(name, elements);
+                    }
+                    if (i > elements.length) {
+                        FontData[] na = new FontData[i + 8];
+                        System.arraycopy(elements, 0, na, 0, elements.length);
+                        elements = na;
+                        fontData.put(name, elements);
+                    }
+                    elements[i] = makeFontData(bundle.getString(key));
                 }
-                elements[i] = makeFontData(bundle.getString(key));
             }
+            stringToFontData = Collections.unmodifiableMap(fontData);
         }
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jface.resource;
 
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageDataProvider;
 import org.eclipse.swt.widgets.Control;
 
 
@@ -72,6 +73,11 @@ public final class LocalResourceManager extends AbstractResourceManager {
         return parentRegistry.create(descriptor);
     }
 
+    @Override
+	Image allocateImage(ImageDescriptor descriptor, ImageDataProvider provider) throws DeviceResourceException {
+        return parentRegistry.createImage(descriptor, provider);
+    }
+
     @Override
 	protected void deallocate(Object resource,
             DeviceResourceDescriptor descriptor) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.jface.resource;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
@@ -25,7 +28,9 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageDataProvider;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * This class manages SWT resources. It manages reference-counted instances of resources
@@ -50,6 +55,14 @@ public abstract class ResourceManager {
 	 */
     private List<Runnable> disposeExecs = null;
 
+    /**
+     * The callbacks of the images being created in the background, by descriptor.
+     * null if empty.
+     */
+    private Map<ImageDescriptor, List<Consumer<Image>>> pendingImages = null;
+
+    private boolean disposed;
+
     /**
      * Returns the Device for which this ResourceManager will create resources
      *
@@ -208,6 +221,91 @@ public abstract class ResourceManager {
 		}
     }
 
+    /**
+     * <p>Creates an image, given an image descriptor, decoding its image data in the
+     * background. If the image has already been created, it is returned right away.
+     * Otherwise the given placeholder is returned, and the callback is run on the UI
+     * thread with the image once it has been created. Images created together are
+     * handed to their callbacks in the same runnable, so the callbacks may collect
+     * the images and update their widgets in batches.</p>
+     * <p>Like images allocated by {@link #createImage(ImageDescriptor)}, the image,
+     * whether returned or passed to the callback, must be disposed by
+     * {@link #destroyImage(ImageDescriptor)} or by disposing this manager. If it cannot
+     * be created, the callback receives the default image, as returned by
+     * {@link #createImageWithDefault(ImageDescriptor)}. If this manager is disposed
+     * before the image is created, the callback is not run.</p>
+     * <p>Only the image data of descriptors reading URLs or files is decoded in the
+     * background. Images of other descriptors, which may need the UI thread to compute
+     * their data, are created right away, as they are for devices other than displays.</p>
+     * <p>This method must be called on the UI thread.</p>
+     * @param descriptor descriptor for the image to create
+     * @param placeholder the image to return if the image has not been created yet,
+     * may be <code>null</code>
+     * @param callback called with the image once it has been created, unless it is
+     * returned
+     * @return the Image described by the descriptor, or the placeholder
+     * @since 3.16
+     */
+    public final Image createImageAsync(ImageDescriptor descriptor, Image placeholder, Consumer<Image> callback) {
+        Assert.isNotNull(descriptor);
+        Assert.isNotNull(callback);
+
+        if (find(descriptor) != null || !(getDevice() instanceof Display)
+                || !AsyncImageLoader.canLoad(descriptor)) {
+            return createImageWithDefault(descriptor);
+        }
+
+        if (pendingImages == null) {
+            pendingImages = new HashMap<>();
+        }
+        List<Consumer<Image>> callbacks = pendingImages.get(descriptor);
+        if (callbacks != null) {
+            // already being decoded
+            callbacks.add(callback);
+            return placeholder;
+        }
+        callbacks = new ArrayList<>();
+        callbacks.add(callback);
+        pendingImages.put(descriptor, callbacks);
+
+        AsyncImageLoader.load((Display) getDevice(), descriptor, provider -> {
+            List<Consumer<Image>> waiting = pendingImages == null ? null : pendingImages.remove(descriptor);
+            if (waiting == null || disposed) {
+                return;
+            }
+            if (pendingImages.isEmpty()) {
+                pendingImages = null;
+            }
+            for (Consumer<Image> c : waiting) {
+                Image image;
+                try {
+                    image = createImage(descriptor, provider);
+                } catch (DeviceResourceException | SWTException e) {
+                    Policy.getLog().log(
+                            new Status(IStatus.WARNING, "org.eclipse.jface", 0, //$NON-NLS-1$
+                                    "The image could not be loaded: " + descriptor, //$NON-NLS-1$
+                                    e));
+                    image = getDefaultImage();
+                }
+                c.accept(image);
+            }
+        });
+        return placeholder;
+    }
+
+    /**
+     * Creates an image from image data decoded in advance, like
+     * {@link #createImage(ImageDescriptor)}.
+     *
+     * @param descriptor descriptor for the image to create
+     * @param provider the decoded image data of the descriptor
+     * @return the Image described by the descriptor
+     * @throws DeviceResourceException if unable to allocate the Image
+     */
+    Image createImage(ImageDescriptor descriptor, ImageDataProvider provider) throws DeviceResourceException {
+        return createImage(descriptor);
+    }
+
     /**
      * Returns the default image that will be returned in the event that the intended
      * image is missing.
@@ -316,6 +414,9 @@ public abstract class ResourceManager {
      * Disposes any remaining resources allocated by this manager.
      */
     public void dispose() {
+        disposed = true;
+        pendingImages = null;
+
         if (disposeExecs == null) {
             return;
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jface.resource;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.commands.common.EventManager;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.PropertyChangeEvent;
 
 /**
@@ -73,7 +77,31 @@ public abstract class ResourceRegistry extends EventManager {
                     ((IPropertyChangeListener) myListener)
                             .propertyChange(event);
                 } catch (Exception e) {
-                    // TODO: how to log?
+                    Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE,
+                            "Exception in registry listener", e)); //$NON-NLS-1$
+                }
+            }
+        }
+    }
+
+    /**
+     * Fires the <code>PropertyChangeEvent</code>s of several mappings changed
+     * together. Each listener is notified of all of them before the next one,
+     * and every listener sees the registry with all of the changes applied.
+     *
+     * @param events the events of the changed mappings, in the order to fire them
+     * @since 3.16
+     */
+    protected void fireMappingsChanged(List<PropertyChangeEvent> events) {
+        final Object[] myListeners = getListeners();
+        for (Object myListener : myListeners) {
+            for (PropertyChangeEvent event : events) {
+                try {
+                    ((IPropertyChangeListener) myListener)
+                            .propertyChange(event);
+                } catch (Exception e) {
+                    Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE,
+                            "Exception in registry listener", e)); //$NON-NLS-1$
                 }
             }
         }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -74,7 +75,7 @@ class URLImageDescriptor extends ImageDescriptor {
 			if (tempURL != null) {
 				URL xUrl = getxURL(tempURL, zoom);
 				if (xUrl != null) {
-					return URLImageDescriptor.getImageData(xUrl);
+					return URLImageDescriptor.getImageData(xUrl, zoom);
 				}
 			}
 			return null;
@@ -110,7 +111,7 @@ class URLImageDescriptor extends ImageDescriptor {
 	@Deprecated
 	@Override
 	public ImageData getImageData() {
-		return getImageData(getURL(url));
+		return getImageData(getURL(url), 100);
 	}
 
 	@Override
@@ -118,7 +119,14 @@ class URLImageDescriptor extends ImageDescriptor {
 		return new URLImageDataProvider(url).getImageData(zoom);
 	}
 
-	private static ImageData getImageData(URL url) {
+	private static ImageData getImageData(URL url, int zoom) {
+		String cacheKey = url == null ? null : ImageDataCache.getKey(getPlatformURL(url), zoom);
+		if (cacheKey != null) {
+			ImageData cached = ImageDataCache.get(cacheKey);
+			if (cached != null) {
+				return cached;
+			}
+		}
 		ImageData result = null;
 		try (InputStream in = getStream(url)) {
 			if (in != null) {
@@ -132,9 +140,28 @@ class URLImageDescriptor extends ImageDescriptor {
 		} catch (IOException e) {
 			Policy.getLog().log(new Status(IStatus.ERROR, Policy.JFACE, e.getLocalizedMessage(), e));
 		}
+		if (cacheKey != null && result != null) {
+			ImageDataCache.put(cacheKey, result);
+		}
 		return result;
 	}
 
+	/**
+	 * Returns the URL of the bundle entry or file a <code>platform:</code> URL
+	 * refers to.
+	 *
+	 * @return the resolved URL, or the given one if it cannot be resolved
+	 */
+	private static URL getPlatformURL(URL url) {
+		if (InternalPolicy.OSGI_AVAILABLE) {
+			URL platformURL = FileLocator.find(url);
+			if (platformURL != null) {
+				return platformURL;
+			}
+		}
+		return url;
+	}
+
 	/**
 	 * Returns a stream on the image contents. Returns null if a stream could
 	 * not be opened.
@@ -151,12 +178,7 @@ class URLImageDescriptor extends ImageDescriptor {
 		}
 
 		try {
-			if (InternalPolicy.OSGI_AVAILABLE) {
-				URL platformURL = FileLocator.find(url);
-				if (platformURL != null) {
-					url = platformURL;
-				}
-			}
+			url = getPlatformURL(url);
 			return new BufferedInputStream(url.openStream());
 		} catch (IOException e) {
 			if (InternalPolicy.DEBUG_LOG_URL_IMAGE_DESCRIPTOR_MISSING_2x) {
@@ -259,7 +281,9 @@ class URLImageDescriptor extends ImageDescriptor {
 		try {
 
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
-				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+				// Images loaded by file name bypass the decoded image cache, which
+				// is only open if a client turned it on
+				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY && !ImageDataCache.isOpen()) {
 					try {
 						return new Image(device, new URLImageFileNameProvider(url));
 					} catch (SWTException exception) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,17 @@
 
 package org.eclipse.jface.viewers;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.core.commands.common.EventManager;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.ResourceManager;
 import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * BaseLabelProvider is a default concrete implementation of
@@ -26,6 +35,18 @@ import org.eclipse.jface.util.SafeRunnable;
  */
 public class BaseLabelProvider extends EventManager implements IBaseLabelProvider {
 
+	/**
+	 * The elements waiting for images being created in the background, by
+	 * descriptor. null if empty.
+	 */
+	private Map<ImageDescriptor, Set<Object>> pendingElements;
+
+	/**
+	 * The elements whose images have been created since the last label provider
+	 * changed event. null if empty.
+	 */
+	private Set<Object> changedElements;
+
     @Override
 	public void addListener(ILabelProviderListener listener) {
         addListenerObject(listener);
@@ -39,6 +60,8 @@ public class BaseLabelProvider extends EventManager implements IBaseLabelProvide
     @Override
 	public void dispose() {
     	clearListeners();
+		pendingElements = null;
+		changedElements = null;
     }
 
     /**
@@ -78,4 +101,82 @@ public class BaseLabelProvider extends EventManager implements IBaseLabelProvide
 
 		}
 	}
+
+	/**
+	 * Returns the image of an element, creating it in the background if it has
+	 * not been created yet. Until then the placeholder is returned, and once it
+	 * has been created a label provider changed event is fired for the element,
+	 * so the viewer asks for the image again. The elements of all images created
+	 * together are updated by a single event.
+	 * <p>
+	 * The image is created by
+	 * {@link ResourceManager#createImageAsync(ImageDescriptor, Image, java.util.function.Consumer)}
+	 * and stays allocated until the resource manager is disposed. This method
+	 * must be called on the UI thread, typically from <code>getImage</code>.
+	 * </p>
+	 *
+	 * @param element
+	 *            the element to return the image of
+	 * @param descriptor
+	 *            the descriptor of the image
+	 * @param resourceManager
+	 *            the resource manager to create the image with
+	 * @param placeholder
+	 *            the image to return while the image is being created, may be
+	 *            <code>null</code>
+	 * @return the image, or the placeholder
+	 * @since 3.16
+	 */
+	protected Image getImageAsync(Object element, ImageDescriptor descriptor, ResourceManager resourceManager,
+			Image placeholder) {
+		Image image = (Image) resourceManager.find(descriptor);
+		if (image != null) {
+			return image;
+		}
+		if (!(resourceManager.getDevice() instanceof Display)) {
+			return resourceManager.createImageWithDefault(descriptor);
+		}
+		if (pendingElements == null) {
+			pendingElements = new HashMap<>();
+		}
+		Set<Object> elements = pendingElements.get(descriptor);
+		if (elements != null) {
+			elements.add(element);
+			return placeholder;
+		}
+		elements = new LinkedHashSet<>();
+		elements.add(element);
+		pendingElements.put(descriptor, elements);
+		image = resourceManager.createImageAsync(descriptor, placeholder, created -> imageCreated(descriptor));
+		if (resourceManager.find(descriptor) != null) {
+			// created right away, the callback is not run
+			pendingElements.remove(descriptor);
+			if (pendingElements.isEmpty()) {
+				pendingElements = null;
+			}
+		}
+		return image;
+	}
+
+	private void imageCreated(ImageDescriptor descriptor) {
+		Set<Object> elements = pendingElements == null ? null : pendingElements.remove(descriptor);
+		if (elements == null) {
+			return;
+		}
+		if (pendingElements.isEmpty()) {
+			pendingElements = null;
+		}
+		if (changedElements == null) {
+			changedElements = new LinkedHashSet<>();
+			// fire once all images handed back together have been created
+			Display.getCurrent().asyncExec(() -> {
+				Set<Object> changed = changedElements;
+				changedElements = null;
+				if (changed != null) {
+					fireLabelProviderChanged(new LabelProviderChangedEvent(this, changed.toArray()));
+				}
+			});
+		}
+		changedElements.addAll(elements);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -190,13 +190,11 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 
     @Override
 	public int hashCode() {
-		int code = System.identityHashCode(referenceImageOrDescriptor);
-        for (ImageDescriptor overlay : overlays) {
-            if (overlay != null) {
-				code ^= overlay.hashCode();
-			}
-        }
-        return code;
+		// consistent with equals for equal base descriptors, and telling
+		// apart the same overlay in different quadrants
+		int code = referenceImageOrDescriptor instanceof ImageDescriptor ? referenceImageOrDescriptor.hashCode()
+				: System.identityHashCode(referenceImageOrDescriptor);
+		return 31 * code + Arrays.hashCode(overlays);
     }
 
     @Override
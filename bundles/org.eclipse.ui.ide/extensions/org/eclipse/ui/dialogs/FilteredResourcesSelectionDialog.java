@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1077,6 +1077,18 @@ public class FilteredResourcesSelectionDialog extends
 			return false;
 		}
 
+		/**
+		 * Matching only reads the patterns of this filter and the resource, so
+		 * it is thread safe unless a subclass overrides
+		 * {@link #matchItem(Object)}.
+		 *
+		 * @see org.eclipse.ui.dialogs.FilteredItemsSelectionDialog.ItemsFilter#isConcurrentMatchingSupported()
+		 */
+		@Override
+		public boolean isConcurrentMatchingSupported() {
+			return getClass() == ResourceFilter.class;
+		}
+
 		/**
 		 * @param item
 		 *            Must be instance of IResource, otherwise
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -442,6 +442,13 @@ public class StringMatcher {
 				continue;
 			}
 			if (fIgnoreCase) {
+				if (tchar < 128 && pchar < 128) {
+					// ASCII only folds to ASCII, no need for the Unicode tables
+					if (toLowerCaseAscii(tchar) == toLowerCaseAscii(pchar)) {
+						continue;
+					}
+					return false;
+				}
 				if (Character.toUpperCase(tchar) == Character
 						.toUpperCase(pchar)) {
 					continue;
@@ -459,6 +466,10 @@ public class StringMatcher {
 		return true;
 	}
 
+	private static char toLowerCaseAscii(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
 	/**
 	 * @param text
 	 *            the string to match
@@ -485,7 +496,7 @@ public class StringMatcher {
 		}
 
 		for (int i = start; i <= max; ++i) {
-			if (text.regionMatches(true, i, p, 0, plen)) {
+			if (regExpRegionMatches(text, i, p, 0, plen)) {
 				return i;
 			}
 		}
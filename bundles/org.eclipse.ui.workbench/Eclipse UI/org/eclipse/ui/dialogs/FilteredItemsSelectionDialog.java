@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -36,6 +37,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.IHandler;
@@ -210,8 +212,6 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	private ItemsFilter currentlyCompletingFilter;
 
-	private List<Object> lastCompletedResult;
-
 	private ItemsFilter lastCompletedFilter;
 
 	private String initialPatternText;
@@ -2023,28 +2023,12 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			if (lastCompletedFilter != null
 					&& lastCompletedFilter.isSubFilter(this.itemsFilter)) {
 
-				int length = lastCompletedResult.size() / 500;
-				monitor
-						.beginTask(
-								WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName,
-								length);
-
-				for (int pos = 0; pos < lastCompletedResult.size(); pos++) {
-
-					Object item = lastCompletedResult.get(pos);
-					if (monitor.isCanceled())
-						break;
-					contentProvider.add(item, itemsFilter);
-
-					if ((pos % 500) == 0) {
-						monitor.worked(1);
-					}
-				}
+				contentProvider.addRefinedItems(itemsFilter, monitor);
 
 			} else {
 
 				lastCompletedFilter = null;
-				lastCompletedResult = null;
+				contentProvider.forgetResult();
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
 									WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
@@ -2404,6 +2388,20 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 */
 		public abstract boolean isConsistentItem(Object item);
 
+		/**
+		 * Returns whether {@link #matchItem(Object)} may be called concurrently
+		 * from several threads. If <code>true</code>, refining the results of
+		 * a previous search matches the cached items in parallel. The default
+		 * implementation returns <code>false</code>.
+		 *
+		 * @return <code>true</code> if <code>matchItem</code> is thread safe,
+		 *         <code>false</code> otherwise
+		 * @since 3.113
+		 */
+		public boolean isConcurrentMatchingSupported() {
+			return false;
+		}
+
 	}
 
 	/**
@@ -2491,6 +2489,33 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 */
 		private boolean reset;
 
+		/**
+		 * The items of the last completed search, i.e. the result for
+		 * <code>lastCompletedFilter</code>, in the order shown for it: items
+		 * named like <code>completedPattern</code> first, then sorted by
+		 * history and {@link FilteredItemsSelectionDialog#getItemsComparator()}.
+		 * Refined results are taken over in that order without sorting them
+		 * again.
+		 */
+		private Object[] completedItems;
+
+		private String completedPattern;
+
+		/**
+		 * Whether the history changed since <code>completedItems</code> was
+		 * sorted.
+		 */
+		private volatile boolean completedItemsOrderValid;
+
+		/**
+		 * The filter of the last refinement of <code>completedItems</code> and
+		 * the indices of the items it matched. A further refinement only
+		 * checks these items.
+		 */
+		private ItemsFilter lastRefinedFilter;
+
+		private BitSet lastRefinedMatches;
+
 		/**
 		 * Creates new instance of <code>ContentProvider</code>.
 		 */
@@ -2555,6 +2580,116 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 		}
 
+		/**
+		 * Adds the items of the last completed search that match the given
+		 * filter, which must be a sub-filter of the last completed filter.
+		 * Matching is done on the items matched by the previous refinement if
+		 * the filter refines it, and in parallel if the filter
+		 * {@link ItemsFilter#isConcurrentMatchingSupported() supports it}.
+		 * The matches are added in their final order, so they don't need to be
+		 * sorted again.
+		 *
+		 * @param itemsFilter
+		 *            the filter
+		 * @param monitor
+		 *            progress monitor
+		 */
+		public void addRefinedItems(ItemsFilter itemsFilter, IProgressMonitor monitor) {
+			Object[] cached = completedItems;
+			if (cached == null) {
+				return;
+			}
+			BitSet candidates = null;
+			ItemsFilter refinedFilter = lastRefinedFilter;
+			if (refinedFilter != null && lastRefinedMatches != null && refinedFilter.isSubFilter(itemsFilter)) {
+				candidates = lastRefinedMatches;
+			}
+			SubMonitor subMonitor = SubMonitor.convert(monitor,
+					WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, 100);
+			BitSet matches = matchItems(cached, candidates, itemsFilter, subMonitor.split(90));
+			if (matches == null || itemsFilter != filter) {
+				return;
+			}
+			lastRefinedFilter = itemsFilter;
+			lastRefinedMatches = matches;
+
+			// perfect matches first, see HistoryComparator
+			String pattern = itemsFilter.getPattern();
+			List<Object> sorted = new ArrayList<>(matches.cardinality());
+			List<Object> rest = new ArrayList<>(matches.cardinality());
+			List<Object> formerPerfectMatches = new ArrayList<>();
+			for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+				Object item = cached[i];
+				String name = getElementName(item);
+				if (pattern.equals(name)) {
+					sorted.add(item);
+				} else if (completedPattern != null && completedPattern.equals(name)) {
+					formerPerfectMatches.add(item);
+				} else {
+					rest.add(item);
+				}
+			}
+			// the few items sorted first for the completed pattern go back to
+			// their regular place
+			if (!formerPerfectMatches.isEmpty()) {
+				Comparator<Object> comparator = new HistoryComparator(null);
+				for (Object item : formerPerfectMatches) {
+					int index = Collections.binarySearch(rest, item, comparator);
+					rest.add(index < 0 ? -index - 1 : index, item);
+				}
+			}
+			sorted.addAll(rest);
+			synchronized (lastSortedItems) {
+				items.addAll(sorted);
+				// history items not in the cache need a full sort
+				if (completedItemsOrderValid && items.size() == sorted.size()) {
+					lastSortedItems.clear();
+					lastSortedItems.addAll(sorted);
+				}
+			}
+			subMonitor.worked(10);
+		}
+
+		/**
+		 * Matches the given items (or only the candidates among them) against
+		 * the filter.
+		 *
+		 * @return the indices of the matching items, or <code>null</code> if
+		 *         canceled
+		 */
+		private BitSet matchItems(Object[] cached, BitSet candidates, ItemsFilter itemsFilter,
+				IProgressMonitor monitor) {
+			int size = cached.length;
+			// each chunk owns whole 64 bit words of the result, so chunks can
+			// be matched concurrently without synchronization
+			long[] words = new long[(size + 63) / 64];
+			int chunkWords = 64;
+			int chunkCount = (words.length + chunkWords - 1) / chunkWords;
+			IntStream chunks = IntStream.range(0, chunkCount);
+			if (itemsFilter.isConcurrentMatchingSupported() && chunkCount > 1) {
+				chunks = chunks.parallel();
+			}
+			chunks.forEach(chunk -> {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				int from = chunk * chunkWords * 64;
+				int to = Math.min(size, from + chunkWords * 64);
+				int i = candidates == null ? from : candidates.nextSetBit(from);
+				while (i >= 0 && i < to) {
+					if (itemsFilter.matchItem(cached[i])) {
+						words[i >> 6] |= 1L << i;
+					}
+					i = candidates == null ? i + 1 : candidates.nextSetBit(i + 1);
+				}
+			});
+			if (monitor.isCanceled()) {
+				return null;
+			}
+			monitor.done();
+			return BitSet.valueOf(words);
+		}
+
 		/**
 		 * Add all history items to <code>contentProvider</code>.
 		 *
@@ -2597,6 +2732,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		public Object removeHistoryElement(Object item) {
 			if (this.selectionHistory != null)
 				this.selectionHistory.remove(item);
+			completedItemsOrderValid = false;
 			if (filter == null || filter.getPattern().length() == 0) {
 				items.remove(item);
 				duplicates.remove(item);
@@ -2618,6 +2754,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		public void addHistoryElement(Object item) {
 			if (this.selectionHistory != null)
 				this.selectionHistory.accessed(item);
+			completedItemsOrderValid = false;
 			if (filter == null || !filter.matchItem(item)) {
 				this.items.remove(item);
 				this.duplicates.remove(item);
@@ -2715,16 +2852,36 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 * @param itemsFilter
 		 */
 		public void rememberResult(ItemsFilter itemsFilter) {
-			List<Object> itemsList = Collections.synchronizedList(Arrays
-					.asList(getSortedItems()));
 			// synchronization
 			if (itemsFilter == filter) {
+				// sorted in the order shown for the filter, so that the
+				// following refresh takes it over from lastSortedItems
+				Object[] sorted = items.toArray();
+				Arrays.sort(sorted, new HistoryComparator(itemsFilter.getPattern()));
+				synchronized (lastSortedItems) {
+					lastSortedItems.clear();
+					lastSortedItems.addAll(Arrays.asList(sorted));
+				}
 				lastCompletedFilter = itemsFilter;
-				lastCompletedResult = itemsList;
+				completedItems = sorted;
+				completedPattern = itemsFilter.getPattern();
+				completedItemsOrderValid = true;
+				lastRefinedFilter = null;
+				lastRefinedMatches = null;
 			}
 
 		}
 
+		/**
+		 * Forgets the result of the last completed search.
+		 */
+		public void forgetResult() {
+			completedItems = null;
+			completedPattern = null;
+			lastRefinedFilter = null;
+			lastRefinedMatches = null;
+		}
+
 		@Override
 		public Object[] getElements(Object inputElement) {
 			return lastFilteredItems.toArray();
@@ -3074,12 +3231,17 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		final Comparator<Object> itemsComparator;
 
 		HistoryComparator(){
+			this(currentlyCompletingFilter != null ? currentlyCompletingFilter.getPattern() : null);
+		}
+
+		/**
+		 * @param filterPattern
+		 *            items named like this pattern are sorted first, may be
+		 *            <code>null</code>
+		 */
+		HistoryComparator(String filterPattern) {
 			itemsComparator = getItemsComparator();
-			if (currentlyCompletingFilter != null) {
-				filterPattern = currentlyCompletingFilter.getPattern();
-			} else {
-				filterPattern = null;
-			}
+			this.filterPattern = filterPattern;
 		}
 
 		@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
@@ -186,6 +187,25 @@ public class FilteredTree extends Composite {
 	 */
 	private static final long SOFT_MAX_EXPAND_TIME = 200;
 
+	/**
+	 * Minimum time between two updates of the tree while the filter is
+	 * computed in the background
+	 */
+	private static final long BACKGROUND_UPDATE_INTERVAL = 100;
+
+	/**
+	 * Whether the filter is computed in a background job.
+	 */
+	private boolean backgroundFiltering = false;
+
+	private Job backgroundFilterJob;
+
+	/**
+	 * The filter text the background job has finished computing the filter
+	 * for, if the refresh job has not run since.
+	 */
+	private String backgroundFilteredText;
+
 	/**
 	 * Get image descriptors for the clear button.
 	 */
@@ -412,7 +432,12 @@ public class FilteredTree extends Composite {
 		treeViewer = doCreateTreeViewer(parent, style);
 		GridData data = new GridData(SWT.FILL, SWT.FILL, true, true);
 		treeViewer.getControl().setLayoutData(data);
-		treeViewer.getControl().addDisposeListener(e -> refreshJob.cancel());
+		treeViewer.getControl().addDisposeListener(e -> {
+			refreshJob.cancel();
+			if (backgroundFilterJob != null) {
+				backgroundFilterJob.cancel();
+			}
+		});
 		if (treeViewer instanceof NotifyingTreeViewer) {
 			patternFilter.setUseCache(true);
 		}
@@ -487,10 +512,19 @@ public class FilteredTree extends Composite {
 
 				boolean initial = initialText != null
 						&& initialText.equals(text);
-				if (initial) {
-					patternFilter.setPattern(null);
-				} else if (text != null) {
-					patternFilter.setPattern(text);
+				// the background job has already set the pattern
+				boolean computed = text.equals(backgroundFilteredText);
+				backgroundFilteredText = null;
+				if (!computed) {
+					if (initial) {
+						patternFilter.setPattern(null);
+					} else if (text != null) {
+						patternFilter.setPattern(text);
+						if (text.length() > 0 && isBackgroundFilteringActive()) {
+							startBackgroundFiltering(text);
+							return Status.OK_STATUS;
+						}
+					}
 				}
 
 				Control redrawFalseControl = treeComposite != null ? treeComposite
@@ -511,7 +545,13 @@ public class FilteredTree extends Composite {
 							}
 						}
 					}
-					treeViewer.refresh(true);
+					if (treeViewer instanceof NotifyingTreeViewer) {
+						// the caches have been reset when the pattern was set,
+						// keep what has been reused or computed in the background
+						((NotifyingTreeViewer) treeViewer).refreshFiltered();
+					} else {
+						treeViewer.refresh(true);
+					}
 
 					if (text.length() > 0 && !initial) {
 						/*
@@ -602,6 +642,55 @@ public class FilteredTree extends Composite {
 		};
 	}
 
+	/**
+	 * Answers whether the filter can be computed in the background: it has to
+	 * be enabled and the pattern filter has to cache its results.
+	 */
+	private boolean isBackgroundFilteringActive() {
+		return backgroundFiltering && treeViewer instanceof NotifyingTreeViewer
+				&& treeViewer.getContentProvider() instanceof ITreeContentProvider;
+	}
+
+	/**
+	 * Computes the filter for the given text in a background job. The tree is
+	 * updated with the visible elements found so far while the job runs, and
+	 * the refresh job is scheduled again once it is done.
+	 *
+	 * @param text
+	 *            the filter text, already set as pattern
+	 */
+	private void startBackgroundFiltering(final String text) {
+		final NotifyingTreeViewer viewer = (NotifyingTreeViewer) treeViewer;
+		final Object input = viewer.getInput();
+		final Display display = getDisplay();
+		final PatternFilter.BackgroundRun run = patternFilter.startBackgroundFiltering();
+		backgroundFilterJob = Job.createSystem("Filter Tree", (IProgressMonitor monitor) -> { //$NON-NLS-1$
+			long[] lastUpdate = { System.currentTimeMillis() };
+			Runnable subtreeDone = () -> {
+				long now = System.currentTimeMillis();
+				if (now - lastUpdate[0] >= BACKGROUND_UPDATE_INTERVAL && !display.isDisposed()) {
+					lastUpdate[0] = now;
+					display.asyncExec(() -> {
+						if (!viewer.getControl().isDisposed() && patternFilter.isCurrent(run)) {
+							viewer.refreshFiltered();
+						}
+					});
+				}
+			};
+			if (patternFilter.computeInBackground(viewer, input, run, monitor, subtreeDone)
+					&& !display.isDisposed()) {
+				display.asyncExec(() -> {
+					if (!viewer.getControl().isDisposed() && patternFilter.finishBackgroundFiltering(run)
+							&& text.equals(getFilterString())) {
+						backgroundFilteredText = text;
+						refreshJob.schedule();
+					}
+				});
+			}
+		});
+		backgroundFilterJob.schedule();
+	}
+
 	protected void updateToolbar(boolean visible) {
 		if (clearButtonControl != null) {
 			clearButtonControl.setVisible(visible);
@@ -826,6 +915,10 @@ public class FilteredTree extends Composite {
 		previousFilterText = getFilterString();
 		// cancel currently running job first, to prevent unnecessary redraw
 		refreshJob.cancel();
+		if (backgroundFilterJob != null) {
+			backgroundFilterJob.cancel();
+		}
+		backgroundFilteredText = null;
 		refreshJob.schedule(getRefreshJobDelay());
 	}
 
@@ -1014,6 +1107,25 @@ public class FilteredTree extends Composite {
 		return patternFilter;
 	}
 
+	/**
+	 * Sets whether the pattern filter is computed in a background job. When
+	 * enabled, typing in the filter text does not wait until the whole tree
+	 * has been filtered; matching elements are shown as the subtrees of the
+	 * root elements are done. The content provider, the label provider and the
+	 * pattern filter must be safe to call from a background thread.
+	 * <p>
+	 * This only applies to the tree viewer created by default, see
+	 * {@link #doCreateTreeViewer(Composite, int)}.
+	 * </p>
+	 *
+	 * @param enabled
+	 *            <code>true</code> to compute the filter in the background
+	 * @since 3.113
+	 */
+	public void setBackgroundFiltering(boolean enabled) {
+		backgroundFiltering = enabled;
+	}
+
 	/**
 	 * Get the tree viewer of the receiver.
 	 *
@@ -1168,6 +1280,14 @@ public class FilteredTree extends Composite {
 			super(parent, style);
 		}
 
+		/**
+		 * Refreshes the tree with the current pattern filter, without clearing
+		 * its caches.
+		 */
+		void refreshFiltered() {
+			preservingSelection(() -> internalRefresh(getRoot(), true));
+		}
+
 		@Override
 		public void add(Object parentElementOrTreePath, Object childElement) {
 			getPatternFilter().clearCaches();
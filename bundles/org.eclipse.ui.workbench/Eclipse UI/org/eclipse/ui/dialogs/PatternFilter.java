@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,14 @@
  *******************************************************************************/
 package org.eclipse.ui.dialogs;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ContentViewer;
 import org.eclipse.jface.viewers.ILabelProvider;
@@ -36,15 +42,75 @@ import org.eclipse.ui.internal.misc.StringMatcher;
  * @since 3.2
  */
 public class PatternFilter extends ViewerFilter {
-	/*
-	 * Cache of filtered elements in the tree
+	/**
+	 * The caches of the filter for one pattern.
+	 */
+	private static final class Caches {
+		/*
+		 * Cache of filtered elements in the tree
+		 */
+		final Map cache = Collections.synchronizedMap(new HashMap());
+
+		/*
+		 * Maps parent elements to TRUE or FALSE
+		 */
+		final Map foundAnyCache = Collections.synchronizedMap(new HashMap());
+
+		/*
+		 * Elements that are not visible for the pattern. Kept when the pattern
+		 * is refined, see isNarrowingRefinementSupported().
+		 */
+		final Set<Object> hiddenElements;
+
+		Caches(Set<Object> hiddenElements) {
+			this.hiddenElements = hiddenElements;
+		}
+	}
+
+	/**
+	 * A run computing the filter in the background. It has its own matcher,
+	 * caches and results, so that a run that is out of date never mixes results
+	 * of its pattern into the caches of the filter. They are published to the
+	 * filter only if the run is still current when it is done.
 	 */
-    private Map cache = new HashMap();
+	/* package */ static final class BackgroundRun {
+		private final StringMatcher matcher;
+
+		private final Caches caches;
+
+		/*
+		 * Maps the elements computed so far to TRUE or FALSE
+		 */
+		private final Map<Object, Boolean> results = new ConcurrentHashMap<>();
+
+		/*
+		 * Set in the UI thread once the caches have been published
+		 */
+		private boolean done;
+
+		private BackgroundRun(StringMatcher matcher, Caches caches) {
+			this.matcher = matcher;
+			this.caches = caches;
+		}
+	}
+
+	private Caches caches = new Caches(newHiddenElements());
+
+    /*
+     * The pattern string the caches have been computed for
+     */
+    private String currentPattern;
+
+    /*
+     * The background run computing the filter for the current pattern, or
+     * null if the filter is not computed in the background
+     */
+    private volatile BackgroundRun backgroundRun;
 
     /*
-     * Maps parent elements to TRUE or FALSE
+     * The run the current thread is computing in the background, if any
      */
-    private Map foundAnyCache = new HashMap();
+    private static final ThreadLocal<BackgroundRun> runOfThread = new ThreadLocal<>();
 
     private boolean useCache = false;
 
@@ -68,7 +134,7 @@ public class PatternFilter extends ViewerFilter {
     	// we don't want to optimize if we've extended the filter ... this
     	// needs to be addressed in 3.4
     	// https://bugs.eclipse.org/bugs/show_bug.cgi?id=186404
-        if (matcher == null && useEarlyReturnIfMatcherIsNull) {
+        if (getMatcher() == null && useEarlyReturnIfMatcherIsNull) {
 			return elements;
 		}
 
@@ -76,15 +142,22 @@ public class PatternFilter extends ViewerFilter {
         	return super.filter(viewer, parent, elements);
         }
 
-        Object[] filtered = (Object[]) cache.get(parent);
+        BackgroundRun ownRun = runOfThread.get();
+        BackgroundRun run = backgroundRun;
+        if (run != null && ownRun == null) {
+        	return filterComputed(viewer, elements, run);
+        }
+
+        Caches c = ownRun == null ? caches : ownRun.caches;
+        Object[] filtered = (Object[]) c.cache.get(parent);
         if (filtered == null) {
-        	Boolean foundAny = (Boolean) foundAnyCache.get(parent);
+        	Boolean foundAny = (Boolean) c.foundAnyCache.get(parent);
         	if (foundAny != null && !foundAny.booleanValue()) {
         		filtered = EMPTY;
         	} else {
         		filtered = super.filter(viewer, parent, elements);
         	}
-            cache.put(parent, filtered);
+            c.cache.put(parent, filtered);
         }
         return filtered;
     }
@@ -100,7 +173,7 @@ public class PatternFilter extends ViewerFilter {
      * @return true if any of the elements makes it through the filter.
      */
     private boolean isAnyVisible(Viewer viewer, Object parent, Object[] elements) {
-    	if (matcher == null) {
+    	if (getMatcher() == null) {
     		return true;
     	}
 
@@ -108,14 +181,21 @@ public class PatternFilter extends ViewerFilter {
     		return computeAnyVisible(viewer, elements);
     	}
 
-    	Object[] filtered = (Object[]) cache.get(parent);
+    	BackgroundRun ownRun = runOfThread.get();
+    	BackgroundRun run = backgroundRun;
+    	if (run != null && ownRun == null) {
+    		return filterComputed(viewer, elements, run).length > 0;
+    	}
+
+    	Caches c = ownRun == null ? caches : ownRun.caches;
+    	Object[] filtered = (Object[]) c.cache.get(parent);
     	if (filtered != null) {
     		return filtered.length > 0;
     	}
-    	Boolean foundAny = (Boolean) foundAnyCache.get(parent);
+    	Boolean foundAny = (Boolean) c.foundAnyCache.get(parent);
     	if (foundAny == null) {
     		foundAny = computeAnyVisible(viewer, elements) ? Boolean.TRUE : Boolean.FALSE;
-    		foundAnyCache.put(parent, foundAny);
+    		c.foundAnyCache.put(parent, foundAny);
     	}
     	return foundAny.booleanValue();
     }
@@ -131,15 +211,54 @@ public class PatternFilter extends ViewerFilter {
 		boolean elementFound = false;
 		for (int i = 0; i < elements.length && !elementFound; i++) {
 			Object element = elements[i];
-			elementFound = isElementVisible(viewer, element);
+			elementFound = isVisible(viewer, element);
 		}
 		return elementFound;
 	}
 
+	/**
+	 * Filters the elements with the results of a background run. While the run
+	 * is in progress, elements that have not been computed yet are hidden.
+	 */
+	private Object[] filterComputed(Viewer viewer, Object[] elements, BackgroundRun run) {
+		ArrayList<Object> filtered = new ArrayList<>(elements.length);
+		for (Object element : elements) {
+			Boolean visible = run.results.get(element);
+			if (visible == null && run.done) {
+				visible = Boolean.valueOf(isVisible(viewer, element));
+				run.results.put(element, visible);
+			}
+			if (visible != null && visible.booleanValue()) {
+				filtered.add(element);
+			}
+		}
+		return filtered.toArray();
+	}
+
+	/**
+	 * Answers whether the given element is visible, remembering hidden elements
+	 * if caching is enabled.
+	 */
+	private boolean isVisible(Viewer viewer, Object element) {
+		if (!useCache) {
+			return isElementVisible(viewer, element);
+		}
+		BackgroundRun ownRun = runOfThread.get();
+		Set<Object> hiddenElements = ownRun == null ? caches.hiddenElements : ownRun.caches.hiddenElements;
+		if (hiddenElements.contains(element)) {
+			return false;
+		}
+		boolean visible = isElementVisible(viewer, element);
+		if (!visible) {
+			hiddenElements.add(element);
+		}
+		return visible;
+	}
+
     @Override
 	public final boolean select(Viewer viewer, Object parentElement,
 			Object element) {
-        return isElementVisible(viewer, element);
+        return isVisible(viewer, element);
     }
 
     /**
@@ -152,6 +271,8 @@ public class PatternFilter extends ViewerFilter {
 	public final void setIncludeLeadingWildcard(
 			final boolean includeLeadingWildcard) {
 		this.includeLeadingWildcard = includeLeadingWildcard;
+		// hidden elements may match with a leading wildcard
+		currentPattern = null;
 	}
 
     /**
@@ -170,7 +291,8 @@ public class PatternFilter extends ViewerFilter {
     		useEarlyReturnIfMatcherIsNull = false;
     		return;
     	}
-        clearCaches();
+        resetCaches(isRefinement(patternString) ? caches.hiddenElements : newHiddenElements());
+        currentPattern = patternString;
         if (patternString == null || patternString.equals("")) { //$NON-NLS-1$
 			matcher = null;
 		} else {
@@ -189,10 +311,168 @@ public class PatternFilter extends ViewerFilter {
 	 * the tree content changes.
 	 */
 	/* package */ void clearCaches() {
-		cache.clear();
-        foundAnyCache.clear();
+		resetCaches(newHiddenElements());
+	}
+
+	/**
+	 * Replaces the caches of this filter and drops the current background run.
+	 * The caches of a run that is still computing are never touched.
+	 *
+	 * @param hiddenElements the elements known to be hidden for the new caches
+	 */
+	private void resetCaches(Set<Object> hiddenElements) {
+		caches = new Caches(hiddenElements);
+		backgroundRun = null;
+	}
+
+	private static Set<Object> newHiddenElements() {
+		return Collections.synchronizedSet(new HashSet<>());
 	}
 
+	/**
+	 * Answers whether the given pattern string only narrows down the current
+	 * one, so that elements hidden for the current pattern stay hidden.
+	 *
+	 * @param patternString the new pattern string
+	 * @return <code>true</code> if the hidden elements can be kept
+	 */
+	private boolean isRefinement(String patternString) {
+		String pattern = currentPattern;
+		if (!useCache || pattern == null || pattern.isEmpty() || patternString == null
+				|| !patternString.startsWith(pattern) || !isNarrowingRefinementSupported()) {
+			return false;
+		}
+		// no trailing wildcard is added after a blank, and a trailing
+		// backslash escapes what is typed next
+		char last = pattern.charAt(pattern.length() - 1);
+		return !Character.isWhitespace(last) && last != '\\';
+	}
+
+	/**
+	 * Returns whether elements that are not visible for a pattern are not
+	 * visible for any pattern starting with it either. If so, elements hidden
+	 * for a pattern are not matched again while the user types more
+	 * characters. This holds for the matching done by this class, as all words
+	 * of a refined pattern have to match as well.
+	 * <p>
+	 * The default implementation returns <code>true</code> for this class and
+	 * <code>false</code> for subclasses, which may override this method if
+	 * their matching narrows down when the pattern is refined.
+	 * </p>
+	 *
+	 * @return <code>true</code> if hidden elements can be kept when the pattern
+	 *         is refined
+	 * @since 3.113
+	 */
+	protected boolean isNarrowingRefinementSupported() {
+		return getClass() == PatternFilter.class;
+	}
+
+	/**
+	 * Starts a background run computing this filter for the current pattern.
+	 * Until it is done, the viewer only shows the elements known to be visible.
+	 * Called in the UI thread.
+	 *
+	 * @return the run
+	 */
+	/* package */ BackgroundRun startBackgroundFiltering() {
+		Set<Object> hiddenElements = newHiddenElements();
+		hiddenElements.addAll(caches.hiddenElements);
+		BackgroundRun run = new BackgroundRun(matcher, new Caches(hiddenElements));
+		backgroundRun = run;
+		return run;
+	}
+
+	/**
+	 * Answers whether the given background run is still used by this filter,
+	 * that is, neither the pattern nor the tree have changed.
+	 *
+	 * @param run the run
+	 * @return <code>true</code> if the run is current
+	 */
+	/* package */ boolean isCurrent(BackgroundRun run) {
+		return backgroundRun == run;
+	}
+
+	/**
+	 * Publishes the caches of the given background run, which computed all
+	 * elements, to this filter if the run is still current. Called in the UI
+	 * thread.
+	 *
+	 * @param run the run
+	 * @return <code>true</code> if the run is current
+	 */
+	/* package */ boolean finishBackgroundFiltering(BackgroundRun run) {
+		if (!isCurrent(run)) {
+			return false;
+		}
+		caches = run.caches;
+		run.done = true;
+		return true;
+	}
+
+	/**
+	 * Computes the visibility of the root elements of the given input and,
+	 * recursively, of the children of visible elements. Called from a
+	 * background job.
+	 *
+	 * @param viewer the viewer
+	 * @param input the input of the viewer
+	 * @param run the run, see startBackgroundFiltering()
+	 * @param monitor the monitor used to cancel the run
+	 * @param subtreeDone called after the subtree of each root element is done
+	 * @return <code>true</code> if all elements have been computed,
+	 *         <code>false</code> if the run was canceled or is out of date
+	 */
+	/* package */ boolean computeInBackground(AbstractTreeViewer viewer, Object input, BackgroundRun run,
+			IProgressMonitor monitor, Runnable subtreeDone) {
+		ITreeContentProvider contentProvider = (ITreeContentProvider) viewer.getContentProvider();
+		runOfThread.set(run);
+		try {
+			Object[] elements = contentProvider.getElements(input);
+			if (elements != null) {
+				for (Object element : elements) {
+					if (!computeVisibility(viewer, contentProvider, element, run, monitor)) {
+						return false;
+					}
+					subtreeDone.run();
+				}
+			}
+			return isCurrent(run);
+		} finally {
+			runOfThread.remove();
+		}
+	}
+
+	private boolean computeVisibility(Viewer viewer, ITreeContentProvider contentProvider, Object element,
+			BackgroundRun run, IProgressMonitor monitor) {
+		if (monitor.isCanceled() || !isCurrent(run)) {
+			return false;
+		}
+		boolean visible = isVisible(viewer, element);
+		run.results.put(element, Boolean.valueOf(visible));
+		if (visible) {
+			Object[] children = contentProvider.getChildren(element);
+			if (children != null) {
+				for (Object child : children) {
+					if (!computeVisibility(viewer, contentProvider, child, run, monitor)) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+    /**
+     * Returns the matcher for the current pattern, or, while computing in the
+     * background, for the pattern the run was started for.
+     */
+    private StringMatcher getMatcher() {
+    	BackgroundRun ownRun = runOfThread.get();
+    	return ownRun == null ? matcher : ownRun.matcher;
+    }
+
     /**
      * Answers whether the given String matches the pattern.
      *
@@ -201,10 +481,11 @@ public class PatternFilter extends ViewerFilter {
      * @return whether the string matches the pattern
      */
     private boolean match(String string) {
-    	if (matcher == null) {
+    	StringMatcher m = getMatcher();
+    	if (m == null) {
 			return true;
 		}
-        return matcher.match(string);
+        return m.match(string);
     }
 
     /**
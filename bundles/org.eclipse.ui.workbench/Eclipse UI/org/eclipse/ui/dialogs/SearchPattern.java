@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,12 @@ public class SearchPattern {
 
 	private StringMatcher stringMatcher;
 
+	/**
+	 * The lower case characters of the string pattern, used for the prefix
+	 * match.
+	 */
+	private char[] lowerCasePattern;
+
 	private static final char END_SYMBOL = '<';
 
 	private static final char ANY_STRING = '*';
@@ -162,6 +168,10 @@ public class SearchPattern {
 		if (matchRule == RULE_PATTERN_MATCH) {
 			stringMatcher = new StringMatcher(this.stringPattern, true, false);
 		}
+		lowerCasePattern = new char[this.stringPattern.length()];
+		for (int i = 0; i < lowerCasePattern.length; i++) {
+			lowerCasePattern[i] = Character.toLowerCase(this.stringPattern.charAt(i));
+		}
 	}
 
 	/**
@@ -184,7 +194,7 @@ public class SearchPattern {
 			}
 			//$FALL-THROUGH$
 			default:
-			return startsWithIgnoreCase(text, stringPattern);
+			return startsWithIgnoreCase(text);
 		}
 	}
 
@@ -232,18 +242,24 @@ public class SearchPattern {
 
 	/**
 	 * @param text
-	 * @param prefix
-	 * @return true if text starts with given prefix, ignoring case false in
-	 *         other way
+	 * @return true if text starts with the string pattern, ignoring case false
+	 *         in other way
 	 */
-	private boolean startsWithIgnoreCase(String text, String prefix) {
-		int textLength = text.length();
-		int prefixLength = prefix.length();
-		if (textLength < prefixLength)
+	private boolean startsWithIgnoreCase(String text) {
+		char[] prefix = lowerCasePattern;
+		if (text.length() < prefix.length)
 			return false;
-		for (int i = prefixLength - 1; i >= 0; i--) {
-			if (Character.toLowerCase(prefix.charAt(i)) != Character
-					.toLowerCase(text.charAt(i)))
+		for (int i = prefix.length - 1; i >= 0; i--) {
+			char c = text.charAt(i);
+			if (c < 128) {
+				// ASCII fast path
+				if (c >= 'A' && c <= 'Z') {
+					c += 'a' - 'A';
+				}
+			} else {
+				c = Character.toLowerCase(c);
+			}
+			if (c != prefix[i])
 				return false;
 		}
 		return true;
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.WorkbenchException;
+import org.eclipse.ui.XMLMemento;
+
+/**
+ * The saved state of an editor or an editor input that is not instantiated,
+ * kept as the XML text of its memento.
+ * <p>
+ * A memento taken from a larger one, like the children of the restored
+ * workbench state, keeps the DOM of the whole document reachable. Keeping the
+ * text instead retains only the state itself, and identical states, like the
+ * same input closed in several editors or saved in several history entries,
+ * share a single string.
+ * </p>
+ */
+public final class CompactMemento {
+
+	/**
+	 * The canonical instances of the texts of all compact mementos, weakly
+	 * referenced so unused texts can be collected
+	 */
+	private static final Map<String, WeakReference<String>> pool = new WeakHashMap<>();
+
+	private final String text;
+
+	/**
+	 * The memento itself, only kept if its text could not be written
+	 */
+	private final IMemento memento;
+
+	private CompactMemento(String text, IMemento memento) {
+		this.text = text;
+		this.memento = memento;
+	}
+
+	/**
+	 * Creates a compact copy of the given memento.
+	 *
+	 * @param memento
+	 *            the memento to copy
+	 * @return the compact copy, keeping the memento itself if it could not be
+	 *         written
+	 */
+	public static CompactMemento create(IMemento memento) {
+		XMLMemento xmlMemento;
+		if (memento instanceof XMLMemento) {
+			xmlMemento = (XMLMemento) memento;
+		} else {
+			xmlMemento = XMLMemento.createWriteRoot(memento.getType());
+			xmlMemento.putMemento(memento);
+		}
+		StringWriter writer = new StringWriter();
+		try {
+			xmlMemento.save(writer);
+		} catch (IOException e) {
+			WorkbenchPlugin.log(e);
+			return new CompactMemento(null, memento);
+		}
+		return new CompactMemento(intern(writer.toString()), null);
+	}
+
+	/**
+	 * Reads the memento from its text. Every call returns a new memento,
+	 * unless the text could not be written.
+	 *
+	 * @return the memento, or <code>null</code> if it could not be read
+	 */
+	public IMemento getMemento() {
+		if (text == null) {
+			return memento;
+		}
+		try {
+			return XMLMemento.createReadRoot(new StringReader(text));
+		} catch (WorkbenchException e) {
+			WorkbenchPlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Counts how many of the given mementos share each text.
+	 *
+	 * @param mementos
+	 *            the mementos, may contain <code>null</code>
+	 * @return the number of sharers of each text, for {@link #getSize(Map)}
+	 */
+	public static Map<Object, Integer> countSharers(Iterable<CompactMemento> mementos) {
+		Map<Object, Integer> sharers = new IdentityHashMap<>();
+		for (CompactMemento compact : mementos) {
+			if (compact != null) {
+				sharers.merge(compact.getShared(), Integer.valueOf(1),
+						(a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+			}
+		}
+		return sharers;
+	}
+
+	/**
+	 * Returns the estimated heap size retained by this memento. A text shared
+	 * by several of the mementos the sharers have been counted for is split
+	 * evenly among them, so that their sizes add up to the size of the text
+	 * counted once.
+	 *
+	 * @param sharers
+	 *            the number of sharers of each text, see
+	 *            {@link #countSharers(Iterable)}
+	 * @return the size in bytes
+	 */
+	public long getSize(Map<Object, Integer> sharers) {
+		// object header and fields
+		long size = 24;
+		if (text != null) {
+			Integer count = sharers.get(text);
+			// string and character array headers and fields
+			size += (40 + 2L * text.length()) / (count == null ? 1 : Math.max(1, count.intValue()));
+		}
+		return size;
+	}
+
+	/**
+	 * @return the object shared by identical mementos
+	 */
+	private Object getShared() {
+		return text == null ? memento : text;
+	}
+
+	/**
+	 * @return the number of distinct texts of compact mementos in memory
+	 */
+	public static int getPooledCount() {
+		synchronized (pool) {
+			return pool.size();
+		}
+	}
+
+	private static String intern(String text) {
+		synchronized (pool) {
+			WeakReference<String> reference = pool.get(text);
+			String pooled = reference == null ? null : reference.get();
+			if (pooled != null) {
+				return pooled;
+			}
+			pool.put(text, new WeakReference<>(text));
+			return text;
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof CompactMemento)) {
+			return false;
+		}
+		CompactMemento other = (CompactMemento) obj;
+		return text == null ? memento == other.memento : text.equals(other.text);
+	}
+
+	@Override
+	public int hashCode() {
+		return text == null ? System.identityHashCode(memento) : text.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return text == null ? String.valueOf(memento) : text;
+	}
+}
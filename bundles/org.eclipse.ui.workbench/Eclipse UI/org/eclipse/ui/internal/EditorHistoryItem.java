@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,7 +35,16 @@ public class EditorHistoryItem {
 
     private IEditorDescriptor descriptor;
 
-    private IMemento memento;
+    /**
+     * The state of the item until it is restored
+     */
+    private CompactMemento memento;
+
+    private String name;
+
+    private String toolTipText;
+
+    private String factoryId;
 
     /**
      * Constructs a new item.
@@ -49,7 +58,11 @@ public class EditorHistoryItem {
      * Constructs a new item from a memento.
      */
     public EditorHistoryItem(IMemento memento) {
-        this.memento = memento;
+        this.memento = CompactMemento.create(memento);
+        // read what is needed to show and match the item until it is restored
+        this.name = memento.getString(IWorkbenchConstants.TAG_NAME);
+        this.toolTipText = memento.getString(IWorkbenchConstants.TAG_TOOLTIP);
+        this.factoryId = memento.getString(IWorkbenchConstants.TAG_FACTORY_ID);
     }
 
     /**
@@ -84,11 +97,8 @@ public class EditorHistoryItem {
     public String getName() {
         if (isRestored() && getInput() != null) {
             return getInput().getName();
-        } else if (memento != null) {
-            String name = memento.getString(IWorkbenchConstants.TAG_NAME);
-            if (name != null) {
-                return name;
-            }
+        } else if (memento != null && name != null) {
+            return name;
         }
         return ""; //$NON-NLS-1$
     }
@@ -100,11 +110,8 @@ public class EditorHistoryItem {
     public String getToolTipText() {
         if (isRestored() && getInput() != null) {
             return getInput().getToolTipText();
-        } else if (memento != null) {
-            String name = memento.getString(IWorkbenchConstants.TAG_TOOLTIP);
-            if (name != null) {
-                return name;
-            }
+        } else if (memento != null && toolTipText != null) {
+            return toolTipText;
         }
         return ""; //$NON-NLS-1$
     }
@@ -145,7 +152,7 @@ public class EditorHistoryItem {
                 }
             }
         } else if (memento != null) {
-            return memento.getString(IWorkbenchConstants.TAG_FACTORY_ID);
+            return factoryId;
         }
         return null;
     }
@@ -157,8 +164,14 @@ public class EditorHistoryItem {
         Assert.isTrue(!isRestored());
 
         IStatus result = Status.OK_STATUS;
-        IMemento memento = this.memento;
+        IMemento memento = this.memento.getMemento();
         this.memento = null;
+        name = null;
+        toolTipText = null;
+        factoryId = null;
+        if (memento == null) {
+            return result;
+        }
 
         String factoryId = memento
                 .getString(IWorkbenchConstants.TAG_FACTORY_ID);
@@ -209,7 +222,10 @@ public class EditorHistoryItem {
      */
     public IStatus saveState(IMemento memento) {
         if (!isRestored()) {
-            memento.putMemento(this.memento);
+            IMemento itemMemento = this.memento.getMemento();
+            if (itemMemento != null) {
+                memento.putMemento(itemMemento);
+            }
         } else if (input != null) {
 
             IPersistableElement persistable = input.getPersistable();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,7 +61,10 @@ public class EditorReference extends WorkbenchPartReference implements IEditorRe
 	private IEditorInput input;
 	private EditorDescriptor descriptor;
 	private final String descriptorId;
-	private final IMemento editorState;
+	/**
+	 * The state to restore the editor with, released once restored
+	 */
+	private IMemento editorState;
 	private final String factoryId;
 
 	public EditorReference(IEclipseContext windowContext, IWorkbenchPage page, MPart part,
@@ -379,6 +382,7 @@ public class EditorReference extends WorkbenchPartReference implements IEditorRe
 		if (part instanceof IPersistableEditor) {
 			if (editorState != null) {
 				((IPersistableEditor) part).restoreState(editorState);
+				editorState = null;
 			} else if (useIPersistableEditor()) {
 				String mementoString = getModel().getPersistedState().get(MEMENTO_KEY);
 				if (mementoString != null) {
@@ -287,4 +287,25 @@ public interface IPreferenceConstants {
 	 */
 	String SAVE_AUTOMATICALLY_INTERVAL = "SAVE_AUTOMATICALLY_INTERVAL"; //$NON-NLS-1$
 
+	/**
+	 * Preference value that specifies the maximum number of finished top level
+	 * jobs kept by the Progress view. Older entries are evicted once the limit
+	 * is exceeded.
+	 * <p>
+	 * The integer default value for this preference is: <code>200</code>. A
+	 * value of <code>0</code> disables the limit.
+	 * </p>
+	 */
+	String MAX_FINISHED_JOBS = "MAX_FINISHED_JOBS"; //$NON-NLS-1$
+
+	/**
+	 * Preference id for whether finished jobs evicted from the Progress view
+	 * history are written to a compact archive in the workbench state
+	 * location.
+	 * <p>
+	 * The boolean default value for this preference is: <code>true</code>.
+	 * </p>
+	 */
+	String ARCHIVE_FINISHED_JOBS = "ARCHIVE_FINISHED_JOBS"; //$NON-NLS-1$
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,9 @@ import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.internal.ResourceAccounting;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.SafeRunnable;
@@ -35,6 +37,15 @@ import org.eclipse.ui.statushandlers.StatusManager;
  */
 final class JFaceUtil {
 
+	/**
+	 * System property to turn on the cache of decoded images by setting it to
+	 * <code>true</code>. It is off by default, as URL images are then decoded
+	 * by JFace instead of being loaded by SWT from their file names.
+	 */
+	private static final String IMAGE_DATA_CACHE_PROPERTY = "eclipse.imageDataCache"; //$NON-NLS-1$
+
+	private static final long IMAGE_DATA_CACHE_MAX_SIZE = 32 * 1024 * 1024;
+
 	private JFaceUtil() {
 		// prevents intantiation
 	}
@@ -80,9 +91,42 @@ final class JFaceUtil {
 			// loadURLImageDescriptor2x is "true" by default and should stay "true" when absent in the debug options file:
 			InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x = !"false".equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/loadURLImageDescriptor2x")); //$NON-NLS-1$ //$NON-NLS-2$
 			InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x_PNG_FOR_GIF = "true".equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/loadURLImageDescriptor2xPngForGif")); //$NON-NLS-1$ //$NON-NLS-2$
+			InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES = "true".equalsIgnoreCase(Platform.getDebugOption(Policy.JFACE + "/debug/resources/trackHandles")); //$NON-NLS-1$ //$NON-NLS-2$
+			String handleBudget = Platform.getDebugOption(Policy.JFACE + "/debug/resources/handleBudget"); //$NON-NLS-1$
+			if (handleBudget != null) {
+				try {
+					ResourceAccounting.setBudget(Integer.parseInt(handleBudget.trim()));
+				} catch (NumberFormatException e) {
+					// no budget
+				}
+			}
+		}
+	}
+
+	/**
+	 * Lets JFace read images decoded in previous sessions from a cache in the
+	 * state location of the workbench, if turned on by
+	 * {@link #IMAGE_DATA_CACHE_PROPERTY}.
+	 */
+	public static void initializeImageDataCache() {
+		if (!Boolean.getBoolean(IMAGE_DATA_CACHE_PROPERTY)) {
+			return;
+		}
+		try {
+			ImageDataCache.open(WorkbenchPlugin.getDefault().getStateLocation().append("imageDataCache").toFile(), //$NON-NLS-1$
+					IMAGE_DATA_CACHE_MAX_SIZE);
+		} catch (IllegalStateException e) {
+			// running without an instance location
 		}
 	}
 
+	/**
+	 * Writes the images decoded in this session to the cache.
+	 */
+	public static void closeImageDataCache() {
+		ImageDataCache.close();
+	}
+
 	/**
 	 * Adds a preference listener so that the JFace preference store is initialized
 	 * as soon as the workbench preference store becomes available.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -534,6 +534,58 @@ public class NavigationHistory implements INavigationHistory {
         gotoEntry(entry);
     }
 
+    /**
+     * Returns the estimated heap size of the state this history keeps for
+     * closed editors and their locations. States shared by several editors
+     * or entries are counted once.
+     *
+     * @return the size in bytes
+     */
+    public long getPersistedStateSize() {
+        Map<Object, Integer> sharers = countSharers();
+        long size = 0;
+        for (Iterator iter = editors.iterator(); iter.hasNext();) {
+            size += ((NavigationHistoryEditorInfo) iter.next()).getPersistedStateSize(sharers);
+        }
+        for (Iterator iter = history.iterator(); iter.hasNext();) {
+            size += ((NavigationHistoryEntry) iter.next()).getPersistedStateSize(sharers);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated heap size of the state this history keeps for the
+     * given editor and its locations while the editor is closed. A state
+     * shared with other editors or entries is split evenly among them, so
+     * that the sizes of all editors add up to
+     * {@link #getPersistedStateSize()}.
+     *
+     * @param info the editor
+     * @return the size in bytes, 0 if the editor is open
+     */
+    long getPersistedStateSize(NavigationHistoryEditorInfo info) {
+        Map<Object, Integer> sharers = countSharers();
+        long size = info.getPersistedStateSize(sharers);
+        for (Iterator iter = history.iterator(); iter.hasNext();) {
+            NavigationHistoryEntry entry = (NavigationHistoryEntry) iter.next();
+            if (entry.editorInfo == info) {
+                size += entry.getPersistedStateSize(sharers);
+            }
+        }
+        return size;
+    }
+
+    private Map<Object, Integer> countSharers() {
+        ArrayList<CompactMemento> mementos = new ArrayList<>();
+        for (Iterator iter = editors.iterator(); iter.hasNext();) {
+            mementos.add(((NavigationHistoryEditorInfo) iter.next()).memento);
+        }
+        for (Iterator iter = history.iterator(); iter.hasNext();) {
+            mementos.add(((NavigationHistoryEntry) iter.next()).getLocationMemento());
+        }
+        return CompactMemento.countSharers(mementos);
+    }
+
     /**
      * Save the state of this history into the memento.
      */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal;
 
+import java.util.Map;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.ui.IEditorInput;
 import org.eclipse.ui.IEditorPart;
@@ -34,7 +35,10 @@ public class NavigationHistoryEditorInfo {
 
     int refCount = 0;
 
-    IMemento memento;
+    /**
+     * The state of the editor input while the editor is closed
+     */
+    CompactMemento memento;
 
     NavigationHistoryEditorInfo(IEditorPart part) {
         editorID = part.getSite().getId();
@@ -42,7 +46,7 @@ public class NavigationHistoryEditorInfo {
     }
 
     NavigationHistoryEditorInfo(IMemento memento) {
-        this.memento = memento;
+        this.memento = CompactMemento.create(memento);
     }
 
     boolean isPersistable() {
@@ -59,18 +63,21 @@ public class NavigationHistoryEditorInfo {
 		}
         if (memento == null) {
             IPersistableElement persistable = editorInput.getPersistable();
-            memento = XMLMemento
+            XMLMemento editorMemento = XMLMemento
                     .createWriteRoot(IWorkbenchConstants.TAG_EDITOR);
-            memento.putString(IWorkbenchConstants.TAG_ID, editorID);
-            memento.putString(IWorkbenchConstants.TAG_FACTORY_ID, persistable
+            editorMemento.putString(IWorkbenchConstants.TAG_ID, editorID);
+            editorMemento.putString(IWorkbenchConstants.TAG_FACTORY_ID, persistable
                     .getFactoryId());
-            persistable.saveState(memento);
+            persistable.saveState(editorMemento);
+            memento = CompactMemento.create(editorMemento);
         }
         editorID = null;
         editorInput = null;
     }
 
     void restoreEditor() {
+        IMemento memento = this.memento == null ? null : this.memento.getMemento();
+        this.memento = null;
         if (memento == null) {
 			return;
 		}
@@ -85,7 +92,6 @@ public class NavigationHistoryEditorInfo {
                 editorID = memento.getString(IWorkbenchConstants.TAG_ID);
             }
         }
-        memento = null;
     }
 
     void saveState(IMemento mem) {
@@ -96,7 +102,22 @@ public class NavigationHistoryEditorInfo {
                     .getFactoryId());
             persistable.saveState(mem);
         } else if (memento != null) {
-            mem.putMemento(memento);
+            IMemento editorMemento = memento.getMemento();
+            if (editorMemento != null) {
+                mem.putMemento(editorMemento);
+            }
         }
     }
+
+    /**
+     * Returns the estimated heap size of the state kept for the editor while
+     * it is closed. States shared with other editors or history entries are
+     * only counted in part, see {@link CompactMemento#getSize(Map)}.
+     *
+     * @param sharers the number of sharers of each state
+     * @return the size in bytes, 0 if the editor is open
+     */
+    long getPersistedStateSize(Map<Object, Integer> sharers) {
+        return memento == null ? 0 : memento.getSize(sharers);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.ui.internal;
 
 import java.util.ArrayList;
+import java.util.Map;
 import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.IMemento;
 import org.eclipse.ui.INavigationLocation;
@@ -37,7 +38,10 @@ public class NavigationHistoryEntry {
     /* Both may be set at the same time. */
     INavigationLocation location;
 
-    private IMemento locationMemento;
+    /**
+     * The state of the location while the editor is closed
+     */
+    private CompactMemento locationMemento;
 
     /**
      * Constructs a new HistoryEntry and intializes its editor input and editor id.
@@ -76,9 +80,12 @@ public class NavigationHistoryEntry {
 
                 if (location != null) {
                     if (locationMemento != null) {
-                        location.setInput(editorInfo.editorInput);
-                        location.restoreState(locationMemento);
+                        IMemento memento = locationMemento.getMemento();
                         locationMemento = null;
+                        if (memento != null) {
+                            location.setInput(editorInfo.editorInput);
+                            location.restoreState(memento);
+                        }
                     }
                     location.restoreLocation();
                 }
@@ -118,10 +125,11 @@ public class NavigationHistoryEntry {
 			return false;
 		}
         if (location != null) {
-            locationMemento = XMLMemento
+            XMLMemento memento = XMLMemento
                     .createWriteRoot(IWorkbenchConstants.TAG_POSITION);
-            location.saveState(locationMemento);
+            location.saveState(memento);
             location.releaseState();
+            locationMemento = CompactMemento.create(memento);
         }
         return true;
     }
@@ -131,10 +139,11 @@ public class NavigationHistoryEntry {
      */
     void saveState(IMemento mem, ArrayList entries) {
         mem.putString(IWorkbenchConstants.TAG_HISTORY_LABEL, getHistoryText());
-        if (locationMemento != null) {
+        IMemento memento = locationMemento == null ? null : locationMemento.getMemento();
+        if (memento != null) {
             IMemento childMem = mem
                     .createChild(IWorkbenchConstants.TAG_POSITION);
-            childMem.putMemento(locationMemento);
+            childMem.putMemento(memento);
         } else if (location != null) {
             IMemento childMem = mem
                     .createChild(IWorkbenchConstants.TAG_POSITION);
@@ -147,7 +156,27 @@ public class NavigationHistoryEntry {
      */
     void restoreState(IMemento mem) {
         historyText = mem.getString(IWorkbenchConstants.TAG_HISTORY_LABEL);
-        locationMemento = mem.getChild(IWorkbenchConstants.TAG_POSITION);
+        IMemento memento = mem.getChild(IWorkbenchConstants.TAG_POSITION);
+        locationMemento = memento == null ? null : CompactMemento.create(memento);
+    }
+
+    /**
+     * Returns the estimated heap size of the state kept for the location while
+     * its editor is closed. States shared with other entries are only counted
+     * in part, see {@link CompactMemento#getSize(Map)}.
+     *
+     * @param sharers the number of sharers of each state
+     * @return the size in bytes
+     */
+    long getPersistedStateSize(Map<Object, Integer> sharers) {
+        return locationMemento == null ? 0 : locationMemento.getSize(sharers);
+    }
+
+    /**
+     * @return the state kept for the location, or <code>null</code>
+     */
+    CompactMemento getLocationMemento() {
+        return locationMemento;
     }
 
     @Override
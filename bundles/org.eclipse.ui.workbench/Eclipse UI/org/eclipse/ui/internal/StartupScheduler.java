@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.core.commands.util.Tracing;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
+import org.eclipse.ui.internal.misc.Policy;
+import org.eclipse.ui.internal.misc.StatusUtil;
+
+/**
+ * Runs the phases of the workbench startup as a dependency graph.
+ * <p>
+ * Phases that do not need the UI thread run on a small pool of background
+ * threads as soon as the phases they depend on have finished. UI thread phases
+ * run on the thread calling {@link #run()}, in the order they were added,
+ * each one once its dependencies have finished. Background phases must not
+ * synchronize with the UI thread, since it is blocked while it waits for
+ * them.
+ * </p>
+ * <p>
+ * A phase can only depend on phases added before it, so the phases always form
+ * a graph without cycles. The duration of each phase is recorded and reported
+ * if the <code>org.eclipse.ui/trace/startup.phases</code> debug option is set.
+ * </p>
+ */
+public final class StartupScheduler {
+
+	private static final String TRACING_COMPONENT = "STARTUP"; //$NON-NLS-1$
+
+	private static final String SPAN_NAME = "startupPhase"; //$NON-NLS-1$
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+	private final int maxThreads;
+
+	private ExecutorService executor;
+
+	/**
+	 * The first exception thrown by a background phase, guarded by
+	 * <code>this</code>
+	 */
+	private Throwable failure;
+
+	/**
+	 * Creates a scheduler using as many background threads as there are
+	 * processors besides the UI thread, at most four.
+	 */
+	public StartupScheduler() {
+		this(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)));
+	}
+
+	/**
+	 * @param maxThreads
+	 *            the maximum number of background threads
+	 */
+	public StartupScheduler(int maxThreads) {
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Adds a phase.
+	 *
+	 * @param name
+	 *            the unique name of the phase
+	 * @param uiThread
+	 *            whether the phase must run on the UI thread
+	 * @param runnable
+	 *            the work of the phase
+	 * @param dependencies
+	 *            the names of the phases that must finish before this one
+	 *            starts, all of them added before
+	 */
+	public void addPhase(String name, boolean uiThread, Runnable runnable, String... dependencies) {
+		if (phases.containsKey(name)) {
+			throw new IllegalArgumentException("Duplicate startup phase: " + name); //$NON-NLS-1$
+		}
+		Phase phase = new Phase(name, uiThread, runnable);
+		for (String dependency : dependencies) {
+			Phase required = phases.get(dependency);
+			if (required == null) {
+				throw new IllegalArgumentException("Startup phase " + name //$NON-NLS-1$
+						+ " depends on unknown phase: " + dependency); //$NON-NLS-1$
+			}
+			phase.dependencies.add(required);
+			required.dependents.add(phase);
+		}
+		phase.pendingDependencies = phase.dependencies.size();
+		phases.put(name, phase);
+	}
+
+	/**
+	 * Runs all phases and returns once they have finished. Must be called on
+	 * the UI thread.
+	 *
+	 * @throws RuntimeException
+	 *             if a phase failed. The UI thread phases following a failed
+	 *             one are skipped, the background phases still run.
+	 */
+	public void run() {
+		long start = System.nanoTime();
+		int backgroundPhases = 0;
+		for (Phase phase : phases.values()) {
+			if (!phase.uiThread) {
+				backgroundPhases++;
+			}
+		}
+		if (backgroundPhases > 0) {
+			executor = Executors.newFixedThreadPool(Math.min(maxThreads, backgroundPhases), new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "Workbench Startup " + threadCount.incrementAndGet()); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		Throwable uiFailure = null;
+		try {
+			synchronized (this) {
+				for (Phase phase : phases.values()) {
+					if (!phase.uiThread && phase.pendingDependencies == 0) {
+						submit(phase);
+					}
+				}
+			}
+			for (Phase phase : phases.values()) {
+				if (!phase.uiThread) {
+					continue;
+				}
+				if (uiFailure == null) {
+					waitFor(phase.dependencies);
+					try {
+						execute(phase);
+					} catch (RuntimeException | Error e) {
+						uiFailure = e;
+					}
+				}
+				finished(phase);
+			}
+			waitFor(phases.values());
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+				executor = null;
+			}
+		}
+		if (Policy.DEBUG_STARTUP_PHASES) {
+			Tracing.printTrace(TRACING_COMPONENT, "startup phases finished in " //$NON-NLS-1$
+					+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms"); //$NON-NLS-1$
+		}
+		Throwable throwable = uiFailure;
+		if (throwable == null) {
+			synchronized (this) {
+				throwable = failure;
+			}
+		}
+		if (throwable instanceof Error) {
+			throw (Error) throwable;
+		} else if (throwable instanceof RuntimeException) {
+			throw (RuntimeException) throwable;
+		}
+	}
+
+	/**
+	 * Returns the time each phase took, in the order the phases were added.
+	 * Phases that have not finished are not included.
+	 *
+	 * @return the durations in milliseconds by phase name
+	 */
+	public synchronized Map<String, Long> getDurations() {
+		Map<String, Long> durations = new LinkedHashMap<>();
+		for (Phase phase : phases.values()) {
+			if (phase.done) {
+				durations.put(phase.name, Long.valueOf(TimeUnit.NANOSECONDS.toMillis(phase.duration)));
+			}
+		}
+		return Collections.unmodifiableMap(durations);
+	}
+
+	private void submit(Phase phase) {
+		executor.execute(() -> {
+			try {
+				execute(phase);
+			} catch (RuntimeException | Error e) {
+				synchronized (StartupScheduler.this) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+				WorkbenchPlugin.log(StatusUtil.newStatus(WorkbenchPlugin.PI_WORKBENCH,
+						"Startup phase " + phase.name + " failed", e)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			finished(phase);
+		});
+	}
+
+	private void execute(Phase phase) {
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, SPAN_NAME, phase.name);
+		long start = System.nanoTime();
+		try {
+			phase.runnable.run();
+		} finally {
+			long duration = System.nanoTime() - start;
+			PerformanceTracing.end(SPAN_NAME);
+			synchronized (this) {
+				phase.duration = duration;
+			}
+			if (Policy.DEBUG_STARTUP_PHASES) {
+				Tracing.printTrace(TRACING_COMPONENT, phase.name + " took " //$NON-NLS-1$
+						+ TimeUnit.NANOSECONDS.toMillis(duration) + "ms on " //$NON-NLS-1$
+						+ Thread.currentThread().getName());
+			}
+		}
+	}
+
+	/**
+	 * Marks the phase as done and starts the background phases waiting only
+	 * for it.
+	 */
+	private synchronized void finished(Phase phase) {
+		phase.done = true;
+		for (Phase dependent : phase.dependents) {
+			dependent.pendingDependencies--;
+			if (!dependent.uiThread && dependent.pendingDependencies == 0) {
+				submit(dependent);
+			}
+		}
+		notifyAll();
+	}
+
+	private synchronized void waitFor(Iterable<Phase> required) {
+		boolean interrupted = false;
+		for (Phase phase : required) {
+			while (!phase.done) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static final class Phase {
+		final String name;
+		final boolean uiThread;
+		final Runnable runnable;
+		final List<Phase> dependencies = new ArrayList<>();
+		final List<Phase> dependents = new ArrayList<>();
+
+		/* the following fields are guarded by the scheduler */
+		int pendingDependencies;
+		boolean done;
+		long duration;
+
+		Phase(String name, boolean uiThread, Runnable runnable) {
+			this.name = name;
+			this.uiThread = uiThread;
+			this.runnable = runnable;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,21 +36,29 @@ import org.eclipse.ui.internal.registry.ViewDescriptor;
 public class ViewReference extends WorkbenchPartReference implements IViewReference {
 
 	private ViewDescriptor descriptor;
-	private IMemento memento;
 
 	public ViewReference(IEclipseContext windowContext, IWorkbenchPage page, MPart part,
 			ViewDescriptor descriptor) {
 		super(windowContext, page, part);
 		this.descriptor = descriptor;
+	}
 
+	/**
+	 * Reads the state the view saved, kept in the model as a string until the
+	 * view is created.
+	 *
+	 * @return the memento of the view, or <code>null</code> if none was saved
+	 */
+	private IMemento readMemento() {
 		String mementoString = getModel().getPersistedState().get(MEMENTO_KEY);
 		if (mementoString != null) {
 			try {
-				memento = XMLMemento.createReadRoot(new StringReader(mementoString));
+				return XMLMemento.createReadRoot(new StringReader(mementoString));
 			} catch (WorkbenchException e) {
 				WorkbenchPlugin.log(e);
 			}
 		}
+		return null;
 	}
 
 	void persist() {
@@ -126,7 +134,7 @@ public class ViewReference extends WorkbenchPartReference implements IViewRefere
 		ViewSite viewSite = new ViewSite(getModel(), part, this, descriptor == null ? null
 				: descriptor.getConfigurationElement());
 		IViewPart view = (IViewPart) part;
-		view.init(viewSite, memento);
+		view.init(viewSite, readMemento());
 
 		if (view.getSite() != viewSite || view.getViewSite() != viewSite) {
 			String id = descriptor == null ? getModel().getElementId() : descriptor.getId();
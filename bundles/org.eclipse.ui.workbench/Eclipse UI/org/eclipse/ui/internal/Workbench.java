@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -68,6 +68,7 @@ import org.eclipse.core.runtime.IProduct;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IRegistryChangeListener;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
@@ -293,6 +294,20 @@ public final class Workbench extends EventManager implements IWorkbench,
 	private static final String CMD_DATA = "-data"; //$NON-NLS-1$
 	private static final String CMD_VMARGS = "-vmargs"; //$NON-NLS-1$
 
+	private static final String STARTUP_EXTENSIONS = "extensions"; //$NON-NLS-1$
+	private static final String STARTUP_THEME_EXTENSIONS = "themeExtensions"; //$NON-NLS-1$
+	private static final String STARTUP_INTRO_REGISTRY = "introRegistry"; //$NON-NLS-1$
+
+	/**
+	 * The extension points of this plug-in read by the UI thread during startup
+	 */
+	private static final String[] STARTUP_EXTENSION_POINTS = { IWorkbenchRegistryConstants.PL_COMMANDS,
+			IWorkbenchRegistryConstants.PL_CONTEXTS, IWorkbenchRegistryConstants.PL_BINDINGS,
+			IWorkbenchRegistryConstants.PL_HANDLERS, IWorkbenchRegistryConstants.PL_COMMAND_IMAGES,
+			IWorkbenchRegistryConstants.PL_MENUS, IWorkbenchRegistryConstants.PL_ACTIVITIES,
+			IWorkbenchRegistryConstants.PL_ACTION_SETS, IWorkbenchRegistryConstants.PL_VIEWS,
+			IWorkbenchRegistryConstants.PL_PERSPECTIVES, IWorkbenchRegistryConstants.PL_EDITOR };
+
 	private static final class StartupProgressBundleListener implements SynchronousBundleListener {
 
 		private final SubMonitor subMonitor;
@@ -1607,30 +1622,35 @@ public final class Workbench extends EventManager implements IWorkbench,
 			}
 		});
 
-		initializeLazyServices();
-
-		// Initialize the activity support.
-
-		activityHelper = ActivityPersistanceHelper.getInstance();
-		StartupThreading.runWithoutExceptions(new StartupRunnable() {
-
-			@Override
-			public void runWithException() {
-				WorkbenchImages.getImageRegistry();
+		// Reading the extension registry does not need the UI thread, so the
+		// registries that are pure data are read in the background while the
+		// services are set up
+		StartupScheduler scheduler = new StartupScheduler();
+		scheduler.addPhase(STARTUP_EXTENSIONS, false, () -> readExtensions(STARTUP_EXTENSION_POINTS));
+		// the theme registry itself is read on the UI thread, its color
+		// factories may need the display
+		scheduler.addPhase(STARTUP_THEME_EXTENSIONS, false,
+				() -> readExtensions(new String[] { IWorkbenchRegistryConstants.PL_THEMES }));
+		scheduler.addPhase(STARTUP_INTRO_REGISTRY, false, () -> {
+			IIntroRegistry introRegistry = WorkbenchPlugin.getDefault().loadIntroRegistry();
+			if (introRegistry.getIntroCount() > 0) {
+				IProduct product = Platform.getProduct();
+				if (product != null) {
+					introDescriptor = (IntroDescriptor) introRegistry.getIntroForProduct(product.getId());
+				}
 			}
 		});
-		initializeE4Services();
-		IIntroRegistry introRegistry = WorkbenchPlugin.getDefault().getIntroRegistry();
-		if (introRegistry.getIntroCount() > 0) {
-			IProduct product = Platform.getProduct();
-			if (product != null) {
-				introDescriptor = (IntroDescriptor) introRegistry.getIntroForProduct(product
-						.getId());
-			}
-		}
-		initializeDefaultServices();
-		initializeFonts();
-		initializeApplicationColors();
+		scheduler.addPhase("lazyServices", true, () -> initializeLazyServices()); //$NON-NLS-1$
+		// Initialize the activity support.
+		scheduler.addPhase("activities", true, //$NON-NLS-1$
+				() -> activityHelper = ActivityPersistanceHelper.getInstance());
+		scheduler.addPhase("images", true, () -> WorkbenchImages.getImageRegistry()); //$NON-NLS-1$
+		scheduler.addPhase("e4Services", true, () -> initializeE4Services()); //$NON-NLS-1$
+		scheduler.addPhase("defaultServices", true, () -> initializeDefaultServices(), //$NON-NLS-1$
+				STARTUP_INTRO_REGISTRY);
+		scheduler.addPhase("fonts", true, () -> initializeFonts(), STARTUP_THEME_EXTENSIONS); //$NON-NLS-1$
+		scheduler.addPhase("colors", true, () -> initializeApplicationColors()); //$NON-NLS-1$
+		scheduler.run();
 
 		// now that the workbench is sufficiently initialized, let the advisor
 		// have a turn.
@@ -2103,6 +2123,31 @@ public final class Workbench extends EventManager implements IWorkbench,
 		return ((MWindow) parent).getContext();
 	}
 
+	/**
+	 * Loads the configuration elements of the given extension points, so the
+	 * registry readers running later on the UI thread find them in memory.
+	 *
+	 * @param extensionPoints
+	 *            the simple ids of extension points of this plug-in
+	 */
+	private static void readExtensions(String[] extensionPoints) {
+		IExtensionRegistry extensionRegistry = Platform.getExtensionRegistry();
+		for (String extensionPoint : extensionPoints) {
+			readElements(extensionRegistry.getConfigurationElementsFor(PlatformUI.PLUGIN_ID, extensionPoint));
+		}
+	}
+
+	private static void readElements(IConfigurationElement[] elements) {
+		for (IConfigurationElement element : elements) {
+			try {
+				element.getAttributeNames();
+				readElements(element.getChildren());
+			} catch (InvalidRegistryObjectException e) {
+				// removed meanwhile, the registry readers will not see it
+			}
+		}
+	}
+
 	private void initializeLazyServices() {
 		e4Context.set(IExtensionTracker.class.getName(), new ContextFunction() {
 
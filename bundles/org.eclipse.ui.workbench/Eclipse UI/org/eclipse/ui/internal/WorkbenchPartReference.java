@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@
  *******************************************************************************/
 package org.eclipse.ui.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.IStatus;
@@ -155,8 +157,6 @@ public abstract class WorkbenchPartReference implements IWorkbenchPartReference,
 
 	private IEclipseContext windowContext;
 
-	private EventHandler contextEventHandler;
-
     public WorkbenchPartReference(IEclipseContext windowContext, IWorkbenchPage page, MPart part) {
     	this.windowContext = windowContext;
 		this.page = page;
@@ -168,36 +168,25 @@ public abstract class WorkbenchPartReference implements IWorkbenchPartReference,
 		}
 	}
 
-	private EventHandler createContextEventHandler() {
-		if (contextEventHandler == null) {
-			contextEventHandler = event -> handleContextSet(event);
-		}
-		return contextEventHandler;
-	}
-
-	private void handleContextSet(Event event) {
-		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
-		MPart part = getModel();
-		if (element == part) {
-			IEclipseContext context = part.getContext();
-			if (context != null) {
-				context.set(getClass().getName(), this);
-				unsubscribe();
-			}
-		}
-	}
-
+	/**
+	 * Publishes this reference in the context of its part as soon as the part
+	 * is rendered and has a context.
+	 */
 	public void subscribe() {
-		IEventBroker broker = windowContext.get(IEventBroker.class);
-		broker.subscribe(UIEvents.Context.TOPIC_CONTEXT,
-				createContextEventHandler());
+		PartContextHandler handler = (PartContextHandler) windowContext
+				.getLocal(PartContextHandler.class.getName());
+		if (handler == null) {
+			handler = new PartContextHandler(windowContext.get(IEventBroker.class));
+			windowContext.set(PartContextHandler.class.getName(), handler);
+		}
+		handler.add(this);
 	}
 
 	public void unsubscribe() {
-		if (contextEventHandler != null) {
-			IEventBroker broker = windowContext.get(IEventBroker.class);
-			broker.unsubscribe(contextEventHandler);
-			contextEventHandler = null;
+		PartContextHandler handler = (PartContextHandler) windowContext
+				.getLocal(PartContextHandler.class.getName());
+		if (handler != null) {
+			handler.remove(this);
 		}
 	}
 
@@ -578,4 +567,71 @@ public abstract class WorkbenchPartReference implements IWorkbenchPartReference,
 			}
 		};
 	}
+
+	/**
+	 * Sets the references of parts that are not rendered yet in the contexts
+	 * of their parts once these are created. A single handler serves all
+	 * references of a window, since the event broker registers a service for
+	 * each subscription and passes every context event to all of them, which
+	 * does not scale to pages restoring hundreds of editors.
+	 */
+	private static final class PartContextHandler implements EventHandler {
+
+		private final IEventBroker broker;
+
+		private final Map<MPart, List<WorkbenchPartReference>> waiting = new HashMap<>();
+
+		private boolean subscribed;
+
+		PartContextHandler(IEventBroker broker) {
+			this.broker = broker;
+		}
+
+		void add(WorkbenchPartReference reference) {
+			List<WorkbenchPartReference> references = waiting.get(reference.getModel());
+			if (references == null) {
+				references = new ArrayList<>(1);
+				waiting.put(reference.getModel(), references);
+			}
+			if (!references.contains(reference)) {
+				references.add(reference);
+			}
+			if (!subscribed) {
+				broker.subscribe(UIEvents.Context.TOPIC_CONTEXT, this);
+				subscribed = true;
+			}
+		}
+
+		void remove(WorkbenchPartReference reference) {
+			List<WorkbenchPartReference> references = waiting.get(reference.getModel());
+			if (references != null && references.remove(reference) && references.isEmpty()) {
+				waiting.remove(reference.getModel());
+				unsubscribeIfIdle();
+			}
+		}
+
+		@Override
+		public void handleEvent(Event event) {
+			Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+			List<WorkbenchPartReference> references = waiting.get(element);
+			if (references == null) {
+				return;
+			}
+			IEclipseContext context = ((MPart) element).getContext();
+			if (context != null) {
+				waiting.remove(element);
+				for (WorkbenchPartReference reference : references) {
+					context.set(reference.getClass().getName(), reference);
+				}
+				unsubscribeIfIdle();
+			}
+		}
+
+		private void unsubscribeIfIdle() {
+			if (subscribed && waiting.isEmpty()) {
+				broker.unsubscribe(this);
+				subscribed = false;
+			}
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -610,6 +610,19 @@ public class WorkbenchPlugin extends AbstractUIPlugin {
 		return e4Context.get(IThemeRegistry.class);
     }
 
+	/**
+	 * Returns the intro registry. Unlike {@link #getIntroRegistry()}, this
+	 * method may be called from any thread.
+	 *
+	 * @return the intro registry
+	 */
+	synchronized IntroRegistry loadIntroRegistry() {
+		if (introRegistry == null) {
+			introRegistry = new IntroRegistry();
+		}
+		return introRegistry;
+	}
+
     /**
      * Answer the view registry.
      * @return IViewRegistry the view registry for the
@@ -788,6 +801,7 @@ public class WorkbenchPlugin extends AbstractUIPlugin {
         bundleContext = context;
 
         JFaceUtil.initializeJFace();
+		JFaceUtil.initializeImageDataCache();
 
 		parseBidiArguments();
 		Window.setDefaultOrientation(getDefaultOrientation());
@@ -1090,6 +1104,7 @@ public class WorkbenchPlugin extends AbstractUIPlugin {
 			testableTracker.close();
 			testableTracker = null;
 		}
+		JFaceUtil.closeImageDataCache();
         super.stop(context);
     }
 
@@ -1332,10 +1347,7 @@ public class WorkbenchPlugin extends AbstractUIPlugin {
 		context.set(IIntroRegistry.class.getName(), new ContextFunction() {
 			@Override
 			public Object compute(IEclipseContext context, String contextKey) {
-				if (introRegistry == null) {
-					introRegistry = new IntroRegistry();
-				}
-				return introRegistry;
+				return loadIntroRegistry();
 			}
 		});
 		context.set(NewWizardRegistry.class.getName(), new ContextFunction() {
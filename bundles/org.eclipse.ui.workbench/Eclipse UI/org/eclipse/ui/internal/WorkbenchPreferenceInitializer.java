@@ -54,6 +54,8 @@ public class WorkbenchPreferenceInitializer extends AbstractPreferenceInitialize
 				.getDefault().getBundle().getSymbolicName());
 
 		node.putBoolean(IPreferenceConstants.RUN_IN_BACKGROUND, true);
+		node.putInt(IPreferenceConstants.MAX_FINISHED_JOBS, 200);
+		node.putBoolean(IPreferenceConstants.ARCHIVE_FINISHED_JOBS, true);
 		node.putBoolean(IPreferenceConstants.SHOULD_PROMPT_FOR_ENABLEMENT, true);
 
 		node.putBoolean(IPreferenceConstants.EDITORLIST_PULLDOWN_ACTIVE, false);
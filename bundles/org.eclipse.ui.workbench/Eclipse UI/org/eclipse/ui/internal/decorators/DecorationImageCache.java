@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.decorators;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.jface.resource.ResourceManager;
+import org.eclipse.jface.viewers.DecorationOverlayIcon;
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * Keeps the most recently used decorated images allocated, so elements with
+ * the same base image and overlays share a single composite image, even after
+ * the viewers that showed them have been disposed.
+ * <p>
+ * The images are allocated in a shared resource manager, which the resource
+ * managers of the label decorators are children of. The cache holds one
+ * reference to each of its images, which it releases when the image is
+ * evicted, so an image stays allocated as long as the cache or a label
+ * decorator uses it. The number of images kept is bounded by the
+ * <code>eclipse.decorationImageCacheSize</code> system property.
+ * </p>
+ * <p>
+ * The key of an image is its {@link DecorationOverlayIcon}, which is the base
+ * image and the overlay of every quadrant. The composite image computes its
+ * data for each zoom level on demand, from the base image. Since the base
+ * image is compared by identity, images whose base image has been disposed are
+ * never requested again and cannot compute their data any more. They are
+ * evicted whenever an image is added.
+ * </p>
+ */
+public final class DecorationImageCache {
+
+	private static final int DEFAULT_SIZE = 256;
+
+	private final ResourceManager sharedManager;
+
+	private final int maxSize;
+
+	/** the images held by the cache and their base images, least recently used first */
+	private final LinkedHashMap<DecorationOverlayIcon, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long hits;
+
+	private long misses;
+
+	/**
+	 * Creates a cache sized by the
+	 * <code>eclipse.decorationImageCacheSize</code> system property.
+	 *
+	 * @param sharedManager
+	 *            the resource manager to allocate the images in
+	 */
+	public DecorationImageCache(ResourceManager sharedManager) {
+		this(sharedManager, Integer.getInteger("eclipse.decorationImageCacheSize", DEFAULT_SIZE).intValue()); //$NON-NLS-1$
+	}
+
+	/**
+	 * @param sharedManager
+	 *            the resource manager to allocate the images in
+	 * @param maxSize
+	 *            the maximum number of images to keep, <code>0</code> to keep
+	 *            none
+	 */
+	public DecorationImageCache(ResourceManager sharedManager, int maxSize) {
+		this.sharedManager = sharedManager;
+		this.maxSize = Math.max(0, maxSize);
+	}
+
+	/**
+	 * Returns the decorated image, composing it only if it is not allocated
+	 * already. The image is allocated in the given resource manager, like
+	 * {@link ResourceManager#createImage(org.eclipse.jface.resource.ImageDescriptor)}.
+	 *
+	 * @param base
+	 *            the image the icon decorates
+	 * @param icon
+	 *            the descriptor of the decorated image
+	 * @param manager
+	 *            the resource manager to allocate the image in, which should
+	 *            be the shared manager or one of its children
+	 * @return the decorated image
+	 */
+	public Image createImage(Image base, DecorationOverlayIcon icon, ResourceManager manager) {
+		boolean cached = images.get(icon) != null;
+		if (cached || sharedManager.find(icon) != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		if (maxSize > 0 && !cached) {
+			evictDisposed();
+			sharedManager.createImage(icon);
+			images.put(icon, base);
+			evict();
+		}
+		return manager.createImage(icon);
+	}
+
+	private void evictDisposed() {
+		Iterator<Map.Entry<DecorationOverlayIcon, Image>> iterator = images.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<DecorationOverlayIcon, Image> entry = iterator.next();
+			if (entry.getValue().isDisposed()) {
+				iterator.remove();
+				sharedManager.destroyImage(entry.getKey());
+			}
+		}
+	}
+
+	private void evict() {
+		Iterator<DecorationOverlayIcon> iterator = images.keySet().iterator();
+		while (images.size() > maxSize && iterator.hasNext()) {
+			DecorationOverlayIcon icon = iterator.next();
+			iterator.remove();
+			sharedManager.destroyImage(icon);
+		}
+	}
+
+	/**
+	 * Releases all images held by the cache. Images still used by label
+	 * decorators stay allocated.
+	 */
+	public void clear() {
+		for (DecorationOverlayIcon icon : images.keySet()) {
+			sharedManager.destroyImage(icon);
+		}
+		images.clear();
+	}
+
+	/**
+	 * @return the number of decorated images requested that were allocated
+	 *         already
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of decorated images requested that had to be
+	 *         composed
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the ratio of hits to all requests, <code>0</code> if there were
+	 *         none
+	 */
+	public double getHitRate() {
+		long requests = hits + misses;
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	/**
+	 * Returns the number of images, and so of operating system image handles,
+	 * the cache keeps allocated.
+	 *
+	 * @return the number of images held by the cache
+	 */
+	public int getImageCount() {
+		return images.size();
+	}
+}
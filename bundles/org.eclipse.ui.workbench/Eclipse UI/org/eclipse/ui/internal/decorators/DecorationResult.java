@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,9 +77,11 @@ public class DecorationResult {
 	 *
 	 * @param image
 	 * @param manager
+	 * @param cache
+	 *            the cache to share the decorated image through
 	 * @return Image
 	 */
-	Image decorateWithOverlays(Image image, ResourceManager manager) {
+	Image decorateWithOverlays(Image image, ResourceManager manager, DecorationImageCache cache) {
 
 		// Do not try to do anything if there is no source or overlays
 		if (image == null || descriptors == null) {
@@ -89,7 +91,7 @@ public class DecorationResult {
 		Rectangle bounds = image.getBounds();
 		Point size = new Point(bounds.width, bounds.height);
 		DecorationOverlayIcon icon = new DecorationOverlayIcon(image, descriptors, size);
-		return manager.createImage(icon);
+		return cache.createImage(image, icon, manager);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -179,7 +179,7 @@ public class DecorationScheduler {
 		if (decoration == null) {
 			return image;
 		}
-		return decoration.decorateWithOverlays(image, manager);
+		return decoration.decorateWithOverlays(image, manager, decoratorManager.getImageCache());
 	}
 
 	/**
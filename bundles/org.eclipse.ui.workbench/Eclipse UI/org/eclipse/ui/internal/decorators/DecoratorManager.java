@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -106,6 +106,8 @@ public class DecoratorManager implements ILabelProviderListener,
 
 	private LocalResourceManager resourceManager;
 
+	private DecorationImageCache imageCache;
+
 
 	/**
 	 * ManagedWorkbenchLabelDecorator is the internal LabelDecorator
@@ -846,6 +848,9 @@ public class DecoratorManager implements ILabelProviderListener,
 			getLightweightManager().shutdown();
 		}
 		scheduler.shutdown();
+		if (imageCache != null) {
+			imageCache.clear();
+		}
 		dispose();
 	}
 
@@ -880,6 +885,19 @@ public class DecoratorManager implements ILabelProviderListener,
 		return resourceManager;
 	}
 
+	/**
+	 * Returns the cache of the images decorated with overlays, which are
+	 * allocated in the resource manager of the light weight decorator.
+	 *
+	 * @return the image cache
+	 */
+	public DecorationImageCache getImageCache() {
+		if (imageCache == null) {
+			imageCache = new DecorationImageCache(getResourceManager());
+		}
+		return imageCache;
+	}
+
 	/**
 	 * @see IDecoratorManager#setEnabled(String, boolean)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2018 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -234,6 +234,7 @@ public abstract class FilteredPreferenceDialog extends PreferenceDialog
 		if (!hasAtMostOnePage()) {
 			filteredTree= new PreferenceFilteredTree(parent, styleBits, new PreferencePatternFilter());
 			filteredTree.setBackground(parent.getDisplay().getSystemColor(SWT.COLOR_LIST_BACKGROUND));
+			filteredTree.setBackgroundFiltering(true);
 
 			tree= filteredTree.getViewer();
 		} else
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,8 @@
 package org.eclipse.ui.internal.dialogs;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.jface.preference.IPreferenceNode;
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.TreeViewer;
@@ -37,9 +37,10 @@ public class PreferencePatternFilter extends PatternFilter {
 	/**
 	 * this cache is needed because
 	 * WorkbenchPreferenceExtensionNode.getKeywordLabels() is expensive. When it
-	 * tracks keyword changes effectively than this cache can be removed.
+	 * tracks keyword changes effectively than this cache can be removed. The
+	 * filter may be computed in the background.
 	 */
-	private Map<WorkbenchPreferenceExtensionNode, Collection<String>> keywordCache = new HashMap<>();
+	private Map<WorkbenchPreferenceExtensionNode, Collection<String>> keywordCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new instance of a PreferencePatternFilter
@@ -95,6 +96,12 @@ public class PreferencePatternFilter extends PatternFilter {
 		return false;
 	}
 
+	@Override
+	protected boolean isNarrowingRefinementSupported() {
+		// a node matches if its label or one of its keywords does
+		return true;
+	}
+
 	@Override
 	protected boolean isLeafMatch(Viewer viewer, Object element) {
 		IPreferenceNode node = (IPreferenceNode) element;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ import org.eclipse.e4.core.di.annotations.CanExecute;
 import org.eclipse.e4.core.di.annotations.Execute;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.ui.internal.workbench.Activator;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
 import org.eclipse.e4.ui.internal.workbench.Policy;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.swt.widgets.Event;
@@ -51,6 +52,8 @@ import org.eclipse.ui.menus.UIElement;
  *
  */
 public class E4HandlerProxy implements IHandler2, IHandlerListener, IElementUpdater {
+	private static final String EXECUTE_SPAN = "executeHandler"; //$NON-NLS-1$
+
 	public HandlerActivation activation;
 	private final Command command;
 	private final IHandler handler;
@@ -93,8 +96,13 @@ public class E4HandlerProxy implements IHandler2, IHandlerListener, IElementUpda
 				: parms, trigger, appContext);
 		if (handler != null) {
 			if (handler.isHandled()) {
-				final Object returnValue = handler.execute(event);
-				return returnValue;
+				PerformanceTracing.begin(PerformanceTracing.CATEGORY_COMMANDS, EXECUTE_SPAN, command.getId());
+				try {
+					final Object returnValue = handler.execute(event);
+					return returnValue;
+				} finally {
+					PerformanceTracing.end(EXECUTE_SPAN);
+				}
 			}
 			throw new NotHandledException("Handler " + handler //$NON-NLS-1$
 					+ " is not handled for for command " + command); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.e4.ui.bindings.EBindingService;
 import org.eclipse.e4.ui.bindings.internal.BindingTable;
 import org.eclipse.e4.ui.bindings.internal.BindingTableManager;
 import org.eclipse.e4.ui.bindings.keys.KeyBindingDispatcher;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.commands.MBindingContext;
 import org.eclipse.e4.ui.model.application.commands.MBindingTable;
@@ -68,6 +69,10 @@ import org.eclipse.ui.keys.IBindingService;
  */
 public final class BindingService implements IBindingService {
 
+	private static final String LOOKUP_SPAN = "getActiveBindingsFor"; //$NON-NLS-1$
+
+	private static final String MATCH_SPAN = "getPerfectMatch"; //$NON-NLS-1$
+
 	@Inject
 	private MApplication application;
 
@@ -147,8 +152,13 @@ public final class BindingService implements IBindingService {
 
 	@Override
 	public TriggerSequence[] getActiveBindingsFor(ParameterizedCommand parameterizedCommand) {
-		Collection<TriggerSequence> seq = bindingService.getSequencesFor(parameterizedCommand);
-		return seq.toArray(new TriggerSequence[seq.size()]);
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_BINDINGS, LOOKUP_SPAN, parameterizedCommand.getId());
+		try {
+			Collection<TriggerSequence> seq = bindingService.getSequencesFor(parameterizedCommand);
+			return seq.toArray(new TriggerSequence[seq.size()]);
+		} finally {
+			PerformanceTracing.end(LOOKUP_SPAN);
+		}
 	}
 
 	@Override
@@ -223,7 +233,12 @@ public final class BindingService implements IBindingService {
 
 	@Override
 	public Binding getPerfectMatch(TriggerSequence trigger) {
-		return bindingService.getPerfectMatch(trigger);
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_BINDINGS, MATCH_SPAN, null);
+		try {
+			return bindingService.getPerfectMatch(trigger);
+		} finally {
+			PerformanceTracing.end(MATCH_SPAN);
+		}
 	}
 
 	@Override
@@ -162,6 +162,23 @@ public class Policy {
      */
     public static boolean DEBUG_WORKING_SETS = DEFAULT;
 
+	/**
+	 * Whether to report how long each quick access provider takes to load its
+	 * elements and to match them against the filter text.
+	 */
+	public static boolean DEBUG_QUICK_ACCESS_PERFORMANCE = DEFAULT;
+
+	/**
+	 * Whether to report how many core expressions are evaluated and how many
+	 * evaluations are avoided on each source change.
+	 */
+	public static boolean DEBUG_EVALUATIONS_PERFORMANCE = DEFAULT;
+
+	/**
+	 * Whether to report the time each phase of the workbench startup takes.
+	 */
+	public static boolean DEBUG_STARTUP_PHASES = DEFAULT;
+
     static {
         if (getDebugOption("/debug")) { //$NON-NLS-1$
             DEBUG_SWT_GRAPHICS = getDebugOption("/trace/graphics"); //$NON-NLS-1$
@@ -194,6 +211,9 @@ public class Policy {
             EXPERIMENTAL_MENU = getDebugOption("/experimental/menus"); //$NON-NLS-1$
             DEBUG_MPE = getDebugOption("/trace/multipageeditor"); //$NON-NLS-1$
             DEBUG_WORKING_SETS = getDebugOption("/debug/workingSets"); //$NON-NLS-1$
+            DEBUG_QUICK_ACCESS_PERFORMANCE = getDebugOption("/trace/quickAccess.performance"); //$NON-NLS-1$
+            DEBUG_EVALUATIONS_PERFORMANCE = getDebugOption("/trace/evaluations.performance"); //$NON-NLS-1$
+            DEBUG_STARTUP_PHASES = getDebugOption("/trace/startup.phases"); //$NON-NLS-1$
 
             if(DEBUG_SWT_DEBUG_GLOBAL)
             	Device.DEBUG = true;
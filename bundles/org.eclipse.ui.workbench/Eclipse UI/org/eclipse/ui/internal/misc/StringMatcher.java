@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -206,6 +206,9 @@ public class StringMatcher {
 		 *         given text
 		 */
 		public boolean matchTextWord(String text, int start, int end) {
+			if (!fragmentsOccurInOrder(text, start, end)) {
+				return false;
+			}
 			String[] textWords = getWords(text.substring(start, end));
 			if (textWords.length == 0) {
 				return pattern.isEmpty();
@@ -218,6 +221,33 @@ public class StringMatcher {
 			return false;
 		}
 
+		/**
+		 * A word of the text can only match if all fragments of this pattern
+		 * word occur in the text, in order. Checking that first avoids
+		 * splitting the text into words for most non matching texts.
+		 *
+		 * @return <code>false</code> if no word of the given text can match
+		 */
+		private boolean fragmentsOccurInOrder(String text, int start, int end) {
+			if (fIgnoreWildCards || this.fragments == null) {
+				return true;
+			}
+			int pos = start;
+			for (String fragment : this.fragments) {
+				int found;
+				if (fragment.indexOf(fSingleWildCard) < 0) {
+					found = textPosIn(text, pos, end, fragment);
+				} else {
+					found = regExpPosIn(text, pos, end, fragment);
+				}
+				if (found < 0) {
+					return false;
+				}
+				pos = found + fragment.length();
+			}
+			return true;
+		}
+
     }
 
     public static class Position {
@@ -440,6 +470,13 @@ public class StringMatcher {
 				continue;
 			}
             if (fIgnoreCase) {
+                if (tchar < 128 && pchar < 128) {
+                    // ASCII only folds to ASCII, no need for the Unicode tables
+                    if (toLowerCaseAscii(tchar) == toLowerCaseAscii(pchar)) {
+                        continue;
+                    }
+                    return false;
+                }
                 if (Character.toUpperCase(tchar) == Character
                         .toUpperCase(pchar)) {
 					continue;
@@ -455,6 +492,10 @@ public class StringMatcher {
         return true;
     }
 
+    private static char toLowerCaseAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
     /**
      * @param text the string to match
      * @param start the starting index in the text for search, inclusive
@@ -476,7 +517,7 @@ public class StringMatcher {
         }
 
         for (int i = start; i <= max; ++i) {
-            if (text.regionMatches(true, i, p, 0, plen)) {
+            if (regExpRegionMatches(text, i, p, 0, plen)) {
 				return i;
 			}
         }
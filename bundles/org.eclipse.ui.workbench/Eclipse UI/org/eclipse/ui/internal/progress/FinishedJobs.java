@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,20 +14,35 @@
 package org.eclipse.ui.internal.progress;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.commands.common.EventManager;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.ui.actions.ActionFactory;
+import org.eclipse.ui.internal.IPreferenceConstants;
+import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.progress.IProgressConstants;
 
 /**
  * This singleton remembers all JobTreeElements that should be preserved (e.g.
  * because their associated Jobs have the "keep" property set).
+ * <p>
+ * The history is bounded: once more than
+ * {@link IPreferenceConstants#MAX_FINISHED_JOBS} top level elements are kept,
+ * or their results hold more than {@link #MAX_KEPT_STATUS_COUNT} status
+ * objects, the least recently finished elements are evicted. Evicted jobs are
+ * optionally written to a compact {@link FinishedJobsArchive} which can be
+ * read back page by page with {@link #getArchivedJobs(int, int)}.
+ * </p>
  */
 public final class FinishedJobs extends EventManager {
 
@@ -61,6 +76,20 @@ public final class FinishedJobs extends EventManager {
 
 	private static JobTreeElement[] emptyInfos;
 
+	/**
+	 * Upper bound for the number of {@link IStatus} objects (including
+	 * children) retained by the results of all kept jobs.
+	 */
+	static final int MAX_KEPT_STATUS_COUNT = 10000;
+
+	/**
+	 * Number of status objects per top level element, used to keep the kept
+	 * results within {@link #MAX_KEPT_STATUS_COUNT}.
+	 */
+	private Map<JobTreeElement, Integer> statusCounts = new ConcurrentHashMap<>();
+
+	private FinishedJobsArchive archive;
+
 	public static synchronized FinishedJobs getInstance() {
 		if (theInstance == null) {
 			theInstance = new FinishedJobs();
@@ -199,9 +228,140 @@ public final class FinishedJobs extends EventManager {
 				KeptJobsListener jv = (KeptJobsListener) listener;
 				jv.finished(info);
 			}
+			evictIfNeeded();
+		}
+	}
+
+	/**
+	 * Removes the least recently finished top level elements until the kept
+	 * history is within its size and status budget again. Evicted jobs are
+	 * archived when the archive is enabled.
+	 */
+	private void evictIfNeeded() {
+		int maxKept = getMaxKept();
+		List<JobTreeElement> evicted = new ArrayList<>();
+		List<Long> evictedTimes = new ArrayList<>();
+		synchronized (keptjobinfos) {
+			// group the kept elements by their top level element in one pass,
+			// in finish order
+			Map<JobTreeElement, List<JobTreeElement>> groups = new LinkedHashMap<>();
+			Map<JobTreeElement, Integer> groupStatusCounts = new HashMap<>();
+			int statusCount = 0;
+			for (JobTreeElement element : keptjobinfos) {
+				JobTreeElement root = element;
+				while (root.getParent() != null) {
+					root = root.getParent();
+				}
+				groups.computeIfAbsent(root, r -> new ArrayList<>()).add(element);
+				int count = getStatusCount(element);
+				groupStatusCounts.merge(root, Integer.valueOf(count), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+				statusCount += count;
+			}
+			groups.keySet().retainAll(keptjobinfos);
+			int rootCount = groups.size();
+			int toEvict = maxKept > 0 ? Math.max(0, rootCount - maxKept) : 0;
+			int i = 0;
+			for (Map.Entry<JobTreeElement, List<JobTreeElement>> group : groups.entrySet()) {
+				if (i >= rootCount - 1 || (i >= toEvict && statusCount <= MAX_KEPT_STATUS_COUNT)) {
+					break;
+				}
+				statusCount -= groupStatusCounts.get(group.getKey()).intValue();
+				for (JobTreeElement element : group.getValue()) {
+					Long time = finishedTime.get(element);
+					evicted.add(element);
+					evictedTimes.add(time == null ? Long.valueOf(System.currentTimeMillis()) : time);
+				}
+				i++;
+			}
+		}
+		if (evicted.isEmpty()) {
+			return;
+		}
+		FinishedJobsArchive jobsArchive = getArchive();
+		if (jobsArchive != null) {
+			jobsArchive.append(evicted, evictedTimes);
+		}
+		for (JobTreeElement element : evicted) {
+			if (element.getParent() == null) {
+				remove(element);
+			}
 		}
 	}
 
+	/**
+	 * Returns the (cached) number of status objects held by the result of the
+	 * job of the given element.
+	 */
+	private int getStatusCount(JobTreeElement element) {
+		Integer count = statusCounts.get(element);
+		if (count == null) {
+			int c = 0;
+			if (element.isJobInfo()) {
+				Job job = ((JobInfo) element).getJob();
+				if (job != null) {
+					c = countStatus(job.getResult());
+				}
+			}
+			count = Integer.valueOf(c);
+			statusCounts.put(element, count);
+		}
+		return count.intValue();
+	}
+
+	private static int countStatus(IStatus status) {
+		if (status == null) {
+			return 0;
+		}
+		int count = 1;
+		if (status.isMultiStatus()) {
+			for (IStatus child : status.getChildren()) {
+				count += countStatus(child);
+			}
+		}
+		return count;
+	}
+
+	private static int getMaxKept() {
+		WorkbenchPlugin plugin = WorkbenchPlugin.getDefault();
+		if (plugin == null) {
+			return 0;
+		}
+		return plugin.getPreferenceStore().getInt(IPreferenceConstants.MAX_FINISHED_JOBS);
+	}
+
+	private synchronized FinishedJobsArchive getArchive() {
+		WorkbenchPlugin plugin = WorkbenchPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		IPreferenceStore store = plugin.getPreferenceStore();
+		if (!store.getBoolean(IPreferenceConstants.ARCHIVE_FINISHED_JOBS)) {
+			return null;
+		}
+		if (archive == null) {
+			archive = FinishedJobsArchive.createDefault();
+		}
+		return archive;
+	}
+
+	/**
+	 * Returns a page of jobs that were evicted from the kept history and
+	 * archived, newest first.
+	 *
+	 * @param offset
+	 *            number of newest archived jobs to skip
+	 * @param count
+	 *            maximum number of archived jobs to return
+	 * @return the archived jobs, never <code>null</code>
+	 */
+	public List<FinishedJobsArchive.Entry> getArchivedJobs(int offset, int count) {
+		FinishedJobsArchive jobsArchive = getArchive();
+		if (jobsArchive == null) {
+			return Collections.emptyList();
+		}
+		return jobsArchive.read(offset, count);
+	}
+
 	static void disposeAction(JobTreeElement jte) {
 		if (jte.isJobInfo()) {
 			JobInfo ji = (JobInfo) jte;
@@ -307,6 +467,7 @@ public final class FinishedJobs extends EventManager {
 		if (keptjobinfos.remove(jte)) {
 			removed = true;
 			finishedTime.remove(jte);
+			statusCounts.remove(jte);
 			disposeAction(jte);
 
 			// delete all elements that have jte as their direct or indirect
@@ -320,6 +481,7 @@ public final class FinishedJobs extends EventManager {
 							disposeAction(jobTreeElement);
 						}
 						finishedTime.remove(jobTreeElement);
+						statusCounts.remove(jobTreeElement);
 					}
 				}
 			}
@@ -378,7 +540,7 @@ public final class FinishedJobs extends EventManager {
 	}
 
 	/**
-	 * Clear all kept jobs.
+	 * Clear all kept jobs and the archive of evicted jobs.
 	 */
 	public void clearAll() {
 		synchronized (keptjobinfos) {
@@ -389,6 +551,11 @@ public final class FinishedJobs extends EventManager {
 			}
 			keptjobinfos.clear();
 			finishedTime.clear();
+			statusCounts.clear();
+		}
+		FinishedJobsArchive jobsArchive = getArchive();
+		if (jobsArchive != null) {
+			jobsArchive.clear();
 		}
 
 		// notify listeners
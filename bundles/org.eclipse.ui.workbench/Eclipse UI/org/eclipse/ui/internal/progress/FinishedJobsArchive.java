@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.progress;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+
+/**
+ * Compact on-disk history of finished jobs that were evicted from
+ * {@link FinishedJobs}. Only the job name, finish time, result severity and
+ * result message are written; the {@link IStatus} tree and the job itself are
+ * released. Entries are appended one per line by a system job, so that the
+ * job listener evicting them does not wait for the file system, and read back
+ * lazily, newest first.
+ */
+public final class FinishedJobsArchive {
+
+	private static final String FILE_NAME = "finishedJobs.txt"; //$NON-NLS-1$
+
+	private static final String OLD_FILE_NAME = "finishedJobs.old.txt"; //$NON-NLS-1$
+
+	private static final char SEPARATOR = '\t';
+
+	/**
+	 * Once the archive grows beyond this many bytes it is rolled over, keeping
+	 * only the previous generation.
+	 */
+	private static final long MAX_FILE_SIZE = 512 * 1024;
+
+	/**
+	 * A single archived job.
+	 */
+	public static final class Entry {
+		private final long finishTime;
+		private final int severity;
+		private final String name;
+		private final String message;
+
+		Entry(long finishTime, int severity, String name, String message) {
+			this.finishTime = finishTime;
+			this.severity = severity;
+			this.name = name;
+			this.message = message;
+		}
+
+		/**
+		 * @return the time the job finished
+		 */
+		public Date getFinishDate() {
+			return new Date(finishTime);
+		}
+
+		/**
+		 * @return the {@link IStatus} severity of the job result
+		 */
+		public int getSeverity() {
+			return severity;
+		}
+
+		/**
+		 * @return the job name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the message of the job result, may be empty
+		 */
+		public String getMessage() {
+			return message;
+		}
+	}
+
+	private final File file;
+
+	private final File oldFile;
+
+	/**
+	 * Lines appended but not written yet
+	 */
+	private final StringBuilder pendingLines = new StringBuilder();
+
+	private final Job writeJob = Job.createSystem("Archive finished jobs", (IProgressMonitor monitor) -> { //$NON-NLS-1$
+		flush();
+		return Status.OK_STATUS;
+	});
+
+	/**
+	 * Creates an archive in the workbench state location, or returns
+	 * <code>null</code> if no state location is available.
+	 *
+	 * @return the archive or <code>null</code>
+	 */
+	static FinishedJobsArchive createDefault() {
+		WorkbenchPlugin plugin = WorkbenchPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		IPath location = plugin.getDataLocation();
+		if (location == null) {
+			return null;
+		}
+		return new FinishedJobsArchive(location.toFile());
+	}
+
+	FinishedJobsArchive(File directory) {
+		this.file = new File(directory, FILE_NAME);
+		this.oldFile = new File(directory, OLD_FILE_NAME);
+	}
+
+	/**
+	 * Appends the given evicted elements. Only {@link JobInfo}s are archived,
+	 * task and group elements carry no information of their own. The entries
+	 * are written to the file in the background.
+	 *
+	 * @param elements
+	 *            the evicted elements
+	 * @param finishTimes
+	 *            the finish time of each element, in the same order
+	 */
+	void append(List<JobTreeElement> elements, List<Long> finishTimes) {
+		StringBuilder lines = new StringBuilder();
+		for (int i = 0; i < elements.size(); i++) {
+			JobTreeElement element = elements.get(i);
+			if (!element.isJobInfo()) {
+				continue;
+			}
+			Job job = ((JobInfo) element).getJob();
+			if (job == null) {
+				continue;
+			}
+			IStatus result = job.getResult();
+			int severity = result == null ? IStatus.OK : result.getSeverity();
+			String message = result == null ? "" : result.getMessage(); //$NON-NLS-1$
+			lines.append(finishTimes.get(i).longValue()).append(SEPARATOR);
+			lines.append(severity).append(SEPARATOR);
+			lines.append(escape(job.getName())).append(SEPARATOR);
+			lines.append(escape(message)).append('\n');
+		}
+		if (lines.length() == 0) {
+			return;
+		}
+		synchronized (pendingLines) {
+			pendingLines.append(lines);
+		}
+		writeJob.schedule();
+	}
+
+	/**
+	 * Writes the pending lines to the archive file.
+	 */
+	private synchronized void flush() {
+		String lines;
+		synchronized (pendingLines) {
+			if (pendingLines.length() == 0) {
+				return;
+			}
+			lines = pendingLines.toString();
+			pendingLines.setLength(0);
+		}
+		rollOverIfNeeded();
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+			writer.write(lines);
+		} catch (IOException e) {
+			WorkbenchPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Reads a page of archived entries, newest first. Only the requested page
+	 * is kept in memory.
+	 *
+	 * @param offset
+	 *            number of newest entries to skip
+	 * @param count
+	 *            maximum number of entries to return
+	 * @return the entries, never <code>null</code>
+	 */
+	synchronized List<Entry> read(int offset, int count) {
+		if (count <= 0) {
+			return Collections.emptyList();
+		}
+		flush();
+		File[] files = { oldFile, file };
+		// the first pass only counts the lines, so that the second one can
+		// keep just the requested page
+		int total = 0;
+		for (File f : files) {
+			total += countLines(f);
+		}
+		int last = total - offset;
+		if (last <= 0) {
+			return Collections.emptyList();
+		}
+		int first = Math.max(0, last - count);
+		String[] page = new String[last - first];
+		int index = 0;
+		for (File f : files) {
+			if (!f.isFile() || index >= last) {
+				continue;
+			}
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
+				String line;
+				while (index < last && (line = reader.readLine()) != null) {
+					if (index >= first) {
+						page[index - first] = line;
+					}
+					index++;
+				}
+			} catch (IOException e) {
+				WorkbenchPlugin.log(e);
+			}
+		}
+		List<Entry> entries = new ArrayList<>(page.length);
+		for (int i = page.length - 1; i >= 0; i--) {
+			Entry entry = page[i] == null ? null : parse(page[i]);
+			if (entry != null) {
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Deletes all archived entries.
+	 */
+	synchronized void clear() {
+		synchronized (pendingLines) {
+			pendingLines.setLength(0);
+		}
+		file.delete();
+		oldFile.delete();
+	}
+
+	private static int countLines(File f) {
+		if (!f.isFile()) {
+			return 0;
+		}
+		int lines = 0;
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
+			while (reader.readLine() != null) {
+				lines++;
+			}
+		} catch (IOException e) {
+			WorkbenchPlugin.log(e);
+		}
+		return lines;
+	}
+
+	private void rollOverIfNeeded() {
+		if (file.length() < MAX_FILE_SIZE) {
+			return;
+		}
+		oldFile.delete();
+		if (!file.renameTo(oldFile)) {
+			file.delete();
+		}
+	}
+
+	private static Entry parse(String line) {
+		String[] parts = line.split(String.valueOf(SEPARATOR), 4);
+		if (parts.length != 4) {
+			return null;
+		}
+		try {
+			return new Entry(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), unescape(parts[2]),
+					unescape(parts[3]));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static String escape(String text) {
+		if (text == null) {
+			return ""; //$NON-NLS-1$
+		}
+		StringBuilder buffer = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '\\':
+				buffer.append("\\\\"); //$NON-NLS-1$
+				break;
+			case '\t':
+				buffer.append("\\t"); //$NON-NLS-1$
+				break;
+			case '\n':
+				buffer.append("\\n"); //$NON-NLS-1$
+				break;
+			case '\r':
+				break;
+			default:
+				buffer.append(c);
+			}
+		}
+		return buffer.toString();
+	}
+
+	private static String unescape(String text) {
+		if (text.indexOf('\\') < 0) {
+			return text;
+		}
+		StringBuilder buffer = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\' && i + 1 < text.length()) {
+				char next = text.charAt(++i);
+				buffer.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+			} else {
+				buffer.append(c);
+			}
+		}
+		return buffer.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,14 +18,19 @@
 package org.eclipse.ui.internal.quickaccess;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import org.eclipse.core.commands.util.Tracing;
 import org.eclipse.core.runtime.Adapters;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.bindings.TriggerSequence;
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.jface.layout.GridDataFactory;
@@ -56,6 +61,7 @@ import org.eclipse.swt.graphics.TextStyle;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Table;
@@ -65,6 +71,7 @@ import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.IWorkbenchPreferenceConstants;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.misc.Policy;
 import org.eclipse.ui.keys.IBindingService;
 import org.eclipse.ui.themes.ColorUtil;
 
@@ -85,6 +92,7 @@ public abstract class QuickAccessContents {
 	private static final int MAX_COUNT_TOTAL = 20;
 	/** Minumum length to suggest the user to search typed text in the Help */
 	private static final int MIN_SEARCH_LENGTH = 3;
+	private static final String TRACING_COMPONENT = "QUICK_ACCESS"; //$NON-NLS-1$
 
 	protected Text filterText;
 
@@ -108,6 +116,12 @@ public abstract class QuickAccessContents {
 	protected boolean resized = false;
 	private TriggerSequence keySequence;
 
+	/**
+	 * Background jobs of providers whose elements are being loaded. Only
+	 * accessed in the UI thread.
+	 */
+	private Map<QuickAccessProvider, Job> loadingProviders = new HashMap<>();
+
 	public QuickAccessContents(QuickAccessProvider[] providers) {
 		this.providers = providers;
 	}
@@ -133,6 +147,10 @@ public abstract class QuickAccessContents {
 		if (table != null) {
 			boolean filterTextEmpty = filter.length() == 0;
 
+			if (!filterTextEmpty) {
+				loadProviders();
+			}
+
 			// extra entry added when the user activates help search
 			// (extensible)
 			List<QuickAccessEntry> extraEntries = new ArrayList<>();
@@ -162,6 +180,60 @@ public abstract class QuickAccessContents {
 		}
 	}
 
+	/**
+	 * Loads the elements of all providers that don't require the UI thread
+	 * concurrently in background jobs. The UI thread doesn't wait for them:
+	 * providers whose {@link QuickAccessProvider#isIndexReady() index isn't
+	 * ready} are skipped by {@link #computeMatchingEntries} until they are
+	 * done; their results are then added to the table by another refresh with
+	 * the current filter text.
+	 */
+	private void loadProviders() {
+		// loads that completed since the last refresh are used right away
+		loadingProviders.keySet().removeIf(QuickAccessProvider::isIndexReady);
+		List<QuickAccessProvider> toLoad = new ArrayList<>();
+		for (QuickAccessProvider provider : providers) {
+			if (!provider.requiresUiAccess() && !(provider instanceof PreviousPicksProvider)
+					&& !provider.isIndexReady() && !loadingProviders.containsKey(provider)) {
+				toLoad.add(provider);
+			}
+		}
+		if (toLoad.isEmpty()) {
+			return;
+		}
+		Display display = table.getDisplay();
+		for (QuickAccessProvider provider : toLoad) {
+			Job job = Job.createSystem("Load quick access elements: " + provider.getName(), //$NON-NLS-1$
+					(IProgressMonitor monitor) -> {
+						long start = System.currentTimeMillis();
+						try {
+							QuickAccessIndex index = provider.getIndex();
+							if (Policy.DEBUG_QUICK_ACCESS_PERFORMANCE) {
+								Tracing.printTrace(TRACING_COMPONENT, provider.getId() + " loaded " + index.size() //$NON-NLS-1$
+										+ " elements in " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+							}
+						} finally {
+							if (!display.isDisposed()) {
+								display.asyncExec(() -> providerLoaded(provider));
+							}
+						}
+					});
+			loadingProviders.put(provider, job);
+			job.schedule();
+		}
+	}
+
+	private void providerLoaded(QuickAccessProvider provider) {
+		if (loadingProviders.remove(provider) == null || !provider.isIndexReady()) {
+			// already picked up by an earlier refresh, or
+			// failed and will be retried on the next refresh
+			return;
+		}
+		if (table != null && !table.isDisposed() && filterText != null && !filterText.isDisposed()) {
+			refresh(filterText.getText().toLowerCase());
+		}
+	}
+
 	QuickAccessEntry searchHelpEntry = null;
 	QuickAccessProvider searchHelpProvider = null;
 	QuickAccessSearchElement searchHelpElement = null;
@@ -435,8 +507,17 @@ public abstract class QuickAccessContents {
 				if (category != null && !category.equalsIgnoreCase(provider.getName()) && !isPreviousPickProvider) {
 					continue;
 				}
+				// still loading in the background, results are added when done
+				if (filter.length() > 0 && loadingProviders.containsKey(provider)) {
+					continue;
+				}
 				if (filter.length() > 0 || provider.isAlwaysPresent() || showAllMatches) {
-					QuickAccessElement[] sortedElements = provider.getElementsSorted();
+					long start = Policy.DEBUG_QUICK_ACCESS_PERFORMANCE ? System.nanoTime() : 0;
+					// only elements that may match the filter; the previous
+					// picks change while the popup is open and are not indexed
+					QuickAccessElement[] sortedElements = filter.length() > 0 && !isPreviousPickProvider
+							? provider.getIndex().getCandidates(filter)
+							: provider.getElementsSorted();
 
 					// count previous picks and store ids
 					if (isPreviousPickProvider) {
@@ -486,6 +567,12 @@ public abstract class QuickAccessContents {
 
 					indexPerProvider[i] = j;
 
+					if (Policy.DEBUG_QUICK_ACCESS_PERFORMANCE) {
+						Tracing.printTrace(TRACING_COMPONENT,
+								provider.getId() + " matched '" + filter + "' against " + j + " elements in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+										+ (System.nanoTime() - start) / 1000 + "us"); //$NON-NLS-1$
+					}
+
 					if (j < sortedElements.length) {
 						done = false;
 					}
@@ -561,6 +648,10 @@ public abstract class QuickAccessContents {
 	}
 
 	private void doDispose() {
+		for (Job job : loadingProviders.values()) {
+			job.cancel();
+		}
+		loadingProviders.clear();
 		if (textLayout != null && !textLayout.isDisposed()) {
 			textLayout.dispose();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -194,13 +194,14 @@ public abstract class QuickAccessElement {
 	public QuickAccessEntry match(String filter,
 			QuickAccessProvider providerForMatching) {
 		String matchLabel = getMatchLabel();
+		String lowerCaseMatchLabel = matchLabel.toLowerCase();
 		// first occurrence of filter
-		int index = matchLabel.toLowerCase().indexOf(filter);
+		int index = lowerCaseMatchLabel.indexOf(filter);
 		if (index != -1) {
 			index = getLabel().toLowerCase().indexOf(filter);
 			if (index != -1) { // match actual label
-				int quality = matchLabel.toLowerCase().equals(filter) ? QuickAccessEntry.MATCH_PERFECT
-						: (matchLabel.toLowerCase().startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
+				int quality = lowerCaseMatchLabel.equals(filter) ? QuickAccessEntry.MATCH_PERFECT
+						: (lowerCaseMatchLabel.startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
 								: QuickAccessEntry.MATCH_GOOD);
 				return new QuickAccessEntry(this, providerForMatching,
 						new int[][] { { index, index + filter.length() - 1 } },
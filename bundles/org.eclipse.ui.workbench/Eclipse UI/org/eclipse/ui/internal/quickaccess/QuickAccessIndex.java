@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.quickaccess;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A search index over the sorted elements of a {@link QuickAccessProvider}.
+ * <p>
+ * For every element the index stores a signature: the set of ASCII letters and
+ * digits occurring in the provider name and the element's match label. All
+ * matching strategies of
+ * {@link QuickAccessElement#match(String, QuickAccessProvider)} (substring,
+ * whitespace and wildcard patterns, camel case and provider prefixed matches)
+ * only succeed if every letter and digit of the filter occurs in that text, so
+ * elements whose signature does not cover the filter's signature can be
+ * skipped without calling {@code match}. The returned candidates are a
+ * superset of the matching elements, in sorted order.
+ * </p>
+ * <p>
+ * When the filter is refined (the new filter starts with the previous one),
+ * only the previous candidates are checked again.
+ * </p>
+ */
+public class QuickAccessIndex {
+
+	/**
+	 * Characters that have a special meaning in the regular expressions built
+	 * by {@link QuickAccessElement}; filters containing them are not pruned.
+	 */
+	private static final String REGEX_CHARACTERS = "\\[]{}|^$+"; //$NON-NLS-1$
+
+	private final QuickAccessElement[] elements;
+
+	private final long[] signatures;
+
+	private String lastFilter;
+
+	private int[] lastCandidates;
+
+	private int lastCandidateCount;
+
+	/**
+	 * Creates an index over the given elements.
+	 *
+	 * @param providerName
+	 *            the name of the provider, included in the indexed text
+	 * @param sortedElements
+	 *            the elements, in the order candidates should be returned
+	 * @param signatureCache
+	 *            cache of element signatures by id and match label, reused
+	 *            when the index is rebuilt after a provider reset. On return
+	 *            it only holds the signatures of the given elements, so that
+	 *            it doesn't grow across rebuilds. May be <code>null</code>.
+	 */
+	public QuickAccessIndex(String providerName, QuickAccessElement[] sortedElements,
+			Map<String, Long> signatureCache) {
+		this.elements = sortedElements;
+		this.signatures = new long[sortedElements.length];
+		long providerSignature = computeSignature(providerName) | computeSignature(providerName.toLowerCase());
+		Map<String, Long> current = signatureCache == null ? null : new HashMap<>();
+		for (int i = 0; i < sortedElements.length; i++) {
+			String matchLabel = sortedElements[i].getMatchLabel();
+			String key = sortedElements[i].getId() + '\n' + matchLabel;
+			Long signature = signatureCache == null ? null : signatureCache.get(key);
+			if (signature == null) {
+				// lower casing may turn non ASCII characters into ASCII ones
+				signature = Long.valueOf(computeSignature(matchLabel) | computeSignature(matchLabel.toLowerCase()));
+			}
+			if (current != null) {
+				current.put(key, signature);
+			}
+			signatures[i] = signature.longValue() | providerSignature;
+		}
+		if (signatureCache != null) {
+			// drop the signatures of elements that are gone
+			signatureCache.clear();
+			signatureCache.putAll(current);
+		}
+	}
+
+	/**
+	 * Returns the elements that may match the given filter, in sorted order.
+	 *
+	 * @param filter
+	 *            the lower case filter text
+	 * @return the candidate elements
+	 */
+	public synchronized QuickAccessElement[] getCandidates(String filter) {
+		if (!isPrunable(filter)) {
+			lastFilter = null;
+			lastCandidates = null;
+			return elements;
+		}
+		long filterSignature = computeSignature(filter);
+		int[] candidates;
+		int count = 0;
+		if (lastFilter != null && filter.startsWith(lastFilter)) {
+			// refinement: the new candidates are a subset of the previous ones
+			candidates = lastCandidates;
+			for (int k = 0; k < lastCandidateCount; k++) {
+				int i = candidates[k];
+				if ((signatures[i] & filterSignature) == filterSignature) {
+					candidates[count++] = i;
+				}
+			}
+		} else {
+			candidates = new int[elements.length];
+			for (int i = 0; i < elements.length; i++) {
+				if ((signatures[i] & filterSignature) == filterSignature) {
+					candidates[count++] = i;
+				}
+			}
+		}
+		lastFilter = filter;
+		lastCandidates = candidates;
+		lastCandidateCount = count;
+
+		QuickAccessElement[] result = new QuickAccessElement[count];
+		for (int k = 0; k < count; k++) {
+			result[k] = elements[candidates[k]];
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of indexed elements
+	 */
+	public int size() {
+		return elements.length;
+	}
+
+	private static boolean isPrunable(String filter) {
+		if (filter.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < filter.length(); i++) {
+			if (REGEX_CHARACTERS.indexOf(filter.charAt(i)) >= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the signature of the given text: one bit per ASCII letter (case
+	 * insensitive) and digit occurring in it. Other characters are ignored.
+	 *
+	 * @param text
+	 *            the text
+	 * @return the signature
+	 */
+	static long computeSignature(String text) {
+		long signature = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= 'a' && c <= 'z') {
+				signature |= 1L << (c - 'a');
+			} else if (c >= 'A' && c <= 'Z') {
+				signature |= 1L << (c - 'A');
+			} else if (c >= '0' && c <= '9') {
+				signature |= 1L << (26 + c - '0');
+			}
+		}
+		return signature;
+	}
+}
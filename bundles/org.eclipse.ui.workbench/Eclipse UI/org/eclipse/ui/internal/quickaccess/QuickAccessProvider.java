@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 package org.eclipse.ui.internal.quickaccess;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.jface.resource.ImageDescriptor;
 
 /**
@@ -25,6 +27,19 @@ public abstract class QuickAccessProvider {
 
 	private QuickAccessElement[] sortedElements;
 
+	/**
+	 * Volatile so that {@link #isIndexReady()} doesn't wait for the monitor
+	 * held by {@link #getIndex()} while it loads the elements.
+	 */
+	private volatile QuickAccessIndex index;
+
+	/**
+	 * Element signatures of the {@link QuickAccessIndex}, kept across resets
+	 * so that rebuilding the index only computes signatures for new or
+	 * changed elements.
+	 */
+	private final Map<String, Long> signatureCache = new HashMap<>();
+
 	/**
 	 * Returns the unique ID of this provider.
 	 *
@@ -53,7 +68,7 @@ public abstract class QuickAccessProvider {
 	 */
 	public abstract QuickAccessElement[] getElements();
 
-	public QuickAccessElement[] getElementsSorted() {
+	public synchronized QuickAccessElement[] getElementsSorted() {
 		if (sortedElements == null) {
 			sortedElements = getElements();
 			Arrays.sort(sortedElements, (e1, e2) -> e1.getSortLabel().compareTo(e2.getSortLabel()));
@@ -61,6 +76,35 @@ public abstract class QuickAccessProvider {
 		return sortedElements;
 	}
 
+	/**
+	 * Returns the search index over the {@link #getElementsSorted() sorted
+	 * elements}, building it if necessary.
+	 *
+	 * @return the index
+	 */
+	public QuickAccessIndex getIndex() {
+		QuickAccessIndex result = index;
+		if (result == null) {
+			synchronized (this) {
+				result = index;
+				if (result == null) {
+					result = new QuickAccessIndex(getName(), getElementsSorted(), signatureCache);
+					index = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return {@code true} if the search index is built and
+	 *         {@link #getIndex()} will return without loading elements. Never
+	 *         waits for a concurrent load.
+	 */
+	public boolean isIndexReady() {
+		return index != null;
+	}
+
 	/**
 	 * Returns the element for the given ID if available, or null if no matching
 	 * element is available.
@@ -76,7 +120,10 @@ public abstract class QuickAccessProvider {
 	}
 
 	public void reset() {
-		sortedElements = null;
+		synchronized (this) {
+			sortedElements = null;
+			index = null;
+		}
 		doReset();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -150,6 +150,7 @@ public class SearchField {
 	private volatile boolean isLoadingPreviousElements;
 	private Job restoreDialogEntriesJob;
 	private UIJob refreshQuickAccessContents;
+	private Job buildIndexJob;
 
 	@PostConstruct
 	void createControls(final Composite parent, MApplication application, MWindow window) {
@@ -189,6 +190,7 @@ public class SearchField {
 			providerMap.put(provider.getId(), provider);
 		}
 		restoreDialog();
+		scheduleBuildIndex(providers);
 
 		quickAccessContents = new QuickAccessContents(providers) {
 
@@ -652,6 +654,26 @@ public class SearchField {
 		}
 	}
 
+	/**
+	 * Builds the search indexes of the providers that can load their elements
+	 * outside of the UI thread, so that the first keystrokes don't have to.
+	 */
+	private void scheduleBuildIndex(QuickAccessProvider[] providers) {
+		buildIndexJob = Job.createSystem("Index quick access elements", (IProgressMonitor monitor) -> { //$NON-NLS-1$
+			for (QuickAccessProvider provider : providers) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				// previous picks are still being restored
+				if (!provider.requiresUiAccess() && !(provider instanceof PreviousPicksProvider)) {
+					provider.getIndex();
+				}
+			}
+		});
+		buildIndexJob.setRule(RESTORE_DIALOG_ENTRIES_SCHEDULING_RULE);
+		buildIndexJob.schedule();
+	}
+
 	private void restoreDialogEntries(IDialogSettings dialogSettings, boolean restoreUiElements,
 			IProgressMonitor monitor)
 			throws OperationCanceledException {
@@ -694,6 +716,9 @@ public class SearchField {
 
 	@PreDestroy
 	void dispose() {
+		if (buildIndexJob != null) {
+			buildIndexJob.cancel();
+		}
 		if (restoreDialogEntriesJob != null) {
 			restoreDialogEntriesJob.cancel();
 		}
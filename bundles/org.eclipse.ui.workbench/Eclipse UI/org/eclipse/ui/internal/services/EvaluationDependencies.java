@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.services;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.core.expressions.IEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.viewers.ISelection;
+
+/**
+ * An evaluation context recording the variables an expression reads while it
+ * is evaluated, together with their values. As long as none of these values
+ * change, evaluating the expression again gives the same result.
+ * <p>
+ * The recording is incomplete if the expression used parts of the context
+ * that are not tracked, like resolved variables or the parent context. Such
+ * evaluations are not reused. Only used for expressions without property
+ * testers or system property access, whose result may change while the
+ * variables keep their values.
+ * </p>
+ * <p>
+ * The values are held weakly, so that the recording doesn't keep closed parts
+ * or their selections alive. A collected value counts as changed.
+ * </p>
+ */
+final class EvaluationDependencies implements IEvaluationContext {
+
+	private final IEvaluationContext delegate;
+
+	/**
+	 * The names of the variables read, <code>null</code> for the default
+	 * variable
+	 */
+	private final List<String> names = new ArrayList<>();
+
+	/**
+	 * The values read, <code>null</code> for a <code>null</code> value
+	 */
+	private final List<WeakReference<Object>> values = new ArrayList<>();
+
+	private boolean complete = true;
+
+	/**
+	 * @param delegate
+	 *            the context the expression is evaluated in
+	 */
+	EvaluationDependencies(IEvaluationContext delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * @return <code>true</code> if all inputs of the evaluation have been
+	 *         recorded
+	 */
+	boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * Reads the recorded variables from the given context again and compares
+	 * their values with the recorded ones.
+	 *
+	 * @param context
+	 *            the context the expression would be evaluated in
+	 * @return <code>true</code> if none of the values have changed
+	 */
+	boolean hasSameValues(IEvaluationContext context) {
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			Object value = name == null ? context.getDefaultVariable() : context.getVariable(name);
+			WeakReference<Object> reference = values.get(i);
+			if (reference == null) {
+				if (value != null) {
+					return false;
+				}
+			} else if (!isSameValue(reference.get(), value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSameValue(Object oldValue, Object newValue) {
+		if (oldValue == null) {
+			// collected
+			return false;
+		}
+		if (oldValue == newValue) {
+			return true;
+		}
+		return isImmutable(oldValue) && Objects.equals(oldValue, newValue);
+	}
+
+	/**
+	 * Selections and the collections the default variable is converted to are
+	 * created for each change and never modified afterwards.
+	 */
+	private static boolean isImmutable(Object value) {
+		return value instanceof String || value instanceof Boolean || value instanceof Number
+				|| value instanceof ISelection || value instanceof Collection;
+	}
+
+	private void record(String name, Object value) {
+		names.add(name);
+		values.add(value == null ? null : new WeakReference<>(value));
+	}
+
+	@Override
+	public IEvaluationContext getParent() {
+		complete = false;
+		return delegate.getParent();
+	}
+
+	@Override
+	public IEvaluationContext getRoot() {
+		complete = false;
+		return delegate.getRoot();
+	}
+
+	@Override
+	public void setAllowPluginActivation(boolean value) {
+		delegate.setAllowPluginActivation(value);
+	}
+
+	@Override
+	public boolean getAllowPluginActivation() {
+		return delegate.getAllowPluginActivation();
+	}
+
+	@Override
+	public Object getDefaultVariable() {
+		Object value = delegate.getDefaultVariable();
+		record(null, value);
+		return value;
+	}
+
+	@Override
+	public void addVariable(String name, Object value) {
+		complete = false;
+		delegate.addVariable(name, value);
+	}
+
+	@Override
+	public Object removeVariable(String name) {
+		complete = false;
+		return delegate.removeVariable(name);
+	}
+
+	@Override
+	public Object getVariable(String name) {
+		Object value = delegate.getVariable(name);
+		record(name, value);
+		return value;
+	}
+
+	@Override
+	public Object resolveVariable(String name, Object[] args) throws CoreException {
+		complete = false;
+		return delegate.resolveVariable(name, args);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
 
 package org.eclipse.ui.internal.services;
 
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.core.expressions.EvaluationResult;
 import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
 import org.eclipse.core.expressions.IEvaluationContext;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.e4.core.commands.ExpressionContext;
@@ -42,6 +44,26 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 	boolean postingChanges = true;
 	boolean hasRun = false;
 
+	/**
+	 * The number of evaluations done and avoided because none of the variables
+	 * read by the expression changed.
+	 */
+	static final AtomicLong evaluationCount = new AtomicLong();
+	static final AtomicLong avoidedEvaluationCount = new AtomicLong();
+
+	/**
+	 * Whether the result of the expression only depends on the variables it
+	 * reads, so that it can be reused while they keep their values, see
+	 * {@link EvaluationDependencies}.
+	 */
+	private final boolean reusable;
+
+	/**
+	 * The variables read by the last evaluation, or <code>null</code> if it
+	 * cannot be reused.
+	 */
+	private EvaluationDependencies dependencies;
+
 	public EvaluationReference(IEclipseContext context, Expression expression,
 			IPropertyChangeListener listener, String property) {
 		this.context = context;
@@ -49,6 +71,18 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 		this.listener = listener;
 		this.property = property;
 		this.sourcePriority = SourcePriorityNameMapping.computeSourcePriority(expression);
+		this.reusable = expression != null && dependsOnVariablesOnly(expression);
+	}
+
+	/**
+	 * Answers whether the result of the given expression only depends on the
+	 * values of the variables it reads. Property testers and system properties
+	 * may give different results for the same values.
+	 */
+	private static boolean dependsOnVariablesOnly(Expression expression) {
+		ExpressionInfo info = expression.computeExpressionInfo();
+		return info.getAccessedPropertyNames().length == 0 && !info.hasSystemPropertyAccess()
+				&& info.getMisbehavingExpressionTypes() == null;
 	}
 
 	@Override
@@ -72,6 +106,10 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 		} else {
 			try {
 				cache = expression.evaluate(context) != EvaluationResult.FALSE;
+				if (context instanceof EvaluationDependencies
+						&& ((EvaluationDependencies) context).isComplete()) {
+					dependencies = (EvaluationDependencies) context;
+				}
 			} catch (CoreException e) {
 				if (Policy.DEBUG_CMDS) {
 					Activator.trace(Policy.DEBUG_CMDS_FLAG, "Failed to calculate active", e); //$NON-NLS-1$
@@ -92,13 +130,22 @@ public class EvaluationReference extends RunAndTrack implements IEvaluationRefer
 			return false;
 		}
 
+		// reading the variables again keeps them tracked by this runnable
+		if (hasRun && postingChanges && dependencies != null
+				&& dependencies.hasSameValues(new ExpressionContext(this.context))) {
+			avoidedEvaluationCount.incrementAndGet();
+			return participating;
+		}
 		evaluate();
 		return participating;
 	}
 
 	public void evaluate() {
 		boolean value = cache;
-		evaluate(new ExpressionContext(context));
+		dependencies = null;
+		evaluationCount.incrementAndGet();
+		ExpressionContext expressionContext = new ExpressionContext(context);
+		evaluate(reusable ? new EvaluationDependencies(expressionContext) : expressionContext);
 		if (!postingChanges) {
 			return;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import org.eclipse.core.commands.util.Tracing;
 import org.eclipse.core.expressions.Expression;
 import org.eclipse.core.expressions.ExpressionInfo;
 import org.eclipse.core.expressions.IEvaluationContext;
@@ -44,6 +45,7 @@ import org.eclipse.ui.ISourceProvider;
 import org.eclipse.ui.ISourceProviderListener;
 import org.eclipse.ui.ISources;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.misc.Policy;
 import org.eclipse.ui.services.IEvaluationReference;
 import org.eclipse.ui.services.IEvaluationService;
 
@@ -54,6 +56,7 @@ import org.eclipse.ui.services.IEvaluationService;
 public final class EvaluationService implements IEvaluationService {
 	public static final String DEFAULT_VAR = "org.eclipse.ui.internal.services.EvaluationService.default_var"; //$NON-NLS-1$
 	private static final String RE_EVAL = "org.eclipse.ui.internal.services.EvaluationService.evaluate"; //$NON-NLS-1$
+	private static final String TRACING_COMPONENT = "EVALUATIONS"; //$NON-NLS-1$
 	private boolean evaluate = false;
 	private ExpressionContext legacyContext;
 	private IEclipseContext context;
@@ -70,6 +73,8 @@ public final class EvaluationService implements IEvaluationService {
 		@Override
 		public boolean changed(IEclipseContext context) {
 			context.get(RE_EVAL);
+			long evaluations = EvaluationReference.evaluationCount.get();
+			long avoided = EvaluationReference.avoidedEvaluationCount.get();
 			String[] vars = ratVariables.toArray(new String[ratVariables.size()]);
 			for (String var : vars) {
 				Object value = context.getActive(var);
@@ -79,6 +84,11 @@ public final class EvaluationService implements IEvaluationService {
 					ratContext.set(var, value);
 				}
 			}
+			if (Policy.DEBUG_EVALUATIONS_PERFORMANCE) {
+				Tracing.printTrace(TRACING_COMPONENT, "source change: " //$NON-NLS-1$
+						+ (EvaluationReference.evaluationCount.get() - evaluations) + " evaluated, " //$NON-NLS-1$
+						+ (EvaluationReference.avoidedEvaluationCount.get() - avoided) + " avoided"); //$NON-NLS-1$
+			}
 			// This ties tool item enablement to variable changes that can
 			// effect the enablement.
 			getEventBroker().send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC, UIEvents.ALL_ELEMENT_ID);
@@ -342,6 +352,23 @@ public final class EvaluationService implements IEvaluationService {
 		}
 	}
 
+	/**
+	 * @return the number of times an expression of an evaluation reference has
+	 *         been evaluated
+	 */
+	public static long getEvaluationCount() {
+		return EvaluationReference.evaluationCount.get();
+	}
+
+	/**
+	 * @return the number of times the evaluation of an expression has been
+	 *         skipped because none of the variables it reads changed their
+	 *         value
+	 */
+	public static long getAvoidedEvaluationCount() {
+		return EvaluationReference.avoidedEvaluationCount.get();
+	}
+
 	IEventBroker getEventBroker() {
 		if (eventBroker == null) {
 			eventBroker = context.get(IEventBroker.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.ui.internal.themes;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -67,13 +69,16 @@ public final class ThemeElementHelper {
         Arrays.sort(copyOfDefinitions, new IThemeRegistry.HierarchyComparator(
                 definitions));
 
+        // put into the registry at once, instead of copying it for every font
+        Map<String, FontData[]> fonts = new HashMap<>();
         for (FontDefinition definition : copyOfDefinitions) {
-            installFont(definition, theme, store, true);
+            installFont(definition, theme, store, fonts, true);
         }
+        theme.getFontRegistry().putAll(fonts);
 
         if (defaults != null) {
             for (FontDefinition fontDef : defaults) {
-                installFont(fontDef, theme, store, false);
+                installFont(fontDef, theme, store, fonts, false);
             }
         }
     }
@@ -101,12 +106,15 @@ public final class ThemeElementHelper {
      *            the font registry
      * @param store
      *            the preference store from which to set and obtain font data
+     * @param fonts
+     *            the fonts to put into the registry, which take precedence
+     *            over the registry for the fonts defaulted to
      * @param setInRegistry
      * 			  whether the color should be put into the registry as well as
      *            having its default preference set
      */
     private static void installFont(FontDefinition definition, ITheme theme,
-            IPreferenceStore store, boolean setInRegistry) {
+            IPreferenceStore store, Map<String, FontData[]> fonts, boolean setInRegistry) {
         FontRegistry registry = theme.getFontRegistry();
 		Display display = PlatformUI.getWorkbench().getDisplay();
 
@@ -136,7 +144,10 @@ public final class ThemeElementHelper {
 				if (definition.getValue() != null) {
 					prefFont = definition.getValue();
 				} else if (definition.getDefaultsTo() != null) {
-					FontData[] fontData = registry.getFontData(definition.getDefaultsTo());
+					FontData[] fontData = fonts.get(definition.getDefaultsTo());
+					if (fontData == null) {
+						fontData = registry.getFontData(definition.getDefaultsTo());
+					}
 					prefFont = registry.filterData(fontData, display);
 				} else {
 					prefFont = defaultFont;
@@ -147,7 +158,7 @@ public final class ThemeElementHelper {
 			}
 
             if (prefFont != null) {
-                registry.put(id, prefFont);
+                fonts.put(id, prefFont);
             }
         }
 
@@ -190,13 +201,16 @@ public final class ThemeElementHelper {
         Arrays.sort(copyOfDefinitions, new IThemeRegistry.HierarchyComparator(
                 definitions));
 
+        // put into the registry at once, instead of copying it for every color
+        Map<String, RGB> colors = new HashMap<>();
         for (ColorDefinition definition : copyOfDefinitions) {
-            installColor(definition, theme, store, true);
+            installColor(definition, theme, store, colors, true);
         }
+        theme.getColorRegistry().putAll(colors);
 
         if (defaults != null) {
 			for (ColorDefinition colorDef : defaults) {
-				installColor(colorDef, theme, store, false);
+				installColor(colorDef, theme, store, colors, false);
             }
         }
     }
@@ -285,12 +299,15 @@ public final class ThemeElementHelper {
      *            the theme defining the color
      * @param store
      *            the preference store from which to set and obtain color data
+     * @param colors
+     *            the colors to put into the registry, which take precedence
+     *            over the registry for the colors defaulted to
      * @param setInRegistry
      * 			  whether the color should be put into the registry
      */
 
     private static void installColor(ColorDefinition definition, ITheme theme,
-            IPreferenceStore store, boolean setInRegistry) {
+            IPreferenceStore store, Map<String, RGB> colors, boolean setInRegistry) {
 
         //TODO: store shouldn't be null, should assert instead of checking null all over
 
@@ -322,7 +339,10 @@ public final class ThemeElementHelper {
 			if (definition.getValue() != null) {
 				prefColor = definition.getValue();
 			} else if (definition.getDefaultsTo() != null) {
-				prefColor = registry.getRGB(definition.getDefaultsTo());
+				prefColor = colors.get(definition.getDefaultsTo());
+				if (prefColor == null) {
+					prefColor = registry.getRGB(definition.getDefaultsTo());
+				}
 			}
 		}
 
@@ -331,7 +351,7 @@ public final class ThemeElementHelper {
 		}
 
         if (setInRegistry) {
-        	registry.put(id, prefColor);
+        	colors.put(id, prefColor);
         }
 
         if (store != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.ui.internal.themes;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.eclipse.core.commands.common.EventManager;
 import org.eclipse.core.runtime.Platform;
@@ -136,10 +137,11 @@ public class WorkbenchThemeManager extends EventManager implements
 
 		// copy the font values from preferences.
 		FontRegistry jfaceFonts = JFaceResources.getFontRegistry();
-		for (Object fontRegistryKey : jfaceFonts.getKeySet()) {
-			String key = (String) fontRegistryKey;
-			defaultThemeFontRegistry.put(key, jfaceFonts.getFontData(key));
+		Map<String, FontData[]> defaultFonts = new HashMap<>();
+		for (String key : jfaceFonts.getKeySet()) {
+			defaultFonts.put(key, jfaceFonts.getFontData(key));
 		}
+		defaultThemeFontRegistry.putAll(defaultFonts);
 
 		//Theme might be set via plugin_configuration.ini
 		String themeId = PrefUtil.getAPIPreferenceStore().getDefaultString(IWorkbenchPreferenceConstants.CURRENT_THEME_ID);
@@ -352,18 +354,20 @@ public class WorkbenchThemeManager extends EventManager implements
 			{
 				ColorRegistry jfaceColors = JFaceResources.getColorRegistry();
 				ColorRegistry themeColors = currentTheme.getColorRegistry();
-				for (Object themeColorKey : themeColors.getKeySet()) {
-					String key = (String) themeColorKey;
-					jfaceColors.put(key, themeColors.getRGB(key));
+				Map<String, RGB> colors = new HashMap<>();
+				for (String key : themeColors.getKeySet()) {
+					colors.put(key, themeColors.getRGB(key));
 				}
+				jfaceColors.putAll(colors);
 			}
 			{
 				FontRegistry jfaceFonts = JFaceResources.getFontRegistry();
 				FontRegistry themeFonts = currentTheme.getFontRegistry();
-				for (Object themeFontKey : themeFonts.getKeySet()) {
-					String key = (String) themeFontKey;
-					jfaceFonts.put(key, themeFonts.getFontData(key));
+				Map<String, FontData[]> fonts = new HashMap<>();
+				for (String key : themeFonts.getKeySet()) {
+					fonts.put(key, themeFonts.getFontData(key));
 				}
+				jfaceFonts.putAll(fonts);
 			}
 			{
 				if (oldTheme != null && eventBroker != null) {
@@ -434,20 +438,24 @@ public class WorkbenchThemeManager extends EventManager implements
 		// don't want to modify the 3.x theme registries api
 		protected void resetThemeRegistries(ThemeRegistry themeRegistry, FontRegistry fontRegistry,
 				ColorRegistry colorRegistry) {
+			Map<String, FontData[]> fonts = new LinkedHashMap<>();
 			for (FontDefinition def : themeRegistry.getFonts()) {
 				if (def.isOverridden()) {
 					def.resetToDefaultValue();
-					fontRegistry.put(def.getId(), def.getValue() != null ? def.getValue()
+					fonts.put(def.getId(), def.getValue() != null ? def.getValue()
 							: PreferenceConverter.getFontDataArrayDefaultDefault());
 				}
 			}
+			fontRegistry.putAll(fonts);
+			Map<String, RGB> colors = new LinkedHashMap<>();
 			for (ColorDefinition def : themeRegistry.getColors()) {
 				if (def.isOverridden()) {
 					def.resetToDefaultValue();
-					colorRegistry.put(def.getId(), def.getValue() != null ? def.getValue()
+					colors.put(def.getId(), def.getValue() != null ? def.getValue()
 							: EMPTY_COLOR_VALUE);
 				}
 			}
+			colorRegistry.putAll(colors);
 		}
 
 		protected void overrideAlreadyExistingDefinitions(org.osgi.service.event.Event event,
@@ -457,24 +465,29 @@ public class WorkbenchThemeManager extends EventManager implements
 			org.eclipse.e4.ui.css.swt.theme.ITheme cssTheme = getTheme(event);
 			ITheme theme = getColorsAndFontsTheme();
 
+			// the values styled by the theme are applied as a single change
+			Map<String, FontData[]> fonts = new LinkedHashMap<>();
 			for (FontDefinition fontDefinition : themeRegistry.getFonts()) {
 				engine.style(fontDefinition);
 				if (fontDefinition.isOverridden()) {
 					populateDefinition(cssTheme, theme, fontRegistry, fontDefinition, store);
 					if (!fontDefinition.isModifiedByUser()) {
-						fontRegistry.put(fontDefinition.getId(), fontDefinition.getValue());
+						fonts.put(fontDefinition.getId(), fontDefinition.getValue());
 					}
 				}
 			}
+			fontRegistry.putAll(fonts);
+			Map<String, RGB> colors = new LinkedHashMap<>();
 			for (ColorDefinition colorDefinition : themeRegistry.getColors()) {
 				engine.style(colorDefinition);
 				if (colorDefinition.isOverridden()) {
 					populateDefinition(cssTheme, theme, colorRegistry, colorDefinition, store);
 					if (!colorDefinition.isModifiedByUser()) {
-						colorRegistry.put(colorDefinition.getId(), colorDefinition.getValue());
+						colors.put(colorDefinition.getId(), colorDefinition.getValue());
 					}
 				}
 			}
+			colorRegistry.putAll(colors);
 		}
 
 		private void addNewDefinitions(org.osgi.service.event.Event event, IStylingEngine engine,
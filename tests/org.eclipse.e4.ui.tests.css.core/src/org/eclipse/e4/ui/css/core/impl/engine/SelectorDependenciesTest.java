@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
+import org.junit.jupiter.api.Test;
+
+public class SelectorDependenciesTest {
+
+	private static SelectorDependencies index(String css) throws IOException {
+		CSSEngine engine = ParserTestUtil.createEngine();
+		engine.parseStyleSheet(new StringReader(css));
+		return new SelectorDependencies(engine.getDocumentCSS().getStyleSheets());
+	}
+
+	@Test
+	public void testScopes() throws IOException {
+		SelectorDependencies dependencies = index(".MPartStack.active CTabFolder { color: red; }\n"
+				+ "CTabFolder.busy { color: blue; }\n" + "#editor Label { color: green; }\n"
+				+ "Text:focus { color: black; }");
+
+		assertEquals(SelectorDependencies.SUBTREE, dependencies.getScope(Collections.singleton(".active")));
+		assertEquals(SelectorDependencies.SUBTREE, dependencies.getScope(Collections.singleton(".MPartStack")));
+		assertEquals(SelectorDependencies.ELEMENT, dependencies.getScope(Collections.singleton(".busy")));
+		assertEquals(SelectorDependencies.SUBTREE, dependencies.getScope(Collections.singleton("#editor")));
+		assertEquals(SelectorDependencies.ELEMENT, dependencies.getScope(Collections.singleton(":focus")));
+		assertEquals(SelectorDependencies.NONE, dependencies.getScope(Collections.singleton(":hover")));
+		assertEquals(SelectorDependencies.NONE, dependencies.getScope(Collections.singleton(".minimized")));
+		assertEquals(SelectorDependencies.SUBTREE, dependencies.getScope(Arrays.asList(".busy", ".active")));
+	}
+
+	@Test
+	public void testInheritRestylesDescendants() throws IOException {
+		SelectorDependencies dependencies = index("Composite.busy { background-color: red; }\n"
+				+ "Label { background-color: inherit; }");
+
+		assertEquals(SelectorDependencies.SUBTREE, dependencies.getScope(Collections.singleton(".busy")));
+	}
+
+	@Test
+	public void testGetChanges() {
+		assertEquals(new HashSet<>(Arrays.asList(".active", ".minimized")),
+				SelectorDependencies.getChanges("MPartStack active", "MPartStack  minimized", "id", "id"));
+		assertEquals(new HashSet<>(Arrays.asList("#a", "#b")),
+				SelectorDependencies.getChanges("MPart", "MPart", "a", "b"));
+		assertEquals(Collections.singleton(".MPart"), SelectorDependencies.getChanges(null, "MPart", null, null));
+		assertEquals(Collections.emptySet(), SelectorDependencies.getChanges("MPart", "MPart", null, null));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
 package org.eclipse.e4.ui.tests.css.core;
 
 import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngineTest;
+import org.eclipse.e4.ui.css.core.impl.engine.SelectorDependenciesTest;
+import org.eclipse.e4.ui.tests.css.core.parser.CSSValueParserTest;
 import org.eclipse.e4.ui.tests.css.core.parser.CascadeTest;
 import org.eclipse.e4.ui.tests.css.core.parser.FontFaceRulesTest;
 import org.eclipse.e4.ui.tests.css.core.parser.ImportTest;
@@ -39,11 +41,13 @@ import org.junit.runner.RunWith;
 	StyleRuleTest.class,
 	ViewCSSTest.class,
 	ValueTest.class,
+	CSSValueParserTest.class,
 	SelectorTest.class,
 	CSSEngineTest.class,
 	ImportTest.class,
 	InheritTest.class,
-	AbstractCSSEngineTest.class
+	AbstractCSSEngineTest.class,
+	SelectorDependenciesTest.class
 })
 public class CssCoreTestSuite {
 }
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.core.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.StringReader;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.dom.parsers.CSSValueParser;
+import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.css.CSSPrimitiveValue;
+import org.w3c.dom.css.CSSValue;
+import org.w3c.dom.css.CSSValueList;
+import org.w3c.dom.css.RGBColor;
+
+public class CSSValueParserTest {
+
+	private static final String[] VALUES = { "#2F2F2F", "#abc", "rgb(235, 235, 235)", "rgb(10%,20%,30%)",
+			"#515658 #2F2F2F 100%", "'Segoe UI' 9px normal", "\"Segoe UI\", sans-serif", "url(./images/close.png)",
+			"url( 'a b.png' )", "inherit", "true", "SomeWord", "34", "-12", "2.0", ".5", "-1.5em", "30%", "26px",
+			"88in", "75em", "2cm", "34, 34, 34", "italic bold", "2147483648" };
+
+	private CSSEngine engine;
+
+	@BeforeEach
+	public void setUp() {
+		engine = ParserTestUtil.createEngine();
+	}
+
+	@Test
+	public void testSameValuesAsSACParser() throws Exception {
+		for (String text : VALUES) {
+			CSSValue expected = engine.parsePropertyValue(new StringReader(text));
+			CSSValue actual = CSSValueParser.parse(text);
+			assertNotNull(actual, text);
+			assertSameValue(text, expected, actual);
+		}
+	}
+
+	@Test
+	public void testRGBColor() {
+		RGBColor color = ((CSSPrimitiveValue) CSSValueParser.parse("#FF8000")).getRGBColorValue();
+		assertEquals(255, color.getRed().getFloatValue(CSSPrimitiveValue.CSS_NUMBER));
+		assertEquals(128, color.getGreen().getFloatValue(CSSPrimitiveValue.CSS_NUMBER));
+		assertEquals(0, color.getBlue().getFloatValue(CSSPrimitiveValue.CSS_NUMBER));
+	}
+
+	@Test
+	public void testIdentifiersAreInterned() {
+		String first = ((CSSPrimitiveValue) CSSValueParser.parse(new String("normal"))).getStringValue();
+		String second = ((CSSPrimitiveValue) ((CSSValueList) CSSValueParser.parse("bold normal")).item(1))
+				.getStringValue();
+		assertSame(first, second);
+	}
+
+	@Test
+	public void testUnsupportedValues() {
+		for (String text : new String[] { "", "  ", "1.", ",1", "1,", "#12345", "#ggg", "'unterminated",
+				"'esc\\'aped'", "a /* comment */ b", "foo(1)", "rgb(1 2 3)", "url()", "1px !important", "a;b",
+				"-moz-foo", "u+0041", "2sec" }) {
+			assertNull(CSSValueParser.parse(text), text);
+		}
+	}
+
+	@Test
+	public void testEngineFallsBackToSACParser() throws Exception {
+		CSSValue value = engine.parsePropertyValue("a /* comment */ b");
+		assertEquals("a b", value.getCssText());
+	}
+
+	private static void assertSameValue(String text, CSSValue expected, CSSValue actual) {
+		assertEquals(expected.getClass(), actual.getClass(), text);
+		assertEquals(expected.getCssValueType(), actual.getCssValueType(), text);
+		assertEquals(expected.getCssText(), actual.getCssText(), text);
+		if (expected instanceof CSSValueList) {
+			CSSValueList expectedList = (CSSValueList) expected;
+			CSSValueList actualList = (CSSValueList) actual;
+			assertEquals(expectedList.getLength(), actualList.getLength(), text);
+			for (int i = 0; i < expectedList.getLength(); i++) {
+				assertSameValue(text, expectedList.item(i), actualList.item(i));
+			}
+		} else {
+			assertEquals(((CSSPrimitiveValue) expected).getPrimitiveType(),
+					((CSSPrimitiveValue) actual).getPrimitiveType(), text);
+		}
+	}
+}
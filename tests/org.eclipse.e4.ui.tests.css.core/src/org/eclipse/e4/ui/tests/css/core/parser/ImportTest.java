@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Stefan Winkler and others.
+ * Copyright (c) 2014, 2026 Stefan Winkler and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.StringReader;
 
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.dom.CSSStyleSheetImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.DocumentCSSImpl;
 import org.eclipse.e4.ui.css.core.impl.dom.ViewCSSImpl;
 import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
@@ -119,6 +120,8 @@ public class ImportTest {
 		assertStyle(deepNestedCss, cssRules, 0);
 		assertStyle(childStyle, cssRules, 1);
 		assertStyle(rootStyle, cssRules, 2);
+		// both imported files are recorded
+		assertEquals(2, ((CSSStyleSheetImpl) result).getImportedURLs().size());
 		// check the full DocumentCSS of the engine
 		StyleSheetList documentStyleSheets = engine.getDocumentCSS().getStyleSheets();
 		assertEquals(1, documentStyleSheets.getLength());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This
  * program and the accompanying materials are made available under the terms of
@@ -16,10 +16,12 @@ t SPDX-License-Identifier: EPL-2.0
 package org.eclipse.e4.ui.tests.css.core.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.core.impl.dom.Measure;
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
 import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -143,4 +145,14 @@ public class ValueTest {
 		assertTrue(value.getCssText().matches("34\\s*,\\s*34\\s*,\\s*34"));
 	}
 
+	@Test
+	public void testParsedValueIsReused() throws Exception {
+		AbstractCSSEngine cssEngine = (AbstractCSSEngine) engine;
+		CSSValue value = engine.parsePropertyValue("#FF8000 12px");
+		long hits = cssEngine.getParsedValueHitCount();
+		assertSame(value, engine.parsePropertyValue("#FF8000 12px"));
+		assertEquals(hits + 1, cssEngine.getParsedValueHitCount());
+		assertEquals("12.0px", engine.parsePropertyValue("12px").getCssText());
+		assertEquals(hits + 1, cssEngine.getParsedValueHitCount());
+	}
 }
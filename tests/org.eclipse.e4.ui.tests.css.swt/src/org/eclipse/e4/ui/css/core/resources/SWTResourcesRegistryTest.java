@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This
  * program and the accompanying materials are made available under the terms of
@@ -15,19 +15,32 @@
 package org.eclipse.e4.ui.css.core.resources;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
 import org.eclipse.e4.ui.css.swt.resources.ResourceByDefinitionKey;
 import org.eclipse.e4.ui.css.swt.resources.SWTResourcesRegistry;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Resource;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
 import org.junit.Test;
 
 public class SWTResourcesRegistryTest {
@@ -62,6 +75,83 @@ public class SWTResourcesRegistryTest {
 		assertTrue(resources.containsKey("key1"));
 	}
 
+	@Test
+	public void testFontsAreShared() {
+		Display display = Display.getDefault();
+		SWTResourcesRegistry registry1 = new SWTResourcesRegistry(display);
+		SWTResourcesRegistry registry2 = new SWTResourcesRegistry(display);
+		Font font1 = registry1.createFont(new FontData("Arial", 37, SWT.BOLD), display);
+		Font font2 = registry2.createFont(new FontData("Arial", 37, SWT.BOLD), display);
+
+		registry1.registerResource(Font.class, "font", font1);
+		registry2.registerResource(Font.class, "font", font2);
+		Object shared = registry1.getResource(Font.class, "font");
+		assertSame(shared, registry2.getResource(Font.class, "font"));
+		assertFalse(((Font) shared).isDisposed());
+		assertEquals(1, registry1.getSharedResourceCount());
+
+		registry1.dispose();
+		assertFalse(((Font) shared).isDisposed());
+		registry2.dispose();
+		assertTrue(((Font) shared).isDisposed());
+		assertEquals(0, registry2.getSharedResourceCount());
+	}
+
+	@Test
+	public void testConvertedFontsAreShared() throws IOException {
+		Display display = Display.getDefault();
+		Shell shell = new Shell(display);
+		try {
+			Label label1 = new Label(shell, SWT.NONE);
+			Label label2 = new Label(shell, SWT.NONE);
+			CSSEngine engine1 = createEngine(display, "Label { font: Arial 37px; font-weight: bold }");
+			CSSEngine engine2 = createEngine(display, "Label { font: Arial 37px; font-weight: bold }");
+			engine1.applyStyles(label1, false);
+			engine2.applyStyles(label2, false);
+			Font font = label1.getFont();
+			assertSame(font, label2.getFont());
+			assertFalse(font.isDisposed());
+
+			engine1.dispose();
+			assertFalse(font.isDisposed());
+			label1.setFont(null);
+			label2.setFont(null);
+			engine2.dispose();
+			assertTrue(font.isDisposed());
+		} finally {
+			shell.dispose();
+		}
+	}
+
+	@Test
+	public void testReleasedResourcesAreDisposedLater() {
+		Display display = Display.getDefault();
+		SWTResourcesRegistry registry = new SWTResourcesRegistry(display);
+		Image image = new Image(display, 1, 1);
+		Font font = registry.createFont(new FontData("Arial", 37, SWT.BOLD), display);
+		registry.registerResource(Image.class, "image", image);
+		registry.registerResource(Font.class, "font", font);
+
+		registry.releaseResources();
+		assertNull(registry.getResource(Image.class, "image"));
+		assertNull(registry.getResource(Font.class, "font"));
+		assertFalse(image.isDisposed());
+		assertFalse(font.isDisposed());
+		assertEquals(2, registry.getResourceCount());
+
+		registry.disposeReleasedResources();
+		assertTrue(image.isDisposed());
+		assertTrue(font.isDisposed());
+		assertEquals(0, registry.getResourceCount());
+		assertEquals(0, registry.getSharedResourceCount());
+	}
+
+	private static CSSEngine createEngine(Display display, String styleSheet) throws IOException {
+		CSSEngine engine = new CSSSWTEngineImpl(display);
+		engine.parseStyleSheet(new StringReader(styleSheet));
+		return engine;
+	}
+
 	public static class SWTResourcesRegistryTestable extends
 	SWTResourcesRegistry {
 		public SWTResourcesRegistryTestable() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This
  * program and the accompanying materials are made available under the terms of
@@ -26,6 +26,7 @@ import org.eclipse.e4.ui.css.swt.helpers.PreferenceOverriddenByCssChangeListener
 import org.eclipse.e4.ui.css.swt.properties.preference.EclipsePreferencesHandlerTest;
 import org.eclipse.e4.ui.tests.css.properties.tabbed.TabbedPropertiesListTest;
 import org.eclipse.e4.ui.tests.css.properties.tabbed.TabbedPropertiesTitleTest;
+import org.eclipse.e4.ui.tests.css.swt.ApplyStylesOnChangeTest;
 import org.eclipse.e4.ui.tests.css.swt.Bug419482Test;
 import org.eclipse.e4.ui.tests.css.swt.Bug459961Test;
 import org.eclipse.e4.ui.tests.css.swt.ButtonTest;
@@ -47,12 +48,14 @@ import org.eclipse.e4.ui.tests.css.swt.LinkTest;
 import org.eclipse.e4.ui.tests.css.swt.MarginTest;
 import org.eclipse.e4.ui.tests.css.swt.ShellActiveTest;
 import org.eclipse.e4.ui.tests.css.swt.ShellTest;
+import org.eclipse.e4.ui.tests.css.swt.StyleSheetCacheTest;
 import org.eclipse.e4.ui.tests.css.swt.StyledTextScrollbarTest;
 import org.eclipse.e4.ui.tests.css.swt.TableTest;
 import org.eclipse.e4.ui.tests.css.swt.TextTextTransformTest;
 import org.eclipse.e4.ui.tests.css.swt.ThemeTest;
 import org.eclipse.e4.ui.tests.css.swt.ThemesExtensionTest;
 import org.eclipse.e4.ui.tests.css.swt.TreeTest;
+import org.eclipse.e4.ui.tests.css.swt.UnchangedPropertyValueTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -87,6 +90,9 @@ import org.junit.runners.Suite;
 	TextTextTransformTest.class,
 	DescendentTest.class,
 	ThemeTest.class,
+	StyleSheetCacheTest.class,
+	ApplyStylesOnChangeTest.class,
+	UnchangedPropertyValueTest.class,
 	Bug459961Test.class,
 	Bug419482Test.class,
 	ShellActiveTest.class,
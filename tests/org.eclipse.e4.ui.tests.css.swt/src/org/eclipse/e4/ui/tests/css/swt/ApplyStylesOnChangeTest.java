@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Test;
+
+public class ApplyStylesOnChangeTest extends CSSSWTTestCase {
+
+	@Test
+	public void testOnlyAffectedElementsAreRestyled() {
+		AbstractCSSEngine engine = (AbstractCSSEngine) createEngine(
+				".active Label { color: #FF0000; }\n" + "Label.busy { color: #0000FF; }", display);
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Composite panel = new Composite(shell, SWT.NONE);
+		panel.setLayout(new FillLayout());
+		Label label = new Label(panel, SWT.NONE);
+		WidgetElement.setCSSClass(panel, "inactive");
+		WidgetElement.setCSSClass(label, "idle");
+		engine.applyStyles(shell, true);
+
+		// the class is used by ancestor selectors: the panel and the label
+		long count = engine.getRestyledElementCount();
+		WidgetElement.setCSSClass(panel, "active");
+		engine.applyStylesOnChange(panel, "inactive", null);
+		assertEquals(count + 2, engine.getRestyledElementCount());
+		assertEquals(RED, label.getForeground().getRGB());
+
+		// the class is used by the last compound selector only: the label
+		count = engine.getRestyledElementCount();
+		WidgetElement.setCSSClass(panel, "inactive");
+		WidgetElement.setCSSClass(label, "busy");
+		engine.applyStylesOnChange(label, "idle", null);
+		assertEquals(count + 1, engine.getRestyledElementCount());
+		assertEquals(BLUE, label.getForeground().getRGB());
+
+		// no rule uses the class
+		count = engine.getRestyledElementCount();
+		long skipped = engine.getSkippedRestyleCount();
+		WidgetElement.setCSSClass(panel, "minimized");
+		engine.applyStylesOnChange(panel, "inactive", null);
+		assertEquals(count, engine.getRestyledElementCount());
+		assertEquals(skipped + 1, engine.getSkippedRestyleCount());
+	}
+}
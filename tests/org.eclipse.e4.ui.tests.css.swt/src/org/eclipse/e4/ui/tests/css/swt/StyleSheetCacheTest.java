@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.css.swt.internal.theme.StyleSheetCache;
+import org.eclipse.swt.widgets.Label;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.stylesheets.StyleSheet;
+
+public class StyleSheetCacheTest extends CSSSWTTestCase {
+
+	private File cssFile;
+
+	@Override
+	@Before
+	public void setUp() {
+		super.setUp();
+		try {
+			cssFile = File.createTempFile("theme", ".css");
+			write("Label { color: red; }");
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		cssFile.delete();
+		super.tearDown();
+	}
+
+	private void write(String css) throws IOException {
+		Files.write(cssFile.toPath(), css.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testStyleSheetsAreSharedAndReused() throws IOException {
+		CSSEngine first = new CSSSWTEngineImpl(display);
+		CSSEngine second = new CSSSWTEngineImpl(display);
+		List<CSSEngine> engines = Arrays.asList(first, second);
+		List<String> stylesheets = Collections.singletonList(cssFile.toURI().toURL().toString());
+		StyleSheetCache cache = new StyleSheetCache();
+
+		List<StyleSheet> parsed = cache.load("test", stylesheets, engines);
+		assertEquals(1, parsed.size());
+		assertEquals(1, cache.getMisses());
+		assertSame(parsed.get(0), first.getDocumentCSS().getStyleSheets().item(0));
+		assertSame(parsed.get(0), second.getDocumentCSS().getStyleSheets().item(0));
+
+		first.reset();
+		second.reset();
+		List<StyleSheet> loaded = cache.load("test", stylesheets, engines);
+		assertEquals(1, cache.getHits());
+		assertSame(parsed.get(0), loaded.get(0));
+		assertEquals(1, first.getDocumentCSS().getStyleSheets().getLength());
+		assertEquals(1, second.getDocumentCSS().getStyleSheets().getLength());
+
+		Label label = createTestLabel("");
+		second.applyStyles(label, true);
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	public void testModifiedStyleSheetIsParsedAgain() throws IOException {
+		CSSEngine engine = new CSSSWTEngineImpl(display);
+		List<String> stylesheets = Collections.singletonList(cssFile.toURI().toURL().toString());
+		StyleSheetCache cache = new StyleSheetCache();
+
+		StyleSheet parsed = cache.load("test", stylesheets, Collections.singletonList(engine)).get(0);
+		write("Label { color: blue; }");
+		cssFile.setLastModified(cssFile.lastModified() + 2000);
+		engine.reset();
+		StyleSheet reparsed = cache.load("test", stylesheets, Collections.singletonList(engine)).get(0);
+		assertEquals(2, cache.getMisses());
+		assertEquals(0, cache.getHits());
+		assertNotSame(parsed, reparsed);
+	}
+
+	@Test
+	public void testModifiedImportIsParsedAgain() throws IOException {
+		File imported = File.createTempFile("imported", ".css", cssFile.getParentFile());
+		try {
+			Files.write(imported.toPath(), "Label { color: red; }".getBytes(StandardCharsets.UTF_8));
+			write("@import url('" + imported.getName() + "');\nButton { color: blue; }");
+			CSSEngine engine = new CSSSWTEngineImpl(display);
+			List<String> stylesheets = Collections.singletonList(cssFile.toURI().toURL().toString());
+			StyleSheetCache cache = new StyleSheetCache();
+
+			StyleSheet parsed = cache.load("test", stylesheets, Collections.singletonList(engine)).get(0);
+			engine.reset();
+			assertSame(parsed, cache.load("test", stylesheets, Collections.singletonList(engine)).get(0));
+			assertEquals(1, cache.getHits());
+
+			Files.write(imported.toPath(), "Label { color: blue; }".getBytes(StandardCharsets.UTF_8));
+			imported.setLastModified(imported.lastModified() + 2000);
+			engine.reset();
+			StyleSheet reparsed = cache.load("test", stylesheets, Collections.singletonList(engine)).get(0);
+			assertEquals(2, cache.getMisses());
+			assertNotSame(parsed, reparsed);
+		} finally {
+			imported.delete();
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.helpers.CSSSWTAppliedValueHelper;
+import org.eclipse.e4.ui.css.swt.resources.ResourceByDefinitionKey;
+import org.eclipse.e4.ui.css.swt.resources.SWTResourcesRegistry;
+import org.eclipse.e4.ui.internal.css.swt.CSSActivator;
+import org.eclipse.e4.ui.internal.css.swt.definition.IColorAndFontProvider;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Test;
+
+public class UnchangedPropertyValueTest extends CSSSWTTestCase {
+
+	@Test
+	public void testUnchangedValuesAreNotApplied() {
+		CSSEngine engine = createEngine("Label { color: #FF0000; background-color: #0000FF; }\n"
+				+ "Label.busy { color: #00FF00; }", display);
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Label label = new Label(shell, SWT.NONE);
+		engine.applyStyles(shell, true);
+		assertEquals(RED, label.getForeground().getRGB());
+		assertEquals(BLUE, label.getBackground().getRGB());
+
+		// both values are applied already
+		long avoidedCalls = CSSSWTAppliedValueHelper.getAvoidedCallCount();
+		engine.applyStyles(label, false);
+		assertEquals(avoidedCalls + 2, CSSSWTAppliedValueHelper.getAvoidedCallCount());
+		assertEquals(RED, label.getForeground().getRGB());
+		assertEquals(BLUE, label.getBackground().getRGB());
+
+		// only the color changed
+		avoidedCalls = CSSSWTAppliedValueHelper.getAvoidedCallCount();
+		WidgetElement.setCSSClass(label, "busy");
+		engine.applyStyles(label, false);
+		assertEquals(avoidedCalls + 1, CSSSWTAppliedValueHelper.getAvoidedCallCount());
+		assertEquals(GREEN, label.getForeground().getRGB());
+		assertEquals(BLUE, label.getBackground().getRGB());
+	}
+
+	@Test
+	public void testValuesAreAppliedAfterReset() {
+		CSSEngine engine = createEngine("Label { color: #FF0000; }", display);
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		Label label = new Label(shell, SWT.NONE);
+		engine.applyStyles(shell, true);
+		assertEquals(RED, label.getForeground().getRGB());
+
+		// resetting the engine restores the default colors of the label
+		clearAndApply(engine, shell, "Label { color: #FF0000; }");
+		assertEquals(RED, label.getForeground().getRGB());
+	}
+
+	@Test
+	public void testChangedColorDefinitionIsApplied() {
+		IColorAndFontProvider provider = mock(IColorAndFontProvider.class);
+		when(provider.getColor("TEST_COLOR")).thenReturn(RED);
+		registerColorAndFontProvider(provider);
+		CSSEngine engine = createEngine("Label { color: '#TEST_COLOR'; }", display);
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		Label label = new Label(shell, SWT.NONE);
+		engine.applyStyles(shell, true);
+		assertEquals(RED, label.getForeground().getRGB());
+
+		// the user edits the color, the workbench drops the colors of the
+		// definitions and reapplies the styles
+		when(provider.getColor("TEST_COLOR")).thenReturn(GREEN);
+		((SWTResourcesRegistry) engine.getResourcesRegistry())
+				.removeResourcesByKeyTypeAndType(ResourceByDefinitionKey.class, Font.class, Color.class);
+		engine.reapply();
+		assertEquals(GREEN, label.getForeground().getRGB());
+	}
+
+	private static void registerColorAndFontProvider(IColorAndFontProvider provider) {
+		try {
+			new CSSActivator() {
+				@Override
+				public IColorAndFontProvider getColorAndFontProvider() {
+					return provider;
+				}
+			}.start(null);
+		} catch (Exception e) {
+			fail("Register color provider should not fail");
+		}
+	}
+}
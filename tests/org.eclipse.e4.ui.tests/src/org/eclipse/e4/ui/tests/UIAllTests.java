@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,7 @@ import org.eclipse.e4.ui.tests.workbench.ModelAssemblerFragmentOrderingTests;
 import org.eclipse.e4.ui.tests.workbench.ModelAssemblerTests;
 import org.eclipse.e4.ui.tests.workbench.PartOnTopManagerTest;
 import org.eclipse.e4.ui.tests.workbench.PartRenderingEngineTests;
+import org.eclipse.e4.ui.tests.workbench.PerformanceTracingTest;
 import org.eclipse.e4.ui.tests.workbench.SashRendererTest;
 import org.eclipse.e4.ui.tests.workbench.TopoSortTests;
 import org.eclipse.e4.ui.workbench.renderers.swt.StackRendererTest;
@@ -65,6 +66,7 @@ import org.junit.runners.Suite;
 		Bug320857Test.class,
 		PartOnTopManagerTest.class,
 		PartRenderingEngineTests.class,
+		PerformanceTracingTest.class,
 		SashRendererTest.class,
 		MApplicationCommandAccessTest.class,
 		MMenuItemTest.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import javax.inject.Named;
 import org.eclipse.e4.core.commands.CommandServiceAddon;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
@@ -522,6 +523,53 @@ public class MMenuItemTest {
 		assertEquals("mmc.item1", fileManager.getItems()[3].getId());
 	}
 
+	@Test
+	public void testMenuContributionsCache() {
+		MWindow window = ems.createModelElement(MWindow.class);
+		MMenu mainMenu = ems.createModelElement(MMenu.class);
+		mainMenu.setElementId("org.eclipse.ui.main.menu");
+		window.setMainMenu(mainMenu);
+
+		MMenu fileMenu = ems.createModelElement(MMenu.class);
+		fileMenu.setElementId("file");
+		fileMenu.setLabel("File");
+		mainMenu.getChildren().add(fileMenu);
+
+		MApplication application = ems.createModelElement(MApplication.class);
+		application.getChildren().add(window);
+		application.setContext(appContext);
+		appContext.set(MApplication.class, application);
+		MMenuContribution contribution1 = createContribution(false);
+		application.getMenuContributions().add(contribution1);
+
+		wb = new E4Workbench(window, appContext);
+		wb.createAndRunUI(window);
+
+		MenuManagerRenderer renderer = getRenderer(appContext, mainMenu);
+		List<MMenuContribution> contributions = renderer.getMenuContributions(fileMenu, "file", false);
+		assertEquals(1, contributions.size());
+		assertTrue(contributions.contains(contribution1));
+		assertTrue(contributions == renderer.getMenuContributions(fileMenu, "file", false));
+
+		// adding a contribution invalidates the cache
+		MMenuContribution contribution2 = createContribution(false);
+		contribution2.setElementId("test.contrib2");
+		application.getMenuContributions().add(contribution2);
+		contributions = renderer.getMenuContributions(fileMenu, "file", false);
+		assertEquals(2, contributions.size());
+		assertTrue(contributions.contains(contribution2));
+
+		// so does moving it to another menu
+		contribution2.setParentId("edit");
+		contributions = renderer.getMenuContributions(fileMenu, "file", false);
+		assertEquals(1, contributions.size());
+		assertFalse(contributions.contains(contribution2));
+
+		// and not rendering it
+		contribution1.setToBeRendered(false);
+		assertTrue(renderer.getMenuContributions(fileMenu, "file", false).isEmpty());
+	}
+
 	@Test
 	public void testWithVisible() {
 		MWindow window = ems.createModelElement(MWindow.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import java.util.function.BooleanSupplier;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.internal.workbench.swt.PartRenderingEngine;
@@ -31,8 +34,11 @@ import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolItem;
 import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.e4.ui.workbench.renderers.swt.ToolItemUpdater;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.ToolItem;
 import org.junit.After;
@@ -286,4 +292,59 @@ public class MToolItemTest {
 		toolItem2.setSelected(true);
 		assertTrue(toolItemWidget2.getSelection());
 	}
+
+	@Test
+	public void testMToolItem_EnablementUpdatedWhenShown() {
+		MTrimmedWindow window = ems.createModelElement(MTrimmedWindow.class);
+		MTrimBar trimBar = ems.createModelElement(MTrimBar.class);
+		MToolBar toolBar = ems.createModelElement(MToolBar.class);
+		MToolItem toolItem = ems.createModelElement(MDirectToolItem.class);
+
+		window.getTrimBars().add(trimBar);
+		trimBar.getChildren().add(toolBar);
+		toolBar.getChildren().add(toolItem);
+
+		MApplication application = ems.createModelElement(MApplication.class);
+		application.getChildren().add(window);
+		application.setContext(appContext);
+		appContext.set(MApplication.class, application);
+
+		wb = new E4Workbench(window, appContext);
+		wb.createAndRunUI(window);
+
+		ToolItem toolItemWidget = (ToolItem) toolItem.getWidget();
+		assertNotNull(toolItemWidget);
+		assumeTrue(toolItemWidget.getParent().getShell().isVisible());
+		IEventBroker eventBroker = appContext.get(IEventBroker.class);
+
+		// items of hidden tool bars are skipped
+		toolBar.setVisible(false);
+		long skipped = ToolItemUpdater.getSkippedCount();
+		long updated = ToolItemUpdater.getUpdateCount();
+		eventBroker.send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC, UIEvents.ALL_ELEMENT_ID);
+		waitFor(() -> ToolItemUpdater.getSkippedCount() > skipped);
+		assertTrue(ToolItemUpdater.getSkippedCount() > skipped);
+		assertEquals(updated, ToolItemUpdater.getUpdateCount());
+
+		// and updated once shown again
+		toolBar.setVisible(true);
+		eventBroker.send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC, UIEvents.ALL_ELEMENT_ID);
+		waitFor(() -> ToolItemUpdater.getUpdateCount() > updated);
+		assertTrue(ToolItemUpdater.getUpdateCount() > updated);
+	}
+
+	private static void waitFor(BooleanSupplier condition) {
+		Display display = Display.getDefault();
+		long timeout = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
 }
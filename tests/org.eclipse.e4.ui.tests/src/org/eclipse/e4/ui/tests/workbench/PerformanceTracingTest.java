@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.tests.workbench;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.eclipse.e4.ui.internal.workbench.PerformanceTracing;
+import org.eclipse.e4.ui.internal.workbench.Policy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PerformanceTracing}
+ */
+public class PerformanceTracingTest {
+
+	private boolean wasEnabled;
+
+	@Before
+	public void setUp() {
+		wasEnabled = Policy.TRACE_SPANS;
+		PerformanceTracing.reset();
+	}
+
+	@After
+	public void tearDown() {
+		Policy.TRACE_SPANS = wasEnabled;
+		PerformanceTracing.reset();
+	}
+
+	@Test
+	public void testDisabled() throws IOException {
+		Policy.TRACE_SPANS = false;
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_MODEL, "test.disabled", null);
+		PerformanceTracing.end("test.disabled");
+		assertFalse(export().contains("test.disabled"));
+	}
+
+	@Test
+	public void testNestedSpans() throws IOException {
+		Policy.TRACE_SPANS = true;
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_RENDERING, "test.outer", "some \"id\"");
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_CSS, "test.inner", null);
+		PerformanceTracing.end("test.inner");
+		PerformanceTracing.end("test.outer");
+
+		String json = export();
+		assertTrue(json.startsWith("{\"traceEvents\":["));
+		assertTrue(json.endsWith("}"));
+		assertTrue(json.contains("{\"name\":\"test.inner\",\"cat\":\"css\",\"ph\":\"X\""));
+		assertTrue(json.contains("{\"name\":\"test.outer\",\"cat\":\"rendering\",\"ph\":\"X\""));
+		assertTrue(json.contains("\"args\":{\"detail\":\"some \\\"id\\\"\"}"));
+		// the inner span is completed first
+		assertTrue(json.indexOf("test.inner") < json.indexOf("test.outer"));
+	}
+
+	@Test
+	public void testUnbalancedSpans() throws IOException {
+		Policy.TRACE_SPANS = true;
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, "test.outer", null);
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, "test.unclosed", null);
+		// ending the outer span ends the spans begun within it
+		PerformanceTracing.end("test.outer");
+		// spans never begun are ignored
+		PerformanceTracing.end("test.unknown");
+		PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, "test.open", null);
+
+		String json = export();
+		assertTrue(json.contains("{\"name\":\"test.unclosed\",\"cat\":\"workbench\",\"ph\":\"X\""));
+		assertTrue(json.contains("{\"name\":\"test.outer\",\"cat\":\"workbench\",\"ph\":\"X\""));
+		assertTrue(json.contains("{\"name\":\"test.open\",\"cat\":\"workbench\",\"ph\":\"B\""));
+		assertFalse(json.contains("test.unknown"));
+		PerformanceTracing.end("test.open");
+	}
+
+	@Test
+	public void testEndedThreadDroppedOnceWritten() throws Exception {
+		Policy.TRACE_SPANS = true;
+		Thread thread = new Thread(() -> {
+			PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, "test.thread", null);
+			PerformanceTracing.end("test.thread");
+		}, "test.tracing.thread");
+		thread.start();
+		thread.join();
+
+		assertTrue(export().contains("test.thread"));
+		// drained, the buffer of the ended thread is gone
+		assertFalse(export().contains("test.tracing.thread"));
+	}
+
+	@Test
+	public void testBufferGrows() throws IOException {
+		Policy.TRACE_SPANS = true;
+		for (int i = 0; i < 1000; i++) {
+			PerformanceTracing.begin(PerformanceTracing.CATEGORY_WORKBENCH, "test.span" + i, null);
+			PerformanceTracing.end("test.span" + i);
+		}
+		String json = export();
+		assertTrue(json.contains("\"test.span0\""));
+		assertTrue(json.contains("\"test.span999\""));
+	}
+
+	private static String export() throws IOException {
+		StringWriter writer = new StringWriter();
+		PerformanceTracing.writeChromeTrace(writer);
+		return writer.toString();
+	}
+}
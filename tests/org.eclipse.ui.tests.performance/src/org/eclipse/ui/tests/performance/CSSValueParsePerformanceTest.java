@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.io.StringReader;
+
+import org.eclipse.e4.ui.css.core.impl.dom.parsers.CSSValueParser;
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+
+/**
+ * Compares parsing CSS property values with the SAC parser, parsing them with
+ * {@link CSSValueParser} and reusing the values parsed already, as done for
+ * inherited values and preference overrides.
+ */
+public class CSSValueParsePerformanceTest extends BasicPerformanceTest {
+
+	private static final String[] VALUES = { "#2F2F2F", "rgb(235, 235, 235)", "#515658 #2F2F2F 100%",
+			"'Segoe UI' 9px normal", "url(./images/close.png)", "inherit", "true", "1px", "#E6E6E6 #D6D6D6 100%",
+			"italic bold" };
+
+	private static final int ITERATIONS = 20;
+
+	private static final int PARSES = 5000;
+
+	private AbstractCSSEngine engine;
+
+	public CSSValueParsePerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		engine = new CSSSWTEngineImpl(fWorkbench.getDisplay());
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		engine.dispose();
+		super.doTearDown();
+	}
+
+	public void testParseValues() throws Exception {
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (int j = 0; j < PARSES; j++) {
+				engine.parsePropertyValue(new StringReader(VALUES[j % VALUES.length]));
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testParseValuesWithoutSAC() throws Exception {
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (int j = 0; j < PARSES; j++) {
+				assertNotNull(CSSValueParser.parse(VALUES[j % VALUES.length]));
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testReuseParsedValues() throws Exception {
+		long hits = engine.getParsedValueHitCount();
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (int j = 0; j < PARSES; j++) {
+				engine.parsePropertyValue(VALUES[j % VALUES.length]);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+		assertEquals("Each value should be parsed once", ITERATIONS * PARSES - VALUES.length,
+				engine.getParsedValueHitCount() - hits);
+	}
+}
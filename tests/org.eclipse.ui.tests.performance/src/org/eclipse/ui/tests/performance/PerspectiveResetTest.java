@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.ui.IPerspectiveDescriptor;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.ide.IDE;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+
+/**
+ * Measures resetting a perspective, which rebuilds its part of the model and
+ * publishes a model event for every element and feature that changes.
+ */
+public class PerspectiveResetTest extends BasicPerformanceTest {
+
+	private String id;
+
+	public PerspectiveResetTest(String id, int tagging) {
+		super("testPerspectiveReset:" + id, tagging);
+		this.id = id;
+	}
+
+	@Override
+	protected void runTest() throws Throwable {
+		IPerspectiveDescriptor perspective = WorkbenchPlugin.getDefault().getPerspectiveRegistry()
+				.findPerspectiveWithId(id);
+
+		// The suites reference perspectives that might not exist. Just skip
+		// the test.
+		if (perspective == null) {
+			System.out.println("Unknown perspective ID: " + id);
+			return;
+		}
+
+		IWorkbenchWindow window = openTestWindow(id);
+		final IWorkbenchPage page = window.getActivePage();
+		assertNotNull(page);
+
+		IFile aFile = getProject().getFile("1." + EditorPerformanceSuite.EDITOR_FILE_EXTENSIONS[0]);
+		assertTrue(aFile.exists());
+		IDE.openEditor(page, aFile, true);
+
+		exercise(new TestRunnable() {
+			@Override
+			public void run() throws Exception {
+				processEvents();
+
+				startMeasuring();
+				page.resetPerspective();
+				processEvents();
+				stopMeasuring();
+			}
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+}
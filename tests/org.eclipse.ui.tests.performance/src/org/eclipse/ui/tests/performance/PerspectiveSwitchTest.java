@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,9 +29,16 @@ import org.eclipse.ui.internal.WorkbenchPlugin;
  */
 public class PerspectiveSwitchTest extends BasicPerformanceTest {
 
+    /**
+     * The system property for the number of recently shown perspectives the
+     * perspective stack keeps in place.
+     */
+    private static final String CACHE_SIZE_PROPERTY = "eclipse.perspectiveCacheSize";
+
     private String id1;
     private String id2;
     private String activeEditor;
+    private boolean cached;
 
     /**
      * Constructor.
@@ -39,17 +46,48 @@ public class PerspectiveSwitchTest extends BasicPerformanceTest {
      * @param id
      */
     public PerspectiveSwitchTest(String [] ids, int tagging) {
-        super("testPerspectiveSwitch:" + ids[0] + "," + ids[1] + ",editor " + ids[2], tagging);
+        this(ids, false, tagging);
+    }
+
+    /**
+     * @param ids
+     *            the two perspectives and the file to open
+     * @param cached
+     *            whether the perspectives not shown are kept in place
+     * @param tagging
+     */
+    public PerspectiveSwitchTest(String[] ids, boolean cached, int tagging) {
+        super("testPerspectiveSwitch:" + ids[0] + "," + ids[1] + ",editor " + ids[2] + (cached ? ",cached" : ""),
+                tagging);
         this.id1 = ids[0];
         this.id2 = ids[1];
         this.activeEditor = ids[2];
+        this.cached = cached;
+    }
+
+    @Override
+    protected void runTest() throws CoreException, WorkbenchException {
+        String cacheSize = System.getProperty(CACHE_SIZE_PROPERTY);
+        if (cached) {
+            System.setProperty(CACHE_SIZE_PROPERTY, "1");
+        } else {
+            System.clearProperty(CACHE_SIZE_PROPERTY);
+        }
+        try {
+            measureSwitch();
+        } finally {
+            if (cacheSize == null) {
+                System.clearProperty(CACHE_SIZE_PROPERTY);
+            } else {
+                System.setProperty(CACHE_SIZE_PROPERTY, cacheSize);
+            }
+        }
     }
 
     /**
      * Test perspective switching performance.
      */
-    @Override
-	protected void runTest() throws CoreException, WorkbenchException {
+    private void measureSwitch() throws CoreException, WorkbenchException {
         // Get the two perspectives to switch between.
         final IPerspectiveRegistry registry = WorkbenchPlugin.getDefault()
                 .getPerspectiveRegistry();
@@ -85,7 +123,8 @@ public class PerspectiveSwitchTest extends BasicPerformanceTest {
 
         IDE.openEditor(page, aFile, true);
 
-       	tagIfNecessary("UI - Perspective Switch", Dimension.ELAPSED_PROCESS);
+        tagIfNecessary(cached ? "UI - Perspective Switch (cached)" : "UI - Perspective Switch",
+                Dimension.ELAPSED_PROCESS);
 
         exercise(new TestRunnable() {
             @Override
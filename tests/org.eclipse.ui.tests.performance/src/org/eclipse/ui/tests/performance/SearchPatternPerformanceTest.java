@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.util.Random;
+
+import org.eclipse.ui.dialogs.PatternFilter;
+import org.eclipse.ui.dialogs.SearchPattern;
+
+/**
+ * Measures the matching throughput of {@link SearchPattern} over corpora of
+ * file names as shown by the Open Resource dialog and of type names as shown by
+ * the Open Type dialog, and of {@link PatternFilter} over labels as shown in filtered trees.
+ */
+public class SearchPatternPerformanceTest extends BasicPerformanceTest {
+
+	private static final int CORPUS_SIZE = 200000;
+
+	private static final int ITERATIONS = 10;
+
+	private static final String[] WORDS = { "Abstract", "Action", "Builder", "Content", "Dialog", "Editor", "Factory",
+			"Filtered", "Handler", "Item", "Job", "Label", "Manager", "Model", "Part", "Provider", "Registry",
+			"Selection", "Service", "Tree", "Util", "View", "Viewer", "Wizard", "Workbench" };
+
+	private static final String[] EXTENSIONS = { "java", "class", "xml", "properties", "MF", "html", "css", "png" };
+
+	private static String[] corpus;
+
+	private static String[] typeCorpus;
+
+	public SearchPatternPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	public void testPrefixMatch() {
+		measure("filt");
+	}
+
+	public void testCamelCaseMatch() {
+		measure("FISD");
+	}
+
+	public void testPatternMatch() {
+		measure("*dialog*.java");
+	}
+
+	public void testTypePrefixMatch() {
+		measure(getTypeCorpus(), "sel");
+	}
+
+	public void testTypeCamelCaseMatch() {
+		measure(getTypeCorpus(), "SeSe");
+	}
+
+	public void testTypePatternMatch() {
+		measure(getTypeCorpus(), "*part*view?r");
+	}
+
+	public void testPatternFilterMatch() {
+		LabelFilter filter = new LabelFilter();
+		filter.setPattern("sel");
+		int matches = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (String label : getTypeCorpus()) {
+				if (filter.matches(label)) {
+					matches++;
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+		assertTrue("Filter should match some labels", matches > 0);
+	}
+
+	private void measure(String pattern) {
+		measure(getCorpus(), pattern);
+	}
+
+	private void measure(String[] names, String pattern) {
+		SearchPattern searchPattern = new SearchPattern();
+		searchPattern.setPattern(pattern);
+		int matches = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (String name : names) {
+				if (searchPattern.matches(name)) {
+					matches++;
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+		assertTrue("Pattern should match some names", matches > 0);
+	}
+
+	/**
+	 * Returns a deterministic corpus of file names made of camel case words,
+	 * like <code>FilteredItemsSelectionDialog.java</code>.
+	 *
+	 * @return the file names
+	 */
+	static synchronized String[] getCorpus() {
+		if (corpus == null) {
+			Random random = new Random(42);
+			corpus = new String[CORPUS_SIZE];
+			StringBuilder name = new StringBuilder();
+			for (int i = 0; i < CORPUS_SIZE; i++) {
+				name.setLength(0);
+				int words = 1 + random.nextInt(4);
+				for (int w = 0; w < words; w++) {
+					name.append(WORDS[random.nextInt(WORDS.length)]);
+				}
+				name.append('.').append(EXTENSIONS[random.nextInt(EXTENSIONS.length)]);
+				corpus[i] = name.toString();
+			}
+		}
+		return corpus;
+	}
+
+	/**
+	 * Returns a deterministic corpus of type names, like
+	 * <code>SelectionDialog</code> or <code>WizardPart$2</code>.
+	 *
+	 * @return the type names
+	 */
+	static synchronized String[] getTypeCorpus() {
+		if (typeCorpus == null) {
+			Random random = new Random(7);
+			typeCorpus = new String[CORPUS_SIZE];
+			StringBuilder name = new StringBuilder();
+			for (int i = 0; i < CORPUS_SIZE; i++) {
+				name.setLength(0);
+				int words = 1 + random.nextInt(4);
+				for (int w = 0; w < words; w++) {
+					name.append(WORDS[random.nextInt(WORDS.length)]);
+				}
+				if (random.nextInt(8) == 0) {
+					// anonymous type
+					name.append('$').append(1 + random.nextInt(9));
+				}
+				typeCorpus[i] = name.toString();
+			}
+		}
+		return typeCorpus;
+	}
+
+	/**
+	 * Exposes the label matching of {@link PatternFilter}.
+	 */
+	private static class LabelFilter extends PatternFilter {
+		boolean matches(String label) {
+			return wordMatches(label);
+		}
+	}
+}
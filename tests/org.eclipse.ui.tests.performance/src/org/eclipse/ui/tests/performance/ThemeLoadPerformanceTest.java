@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.tests.performance;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.css.swt.internal.theme.StyleSheetCache;
+import org.eclipse.e4.ui.css.swt.internal.theme.ThemeEngine;
+import org.eclipse.e4.ui.css.swt.theme.ITheme;
+import org.eclipse.e4.ui.css.swt.theme.IThemeEngine;
+
+/**
+ * Compares parsing the style sheets of the bundled dark theme with loading
+ * them from the {@link StyleSheetCache}, as done when switching back to the
+ * theme.
+ */
+public class ThemeLoadPerformanceTest extends BasicPerformanceTest {
+
+	private static final String DARK_THEME_ID = "org.eclipse.e4.ui.css.theme.e4_dark";
+
+	private static final int ITERATIONS = 20;
+
+	private CSSEngine engine;
+
+	public ThemeLoadPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		engine = new CSSSWTEngineImpl(fWorkbench.getDisplay());
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		engine.dispose();
+		super.doTearDown();
+	}
+
+	public void testParseDarkTheme() throws Exception {
+		List<URL> urls = new ArrayList<>();
+		for (String stylesheet : getDarkThemeStylesheets()) {
+			urls.add(FileLocator.resolve(new URL(stylesheet)));
+		}
+		for (int i = 0; i < ITERATIONS; i++) {
+			engine.reset();
+			startMeasuring();
+			for (URL url : urls) {
+				StyleSheetCache.parse(engine, url);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testLoadDarkTheme() {
+		List<String> stylesheets = getDarkThemeStylesheets();
+		List<CSSEngine> engines = Collections.singletonList(engine);
+		StyleSheetCache cache = new StyleSheetCache();
+		cache.load(DARK_THEME_ID, stylesheets, engines);
+		for (int i = 0; i < ITERATIONS; i++) {
+			engine.reset();
+			startMeasuring();
+			cache.load(DARK_THEME_ID, stylesheets, engines);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+		assertEquals("The style sheets should be parsed once", 1, cache.getMisses());
+	}
+
+	private List<String> getDarkThemeStylesheets() {
+		ThemeEngine themeEngine = (ThemeEngine) fWorkbench.getService(IThemeEngine.class);
+		assertNotNull("The theme engine is not available", themeEngine);
+		for (ITheme theme : themeEngine.getThemes()) {
+			// the dark theme has a variant for each platform
+			if (theme.getId().startsWith(DARK_THEME_ID)) {
+				List<String> stylesheets = themeEngine.getStylesheets(theme);
+				if (!stylesheets.isEmpty()) {
+					return stylesheets;
+				}
+			}
+		}
+		fail("The dark theme is not registered");
+		return null;
+	}
+}
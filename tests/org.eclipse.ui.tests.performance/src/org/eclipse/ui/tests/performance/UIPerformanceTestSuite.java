@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,5 +40,8 @@ public class UIPerformanceTestSuite extends FilteredTestSuite {
 		addTest(new TestSuite(CommandsPerformanceTest.class));
 		addTest(new LabelProviderTestSuite());
 		addTest(new TestSuite(ProgressReportingTest.class));
+		addTest(new TestSuite(SearchPatternPerformanceTest.class));
+		addTest(new TestSuite(ThemeLoadPerformanceTest.class));
+		addTest(new TestSuite(CSSValueParsePerformanceTest.class));
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -80,6 +80,7 @@ class WorkbenchPerformanceSuite extends TestSuite {
         addLayoutScenarios();
         addResizeScenarios();
         addPerspectiveSwitchScenarios();
+        addPerspectiveResetScenarios();
         addPerspectiveOpenCloseScenarios();
         addWindowOpenCloseScenarios();
         addContributionScenarios();
@@ -127,6 +128,16 @@ class WorkbenchPerformanceSuite extends TestSuite {
         for (int i = 0; i < PERSPECTIVE_SWITCH_PAIRS.length; i++) {
             addTest(new PerspectiveSwitchTest(PERSPECTIVE_SWITCH_PAIRS[i], BasicPerformanceTest.NONE));
         }
+        // the same switches with the inactive perspective kept in place
+        for (int i = 0; i < PERSPECTIVE_SWITCH_PAIRS.length; i++) {
+            addTest(new PerspectiveSwitchTest(PERSPECTIVE_SWITCH_PAIRS[i], true, BasicPerformanceTest.NONE));
+        }
+    }
+
+    private void addPerspectiveResetScenarios() {
+        for (int i = 0; i < PERSPECTIVE_IDS.length; i++) {
+            addTest(new PerspectiveResetTest(PERSPECTIVE_IDS[i], BasicPerformanceTest.NONE));
+        }
     }
 
     private void addLayoutScenarios() {
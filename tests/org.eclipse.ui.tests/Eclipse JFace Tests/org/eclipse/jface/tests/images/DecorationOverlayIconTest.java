@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -95,4 +95,19 @@ public class DecorationOverlayIconTest extends TestCase {
 		assertFalse(icon1.equals(icon2));
 		assertNotEquals(icon1.hashCode(), icon2.hashCode());
 	}
+
+	public void testHashCodeOfEqualDescriptors() {
+		// equal base descriptors that are not the same instance
+		ImageDescriptor base1 = ImageDescriptor.createFromFile(DecorationOverlayIconTest.class, "anything.gif");
+		ImageDescriptor base2 = ImageDescriptor.createFromFile(DecorationOverlayIconTest.class, "anything.gif");
+		assertNotSame(base1, base2);
+		DecorationOverlayIcon icon1 = new DecorationOverlayIcon(base1, overlayDescriptor1, IDecoration.TOP_LEFT);
+		DecorationOverlayIcon icon2 = new DecorationOverlayIcon(base2, overlayDescriptor1, IDecoration.TOP_LEFT);
+		assertTrue(icon1.equals(icon2));
+		assertEquals(icon1.hashCode(), icon2.hashCode());
+		// same overlay in different quadrants
+		icon2 = new DecorationOverlayIcon(base1, overlayDescriptor1, IDecoration.BOTTOM_RIGHT);
+		assertFalse(icon1.equals(icon2));
+		assertNotEquals(icon1.hashCode(), icon2.hashCode());
+	}
 }
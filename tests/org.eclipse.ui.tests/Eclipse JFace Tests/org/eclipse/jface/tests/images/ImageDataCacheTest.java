@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.images;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.jface.internal.ImageDataCache;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the cache of decoded images used by URL image descriptors.
+ */
+public class ImageDataCacheTest extends TestCase {
+
+	private File directory;
+
+	private File workbenchDirectory;
+
+	private long workbenchMaxSize;
+
+	public ImageDataCacheTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		workbenchDirectory = ImageDataCache.getDirectory();
+		workbenchMaxSize = ImageDataCache.getMaxSize();
+		ImageDataCache.close();
+		directory = Files.createTempDirectory("imageDataCache").toFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ImageDataCache.close();
+		delete(directory);
+		if (workbenchDirectory != null) {
+			ImageDataCache.open(workbenchDirectory, workbenchMaxSize);
+		}
+		super.tearDown();
+	}
+
+	public void testImageReadFromCacheOfPreviousSession() throws IOException {
+		File file = createImage(directory, 0x80);
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(file.toURI().toURL());
+
+		ImageDataCache.open(directory, 1024 * 1024);
+		ImageData decoded = descriptor.getImageData(100);
+		assertEquals(0, ImageDataCache.getHits());
+		assertEquals(1, ImageDataCache.getMisses());
+		ImageDataCache.close();
+
+		ImageDataCache.open(directory, 1024 * 1024);
+		ImageData cached = descriptor.getImageData(100);
+		assertEquals(1, ImageDataCache.getHits());
+		assertEquals(0, ImageDataCache.getMisses());
+		assertSameImage(decoded, cached);
+	}
+
+	public void testModifiedImageDecodedAgain() throws IOException {
+		File file = createImage(directory, 0x80);
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(file.toURI().toURL());
+
+		ImageDataCache.open(directory, 1024 * 1024);
+		descriptor.getImageData(100);
+		ImageDataCache.close();
+
+		long modified = file.lastModified();
+		createImage(directory, 0x20);
+		file.setLastModified(modified + 2000);
+
+		ImageDataCache.open(directory, 1024 * 1024);
+		ImageData data = descriptor.getImageData(100);
+		assertEquals(0, ImageDataCache.getHits());
+		assertEquals(0x20, data.getAlpha(0, 0));
+	}
+
+	public void testSizeLimit() throws IOException {
+		File file = createImage(directory, 0x80);
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(file.toURI().toURL());
+
+		ImageDataCache.open(directory, 16);
+		descriptor.getImageData(100);
+		ImageDataCache.close();
+
+		ImageDataCache.open(directory, 16);
+		descriptor.getImageData(100);
+		assertEquals(0, ImageDataCache.getHits());
+	}
+
+	public void testDamagedCacheIgnored() throws IOException {
+		File file = createImage(directory, 0x80);
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(file.toURI().toURL());
+		File cacheDirectory = new File(directory, "cache");
+		cacheDirectory.mkdir();
+		Files.write(new File(cacheDirectory, "images.1.cache").toPath(), new byte[] { 1, 2, 3 });
+
+		ImageDataCache.open(cacheDirectory, 1024 * 1024);
+		assertNotNull(descriptor.getImageData(100));
+		assertEquals(1, ImageDataCache.getMisses());
+	}
+
+	public void testDamagedImageLengthIgnored() throws IOException {
+		File file = createImage(directory, 0x80);
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(file.toURI().toURL());
+		File cacheDirectory = new File(directory, "cache");
+
+		ImageDataCache.open(cacheDirectory, 1024 * 1024);
+		descriptor.getImageData(100);
+		ImageDataCache.close();
+
+		// the length of the mask data of the image, after its size, depth,
+		// scanline pad, direct palette, transparent pixel and mask pad
+		File cacheFile = new File(cacheDirectory, "images.1.cache");
+		ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(cacheFile.toPath()));
+		bytes.position(12);
+		bytes.position(bytes.position() + bytes.getInt());
+		int position = bytes.getInt();
+		bytes.putInt(position + 37, Integer.MAX_VALUE);
+		Files.write(cacheFile.toPath(), bytes.array());
+
+		ImageDataCache.open(cacheDirectory, 1024 * 1024);
+		assertNotNull(descriptor.getImageData(100));
+		assertEquals(0, ImageDataCache.getHits());
+		assertEquals(1, ImageDataCache.getMisses());
+	}
+
+	public void testImageAddedInSessionRead() throws IOException {
+		File file = createImage(directory, 0x80);
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(file.toURI().toURL());
+
+		ImageDataCache.open(directory, 1024 * 1024);
+		ImageData decoded = descriptor.getImageData(100);
+		ImageData cached = descriptor.getImageData(100);
+		assertEquals(1, ImageDataCache.getHits());
+		assertSameImage(decoded, cached);
+	}
+
+	private static File createImage(File directory, int alpha) {
+		ImageData data = new ImageData(16, 16, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		for (int x = 0; x < 16; x++) {
+			for (int y = 0; y < 16; y++) {
+				data.setPixel(x, y, x * 0x100000 + y * 0x10);
+				data.setAlpha(x, y, alpha);
+			}
+		}
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] { data };
+		File file = new File(directory, "image.png");
+		loader.save(file.getPath(), SWT.IMAGE_PNG);
+		return file;
+	}
+
+	private static void assertSameImage(ImageData expected, ImageData actual) {
+		assertEquals(expected.width, actual.width);
+		assertEquals(expected.height, actual.height);
+		assertEquals(expected.depth, actual.depth);
+		assertEquals(expected.bytesPerLine, actual.bytesPerLine);
+		assertEquals(expected.transparentPixel, actual.transparentPixel);
+		assertTrue(Arrays.equals(expected.data, actual.data));
+		assertTrue(Arrays.equals(expected.alphaData, actual.alphaData));
+		assertTrue(Arrays.equals(expected.maskData, actual.maskData));
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+}
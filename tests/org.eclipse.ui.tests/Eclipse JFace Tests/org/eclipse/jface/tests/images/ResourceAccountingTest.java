@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import java.util.Map;
+
+import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.internal.ResourceAccounting;
+import org.eclipse.jface.resource.ColorDescriptor;
+import org.eclipse.jface.resource.DeviceResourceManager;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.LocalResourceManager;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+
+import junit.framework.TestCase;
+
+/**
+ * @since 3.16
+ */
+public class ResourceAccountingTest extends TestCase {
+
+	private boolean wasTracking;
+	private DeviceResourceManager manager;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		wasTracking = InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES;
+		InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES = true;
+		ResourceAccounting.reset();
+		manager = new DeviceResourceManager(Display.getCurrent());
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		manager.dispose();
+		ResourceAccounting.reset();
+		InternalPolicy.DEBUG_TRACK_RESOURCE_HANDLES = wasTracking;
+		super.tearDown();
+	}
+
+	public void testLiveCounts() {
+		ImageDescriptor image = ImageDescriptor.createFromFile(ResourceAccountingTest.class, "anything.gif");
+		ColorDescriptor color = ColorDescriptor.createFrom(new RGB(10, 20, 30));
+		LocalResourceManager local = new LocalResourceManager(manager);
+
+		manager.createImage(image);
+		local.createImage(image);
+		local.createColor(color);
+		// handles are only allocated once per device
+		assertEquals(2, ResourceAccounting.getLiveCount());
+		assertEquals(Integer.valueOf(1), ResourceAccounting.getLiveCountsByDescriptor().get(image));
+
+		Map<String, Integer> images = ResourceAccounting.getLiveCountsByOwner(Image.class);
+		Map<String, Integer> colors = ResourceAccounting.getLiveCountsByOwner(Color.class);
+		assertEquals(1, images.size());
+		assertEquals(Integer.valueOf(1), images.values().iterator().next());
+		assertEquals(images.keySet(), colors.keySet());
+		assertTrue(ResourceAccounting.getReport().contains(String.valueOf(image)));
+
+		local.dispose();
+		assertEquals(1, ResourceAccounting.getLiveCount());
+		manager.destroyImage(image);
+		assertEquals(0, ResourceAccounting.getLiveCount());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.images;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jface.resource.ColorDescriptor;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
 import org.eclipse.jface.resource.DeviceResourceException;
@@ -289,4 +292,36 @@ public class ResourceManagerTest extends TestCase {
     	// Destroy the resource we created
     	globalResourceManager.destroy(descriptor);
     }
+
+    public void testCreateImageAsync() throws Exception {
+        Display display = Display.getCurrent();
+        ImageDescriptor imageDescriptor = getImage("icons/mockeditorpart1.gif");
+        List<Image> created = new ArrayList<>();
+
+        Image placeholder = testImage;
+        Image image = globalResourceManager.createImageAsync(imageDescriptor, placeholder, created::add);
+        assertSame("The placeholder should be returned until the image is created", placeholder, image);
+        image = globalResourceManager.createImageAsync(imageDescriptor, placeholder, created::add);
+        assertSame("The placeholder should be returned until the image is created", placeholder, image);
+
+        long timeout = System.currentTimeMillis() + 10000;
+        while (created.size() < 2 && System.currentTimeMillis() < timeout) {
+            if (!display.readAndDispatch()) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals("Both callbacks should have received the image", 2, created.size());
+        validateResource(created.get(0));
+        assertSame("The image should only be created once", created.get(0), created.get(1));
+        assertSame(created.get(0), globalResourceManager.find(imageDescriptor));
+
+        // the image exists now, so it is returned right away
+        image = globalResourceManager.createImageAsync(imageDescriptor, placeholder, created::add);
+        assertSame(created.get(0), image);
+
+        for (int i = 0; i < 3; i++) {
+            globalResourceManager.destroyImage(imageDescriptor);
+        }
+        assertNull("The image should have been disposed", globalResourceManager.find(imageDescriptor));
+    }
 }
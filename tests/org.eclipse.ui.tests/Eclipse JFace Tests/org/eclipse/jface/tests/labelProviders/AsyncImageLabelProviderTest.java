@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.labelProviders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.LocalResourceManager;
+import org.eclipse.jface.resource.ResourceManager;
+import org.eclipse.jface.viewers.BaseLabelProvider;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.plugin.AbstractUIPlugin;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link BaseLabelProvider} creating images in the background.
+ */
+public class AsyncImageLabelProviderTest extends TestCase {
+
+	private Display display;
+
+	private ResourceManager resourceManager;
+
+	private Image placeholder;
+
+	private AsyncLabelProvider labelProvider;
+
+	private final List<LabelProviderChangedEvent> events = new ArrayList<>();
+
+	private static class AsyncLabelProvider extends BaseLabelProvider {
+		Image getImage(Object element, ImageDescriptor descriptor, ResourceManager manager, Image placeholder) {
+			return getImageAsync(element, descriptor, manager, placeholder);
+		}
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		display = Display.getCurrent();
+		resourceManager = new LocalResourceManager(JFaceResources.getResources(display));
+		placeholder = getImage("icons/anything.gif").createImage(display);
+		labelProvider = new AsyncLabelProvider();
+		labelProvider.addListener(events::add);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		labelProvider.dispose();
+		resourceManager.dispose();
+		placeholder.dispose();
+		super.tearDown();
+	}
+
+	public void testElementsUpdatedOnceImageCreated() throws Exception {
+		ImageDescriptor descriptor = getImage("icons/binary_co.gif");
+
+		assertSame(placeholder, labelProvider.getImage("first", descriptor, resourceManager, placeholder));
+		assertSame(placeholder, labelProvider.getImage("second", descriptor, resourceManager, placeholder));
+
+		long timeout = System.currentTimeMillis() + 10000;
+		while (events.isEmpty() && System.currentTimeMillis() < timeout) {
+			if (!display.readAndDispatch()) {
+				Thread.sleep(10);
+			}
+		}
+		assertEquals("One event should update all waiting elements", 1, events.size());
+		assertEquals(Arrays.asList("first", "second"), Arrays.asList(events.get(0).getElements()));
+
+		Image image = labelProvider.getImage("first", descriptor, resourceManager, placeholder);
+		assertNotSame(placeholder, image);
+		assertSame(resourceManager.find(descriptor), image);
+	}
+
+	public void testImageOfExistingImageCreatedRightAway() throws Exception {
+		// its data is read from the image, which needs the UI thread
+		ImageDescriptor descriptor = ImageDescriptor.createFromImage(placeholder);
+
+		Image image = labelProvider.getImage("element", descriptor, resourceManager, null);
+		assertNotNull(image);
+		assertSame(resourceManager.find(descriptor), image);
+
+		while (display.readAndDispatch()) {
+			// no update is pending
+		}
+		assertTrue(events.isEmpty());
+	}
+
+	private static ImageDescriptor getImage(String path) {
+		return AbstractUIPlugin.imageDescriptorFromPlugin("org.eclipse.ui.tests", path);
+	}
+}
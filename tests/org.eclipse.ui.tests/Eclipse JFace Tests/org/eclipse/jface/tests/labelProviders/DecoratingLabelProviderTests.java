@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({ CompositeLabelProviderTableTest.class, DecoratingLabelProviderTreePathTest.class,
 		DecoratingLabelProviderTreeTest.class, ColorAndFontLabelProviderTest.class,
 		ColorAndFontViewerLabelProviderTest.class, DecoratingStyledCellLabelProviderTest.class,
-		IDecorationContextTest.class })
+		IDecorationContextTest.class, AsyncImageLabelProviderTest.class })
 public class DecoratingLabelProviderTests {
 
 	public static void main(String[] args) {
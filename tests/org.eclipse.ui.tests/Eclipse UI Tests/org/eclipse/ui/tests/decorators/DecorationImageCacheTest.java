@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.LocalResourceManager;
+import org.eclipse.jface.resource.ResourceManager;
+import org.eclipse.jface.viewers.DecorationOverlayIcon;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.ISharedImages;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.decorators.DecorationImageCache;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link DecorationImageCache}.
+ */
+public class DecorationImageCacheTest extends TestCase {
+
+	private ResourceManager sharedManager;
+
+	private ImageDescriptor overlay;
+
+	public DecorationImageCacheTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		sharedManager = new LocalResourceManager(JFaceResources.getResources(Display.getCurrent()));
+		overlay = PlatformUI.getWorkbench().getSharedImages().getImageDescriptor(ISharedImages.IMG_DEC_FIELD_ERROR);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		sharedManager.dispose();
+		super.tearDown();
+	}
+
+	public void testImagesShared() {
+		DecorationImageCache cache = new DecorationImageCache(sharedManager, 2);
+		Image base = new Image(Display.getCurrent(), 16, 16);
+		try {
+			ResourceManager manager1 = new LocalResourceManager(sharedManager);
+			ResourceManager manager2 = new LocalResourceManager(sharedManager);
+			Image image1 = cache.createImage(base, createIcon(base), manager1);
+			Image image2 = cache.createImage(base, createIcon(base), manager2);
+			assertSame(image1, image2);
+			assertEquals(1, cache.getImageCount());
+			assertEquals(1, cache.getHits());
+			assertEquals(1, cache.getMisses());
+			assertEquals(0.5, cache.getHitRate(), 0.001);
+
+			// the cache keeps the image after the decorators released it
+			manager1.dispose();
+			manager2.dispose();
+			assertFalse(image1.isDisposed());
+			assertSame(image1, cache.createImage(base, createIcon(base), sharedManager));
+			assertEquals(2, cache.getHits());
+			assertEquals(2.0 / 3, cache.getHitRate(), 0.001);
+		} finally {
+			base.dispose();
+		}
+	}
+
+	public void testLeastRecentlyUsedEvicted() {
+		DecorationImageCache cache = new DecorationImageCache(sharedManager, 2);
+		Image[] bases = new Image[3];
+		try {
+			Image[] images = new Image[bases.length];
+			for (int i = 0; i < bases.length; i++) {
+				bases[i] = new Image(Display.getCurrent(), 16, 16);
+				ResourceManager manager = new LocalResourceManager(sharedManager);
+				images[i] = cache.createImage(bases[i], createIcon(bases[i]), manager);
+				manager.dispose();
+			}
+			assertEquals(2, cache.getImageCount());
+			assertEquals(0, cache.getHits());
+			assertEquals(3, cache.getMisses());
+			assertEquals(0, cache.getHitRate(), 0.001);
+			assertTrue(images[0].isDisposed());
+			assertFalse(images[1].isDisposed());
+			assertFalse(images[2].isDisposed());
+		} finally {
+			for (Image base : bases) {
+				if (base != null) {
+					base.dispose();
+				}
+			}
+		}
+	}
+
+	public void testImagesOfDisposedBaseEvicted() {
+		DecorationImageCache cache = new DecorationImageCache(sharedManager, 10);
+		Image disposedBase = new Image(Display.getCurrent(), 16, 16);
+		Image base = new Image(Display.getCurrent(), 16, 16);
+		try {
+			Image image = cache.createImage(disposedBase, createIcon(disposedBase), sharedManager);
+			sharedManager.destroyImage(createIcon(disposedBase));
+			disposedBase.dispose();
+
+			cache.createImage(base, createIcon(base), sharedManager);
+			assertEquals(1, cache.getImageCount());
+			assertTrue(image.isDisposed());
+		} finally {
+			base.dispose();
+		}
+	}
+
+	private DecorationOverlayIcon createIcon(Image base) {
+		return new DecorationOverlayIcon(base, overlay, IDecoration.BOTTOM_LEFT);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ public class DecoratorsTestSuite extends TestSuite {
 //		addTest(new TestSuite(DecoratorTableTreeTest.class));
 		addTest(DecoratorAdaptableTests.suite());
 		addTest(new TestSuite(DecoratorCacheTest.class));
+		addTest(new TestSuite(DecorationImageCacheTest.class));
 	}
 
 }
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.dialogs;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.dialogs.DialogSettings;
+import org.eclipse.jface.dialogs.IDialogSettings;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that refining the result of a previous search of a
+ * {@link FilteredItemsSelectionDialog}, including narrowing an earlier
+ * refinement and moving perfect matches to the front, shows the same items in
+ * the same order as a full search for the final pattern.
+ */
+public class FilteredItemsSelectionDialogRefinementTest extends TestCase {
+
+	private static final String[] NAMES = { "Dialog", "DialogPage", "DialogSettings", "DialogTray", "Dial",
+			"Diagram", "Dice", "AbstractDialog", "TitleAreaDialog", "dialog", "DialogCellEditor", "DisplaySettings",
+			"DataSource", "Decorator", "DialogMessageArea", "DirectorySelector", "Document", "DocumentSetup" };
+
+	private static final long TIMEOUT = 10000;
+
+	private final List<TestDialog> dialogs = new ArrayList<>();
+
+	@Override
+	protected void tearDown() throws Exception {
+		for (TestDialog dialog : dialogs) {
+			dialog.close();
+		}
+		dialogs.clear();
+		super.tearDown();
+	}
+
+	public void testRefinementEqualsFullSearch() {
+		assertRefinementEqualsFullSearch("d", "di", "dia", "dial", "dialo", "dialog");
+	}
+
+	public void testNarrowingRefinementEqualsFullSearch() {
+		// each refinement only checks the matches of the previous one
+		assertRefinementEqualsFullSearch("D", "DS", "DSe", "DSet");
+	}
+
+	public void testPerfectMatchOrder() {
+		TestDialog dialog = openDialog("Dia");
+		typePattern(dialog, "Dialog");
+		List<String> shown = getShownNames(dialog);
+		assertEquals(getShownNames(openDialog("Dialog")), shown);
+		assertEquals("Dialog", shown.get(0));
+
+		// no longer a perfect match, back in its regular place
+		typePattern(dialog, "Dialog*");
+		shown = getShownNames(dialog);
+		assertEquals(getShownNames(openDialog("Dialog*")), shown);
+		assertTrue(shown.contains("Dialog"));
+		assertFalse("Dialog".equals(shown.get(0)));
+	}
+
+	private void assertRefinementEqualsFullSearch(String... patterns) {
+		TestDialog dialog = openDialog(patterns[0]);
+		for (String pattern : patterns) {
+			typePattern(dialog, pattern);
+			assertEquals("Refined result for '" + pattern + "'", getShownNames(openDialog(pattern)),
+					getShownNames(dialog));
+		}
+	}
+
+	private TestDialog openDialog(String pattern) {
+		Shell shell = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell();
+		TestDialog dialog = new TestDialog(shell);
+		dialogs.add(dialog);
+		dialog.setInitialPattern(pattern);
+		dialog.setBlockOnOpen(false);
+		dialog.open();
+		waitForJobs();
+		return dialog;
+	}
+
+	private void typePattern(TestDialog dialog, String pattern) {
+		((Text) dialog.getPatternControl()).setText(pattern);
+		waitForJobs();
+	}
+
+	private static void waitForJobs() {
+		Display display = Display.getCurrent();
+		long start = System.currentTimeMillis();
+		do {
+			while (display.readAndDispatch()) {
+				// process the updates of the dialog
+			}
+			if (Job.getJobManager().isIdle()) {
+				while (display.readAndDispatch()) {
+					// process the last refresh
+				}
+				return;
+			}
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		} while (System.currentTimeMillis() - start < TIMEOUT);
+		fail("The dialog did not finish filtering");
+	}
+
+	private static List<String> getShownNames(TestDialog dialog) {
+		Table table = findTable(dialog.getShell());
+		assertNotNull(table);
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < table.getItemCount(); i++) {
+			// requests the data of the virtual item
+			names.add(table.getItem(i).getText());
+		}
+		return names;
+	}
+
+	private static Table findTable(Composite composite) {
+		for (Control child : composite.getChildren()) {
+			if (child instanceof Table) {
+				return (Table) child;
+			}
+			if (child instanceof Composite) {
+				Table table = findTable((Composite) child);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static class TestDialog extends FilteredItemsSelectionDialog {
+
+		TestDialog(Shell shell) {
+			super(shell, true);
+			setListLabelProvider(new LabelProvider());
+		}
+
+		@Override
+		protected Control createExtendedContentArea(Composite parent) {
+			return null;
+		}
+
+		@Override
+		protected IDialogSettings getDialogSettings() {
+			return new DialogSettings("FilteredItemsSelectionDialogRefinementTest");
+		}
+
+		@Override
+		protected IStatus validateItem(Object item) {
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		protected ItemsFilter createFilter() {
+			return new ItemsFilter() {
+				@Override
+				public boolean matchItem(Object item) {
+					return matches(item.toString());
+				}
+
+				@Override
+				public boolean isConsistentItem(Object item) {
+					return true;
+				}
+			};
+		}
+
+		@Override
+		protected Comparator<String> getItemsComparator() {
+			// puts "Dialog" behind the longer names starting like it
+			return Comparator.reverseOrder();
+		}
+
+		@Override
+		protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter,
+				IProgressMonitor progressMonitor) {
+			for (String name : NAMES) {
+				contentProvider.add(name, itemsFilter);
+			}
+			progressMonitor.done();
+		}
+
+		@Override
+		public String getElementName(Object item) {
+			return item.toString();
+		}
+	}
+}
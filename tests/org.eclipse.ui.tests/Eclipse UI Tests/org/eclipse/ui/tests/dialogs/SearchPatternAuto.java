@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -150,6 +150,34 @@ public class SearchPatternAuto extends TestCase {
 		assertMatches("", SearchPattern.RULE_BLANK_MATCH, pattern);
 	}
 
+	/**
+	 * Tests that the case of non ASCII characters is ignored by prefix and
+	 * pattern matches.
+	 */
+	public void testNonAsciiMatch() {
+		SearchPattern patternMatcher = new SearchPattern();
+		patternMatcher.setPattern("\u00e4b");
+		assertEquals(SearchPattern.RULE_PREFIX_MATCH, patternMatcher.getMatchRule());
+		assertTrue(patternMatcher.matches("\u00c4bc"));
+		assertFalse(patternMatcher.matches("abc"));
+		patternMatcher.setPattern("*\u00e4b*");
+		assertTrue(patternMatcher.matches("x\u00c4Bc"));
+		assertFalse(patternMatcher.matches("xabc"));
+	}
+
+	/**
+	 * Tests that a pattern not matching the whole text still matches one of its
+	 * words.
+	 */
+	public void testPatternMatchWord() {
+		SearchPattern patternMatcher = new SearchPattern();
+		patternMatcher.setPattern("s?l*");
+		assertTrue(patternMatcher.matches("Open Selection"));
+		assertFalse(patternMatcher.matches("Open Resource"));
+		patternMatcher.setPattern("s?x*");
+		assertFalse(patternMatcher.matches("Open Selection"));
+	}
+
 	private void assertMatches(String patternText, int searchPattern, Pattern... patterns) {
 		SearchPattern patternMatcher = new SearchPattern();
 		patternMatcher.setPattern(patternText);
@@ -33,6 +33,7 @@ import junit.framework.TestSuite;
 	UINewWorkingSetWizardAuto.class,
 	UIEditWorkingSetWizardAuto.class,
 	SearchPatternAuto.class,
+	FilteredItemsSelectionDialogRefinementTest.class,
 	UIFilteredResourcesSelectionDialogAuto.class })
 public class UIAutomatedSuite extends TestSuite {
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -128,6 +128,26 @@ public class FilteredTreeTests extends UITestCase {
 		dialog.close();
 	}
 
+	public void testBackgroundFiltering() {
+		Dialog dialog = createFilteredTreeDialog();
+		fTreeViewer.setBackgroundFiltering(true);
+
+		typeFilterText("0-0-0-0 name");
+		assertNumberOfTopLevelItemsEventually(1);
+
+		// refined pattern, hidden elements are reused
+		typeFilterText("0-0-0-0 name-");
+		assertNumberOfTopLevelItemsEventually(1);
+
+		typeFilterText("0-0-0-0 name unknownWord");
+		assertNumberOfTopLevelItemsEventually(0);
+
+		typeFilterText("");
+		assertNumberOfTopLevelItemsEventually(NUM_ITEMS);
+
+		dialog.close();
+	}
+
 	private void runFilteredTreeTest(final int treeStyle){
 		Dialog dialog = createFilteredTreeDialog(treeStyle);
 
@@ -189,6 +209,21 @@ public class FilteredTreeTests extends UITestCase {
 				"tree item count " + actualCount + " does not match expected: " + expectedCount);
 	}
 
+	private void assertNumberOfTopLevelItemsEventually(int expectedCount) {
+		long timeout = System.currentTimeMillis() + 5000;
+		while (fTreeViewer.getViewer().getTree().getItemCount() != expectedCount
+				&& System.currentTimeMillis() < timeout) {
+			processEvents();
+			sleep(10);
+		}
+		assertNumberOfTopLevelItems(expectedCount);
+	}
+
+	private void typeFilterText(String text) {
+		fTreeViewer.getFilterControl().setText(text);
+		waitForJobs(300, 5000);
+	}
+
 	private void applyPattern(String pattern) {
 		fTreeViewer.getPatternFilter().setPattern(pattern);
 		fTreeViewer.getViewer().refresh();
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.internal;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.ui.IMemento;
+import org.eclipse.ui.XMLMemento;
+import org.eclipse.ui.internal.CompactMemento;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link CompactMemento}.
+ */
+public class CompactMementoTest extends TestCase {
+
+	public CompactMementoTest(String name) {
+		super(name);
+	}
+
+	public void testRoundTrip() {
+		XMLMemento root = XMLMemento.createWriteRoot("workbench");
+		root.createChild("other").putString("unrelated", "value");
+		IMemento editor = root.createChild("editor");
+		editor.putString("id", "org.eclipse.ui.DefaultTextEditor");
+		editor.putInteger("line", 42);
+		editor.putTextData("text & <data>");
+		editor.createChild("input").putString("path", "/project/file.txt");
+
+		CompactMemento compact = CompactMemento.create(editor);
+		IMemento copy = compact.getMemento();
+
+		assertEquals("editor", copy.getType());
+		assertEquals("org.eclipse.ui.DefaultTextEditor", copy.getString("id"));
+		assertEquals(Integer.valueOf(42), copy.getInteger("line"));
+		assertEquals("text & <data>", copy.getTextData());
+		assertEquals("/project/file.txt", copy.getChild("input").getString("path"));
+		// only the editor is kept, not the document it was taken from
+		assertNull(copy.getChild("other"));
+		assertNotSame(copy, compact.getMemento());
+	}
+
+	public void testIdenticalStatesShared() {
+		XMLMemento first = XMLMemento.createWriteRoot("input");
+		first.putString("path", "/project/shared.txt");
+		XMLMemento second = XMLMemento.createWriteRoot("input");
+		second.putString("path", "/project/shared.txt");
+
+		CompactMemento compact1 = CompactMemento.create(first);
+		int count = CompactMemento.getPooledCount();
+		CompactMemento compact2 = CompactMemento.create(second);
+
+		assertEquals(compact1, compact2);
+		assertSame(compact1.toString(), compact2.toString());
+		assertEquals(count, CompactMemento.getPooledCount());
+	}
+
+	public void testSharedStateSizeCountedOnce() {
+		char[] name = new char[1000];
+		Arrays.fill(name, 'a');
+		String path = "/project/" + new String(name) + ".txt";
+		XMLMemento first = XMLMemento.createWriteRoot("input");
+		first.putString("path", path);
+		XMLMemento second = XMLMemento.createWriteRoot("input");
+		second.putString("path", path);
+		XMLMemento other = XMLMemento.createWriteRoot("input");
+		other.putString("path", "/project/other.txt");
+
+		CompactMemento compact1 = CompactMemento.create(first);
+		CompactMemento compact2 = CompactMemento.create(second);
+		CompactMemento compact3 = CompactMemento.create(other);
+
+		long alone = compact1.getSize(CompactMemento.countSharers(Arrays.asList(compact1)));
+		assertTrue(alone > 2 * path.length());
+
+		Map<Object, Integer> sharers = CompactMemento.countSharers(Arrays.asList(compact1, compact2, compact3, null));
+		long size1 = compact1.getSize(sharers);
+		long size2 = compact2.getSize(sharers);
+		// each holder is charged half of the shared text, counted once in total
+		assertEquals(size1, size2);
+		assertTrue(size1 + size2 >= alone);
+		assertTrue(size1 + size2 < alone + alone / 10);
+		assertEquals(compact3.getSize(CompactMemento.countSharers(Arrays.asList(compact3))), compact3.getSize(sharers));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,5 +70,7 @@ public class InternalTestSuite extends TestSuite {
 		addTest(new TestSuite(WorkbenchPageTest.class));
 		addTest(new TestSuite(SaveablesListTest.class));
 		addTest(new TestSuite(Bug540297WorkbenchPageFindViewTest.class));
+		addTest(new TestSuite(StartupSchedulerTest.class));
+		addTest(new TestSuite(CompactMementoTest.class));
     }
 }
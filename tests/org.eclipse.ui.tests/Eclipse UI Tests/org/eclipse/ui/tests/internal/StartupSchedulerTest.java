@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ui.internal.StartupScheduler;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the ordering and threading of {@link StartupScheduler}.
+ */
+public class StartupSchedulerTest extends TestCase {
+
+	public StartupSchedulerTest(String name) {
+		super(name);
+	}
+
+	public void testDependenciesRunFirst() {
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		StartupScheduler scheduler = new StartupScheduler(2);
+		scheduler.addPhase("a", false, () -> order.add("a"));
+		scheduler.addPhase("b", false, () -> order.add("b"), "a");
+		scheduler.addPhase("c", true, () -> order.add("c"), "b");
+		scheduler.addPhase("d", true, () -> order.add("d"));
+		scheduler.run();
+
+		assertEquals(4, order.size());
+		assertTrue(order.indexOf("a") < order.indexOf("b"));
+		assertTrue(order.indexOf("b") < order.indexOf("c"));
+		// UI thread phases keep the order they were added in
+		assertTrue(order.indexOf("c") < order.indexOf("d"));
+		assertEquals(4, scheduler.getDurations().size());
+	}
+
+	public void testThreads() {
+		Thread caller = Thread.currentThread();
+		Thread[] threads = new Thread[2];
+		StartupScheduler scheduler = new StartupScheduler(1);
+		scheduler.addPhase("background", false, () -> threads[0] = Thread.currentThread());
+		scheduler.addPhase("ui", true, () -> threads[1] = Thread.currentThread());
+		scheduler.run();
+
+		assertNotNull(threads[0]);
+		assertNotSame(caller, threads[0]);
+		assertSame(caller, threads[1]);
+	}
+
+	public void testIndependentPhasesOverlap() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		boolean[] overlapped = new boolean[1];
+		StartupScheduler scheduler = new StartupScheduler(1);
+		scheduler.addPhase("background", false, () -> {
+			started.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		scheduler.addPhase("ui", true, () -> {
+			try {
+				overlapped[0] = started.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			release.countDown();
+		});
+		scheduler.run();
+
+		assertTrue("The UI phase should run while the background phase is running", overlapped[0]);
+	}
+
+	public void testFailureSkipsFollowingUiPhases() {
+		boolean[] ran = new boolean[2];
+		StartupScheduler scheduler = new StartupScheduler(1);
+		scheduler.addPhase("background", false, () -> ran[0] = true);
+		scheduler.addPhase("failing", true, () -> {
+			throw new IllegalStateException();
+		});
+		scheduler.addPhase("skipped", true, () -> ran[1] = true);
+		try {
+			scheduler.run();
+			fail("The failure should be rethrown");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertTrue(ran[0]);
+		assertFalse(ran[1]);
+	}
+
+	public void testUnknownDependency() {
+		StartupScheduler scheduler = new StartupScheduler(1);
+		scheduler.addPhase("a", true, () -> {
+		});
+		try {
+			scheduler.addPhase("b", true, () -> {
+			}, "c");
+			fail("Dependencies must be added first");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
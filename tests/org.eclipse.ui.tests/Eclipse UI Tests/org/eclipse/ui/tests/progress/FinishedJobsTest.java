@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.ui.internal.IPreferenceConstants;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.progress.FinishedJobs;
+import org.eclipse.ui.internal.progress.FinishedJobsArchive;
+import org.eclipse.ui.progress.IProgressConstants;
+
+public class FinishedJobsTest extends ProgressTestCase {
+
+	public FinishedJobsTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		IPreferenceStore store = WorkbenchPlugin.getDefault().getPreferenceStore();
+		store.setValue(IPreferenceConstants.MAX_FINISHED_JOBS, 2);
+		store.setValue(IPreferenceConstants.ARCHIVE_FINISHED_JOBS, true);
+		FinishedJobs.getInstance().clearAll();
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		FinishedJobs.getInstance().clearAll();
+		IPreferenceStore store = WorkbenchPlugin.getDefault().getPreferenceStore();
+		store.setToDefault(IPreferenceConstants.MAX_FINISHED_JOBS);
+		store.setToDefault(IPreferenceConstants.ARCHIVE_FINISHED_JOBS);
+		super.doTearDown();
+	}
+
+	public void testOldestJobsAreEvictedAndArchived() throws Exception {
+		runKeptJob("Job 1", Status.OK_STATUS);
+		runKeptJob("Job 2", new Status(IStatus.WARNING, "org.eclipse.ui.tests", "Warning 2"));
+		assertTrue(FinishedJobs.getInstance().getArchivedJobs(0, 10).isEmpty());
+
+		runKeptJob("Job 3", Status.OK_STATUS);
+		runKeptJob("Job 4", Status.OK_STATUS);
+		waitForArchivedJobs(2);
+
+		List<FinishedJobsArchive.Entry> archived = FinishedJobs.getInstance().getArchivedJobs(0, 10);
+		assertEquals(2, archived.size());
+		// newest first
+		assertEquals("Job 2", archived.get(0).getName());
+		assertEquals(IStatus.WARNING, archived.get(0).getSeverity());
+		assertEquals("Warning 2", archived.get(0).getMessage());
+		assertEquals("Job 1", archived.get(1).getName());
+
+		// paging
+		archived = FinishedJobs.getInstance().getArchivedJobs(1, 10);
+		assertEquals(1, archived.size());
+		assertEquals("Job 1", archived.get(0).getName());
+	}
+
+	public void testClearAllClearsArchive() throws Exception {
+		runKeptJob("Job 1", Status.OK_STATUS);
+		runKeptJob("Job 2", Status.OK_STATUS);
+		runKeptJob("Job 3", Status.OK_STATUS);
+		waitForArchivedJobs(1);
+
+		FinishedJobs.getInstance().clearAll();
+		assertTrue(FinishedJobs.getInstance().getArchivedJobs(0, 10).isEmpty());
+	}
+
+	public void testNoArchiveWhenDisabled() throws Exception {
+		WorkbenchPlugin.getDefault().getPreferenceStore().setValue(IPreferenceConstants.ARCHIVE_FINISHED_JOBS,
+				false);
+		runKeptJob("Job 1", Status.OK_STATUS);
+		runKeptJob("Job 2", Status.OK_STATUS);
+		runKeptJob("Job 3", Status.OK_STATUS);
+		assertTrue(FinishedJobs.getInstance().getArchivedJobs(0, 10).isEmpty());
+	}
+
+	private void waitForArchivedJobs(int count) {
+		// the jobs are evicted by a job listener after they finished
+		processEventsUntil(() -> FinishedJobs.getInstance().getArchivedJobs(0, 10).size() >= count, 5000);
+		assertEquals(count, FinishedJobs.getInstance().getArchivedJobs(0, 10).size());
+	}
+
+	private Job runKeptJob(String name, IStatus status) throws InterruptedException {
+		DummyJob job = new DummyJob(name, status);
+		job.setProperty(IProgressConstants.KEEP_PROPERTY, Boolean.TRUE);
+		job.schedule();
+		job.join();
+		processEvents();
+		return job;
+	}
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.quickaccess;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.ui.internal.quickaccess.QuickAccessElement;
+import org.eclipse.ui.internal.quickaccess.QuickAccessIndex;
+import org.eclipse.ui.internal.quickaccess.QuickAccessProvider;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that {@link QuickAccessIndex} never drops an element that
+ * {@link QuickAccessElement#match(String, QuickAccessProvider)} would accept.
+ */
+public class QuickAccessIndexTest extends TestCase {
+
+	private static final String[] LABELS = { "Open Type", "Open Resource", "New Java Class", "Toggle Breakpoint",
+			"Show View (Problems)", "Preferences - General - Keys", "Run As JUnit Test", "Git Staging",
+			"Collapse All", "\u00dcnicode L\u00e4bel" };
+
+	private static final String[] FILTERS = { "o", "op", "open", "open t", "ot", "njc", "nj", "views", "test",
+			"run*unit", "sh?w", "(prob", "keys", "gen keys", "zzz", "l\u00e4b", "t: open" };
+
+	private TestProvider provider;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		provider = new TestProvider(LABELS);
+	}
+
+	public void testCandidatesContainAllMatches() {
+		QuickAccessIndex index = new QuickAccessIndex(provider.getName(), provider.getElementsSorted(), null);
+		for (String filter : FILTERS) {
+			assertCandidatesContainMatches(index, filter);
+		}
+	}
+
+	public void testRefinementKeepsMatches() {
+		QuickAccessIndex index = new QuickAccessIndex(provider.getName(), provider.getElementsSorted(), null);
+		String filter = "open type";
+		for (int i = 1; i <= filter.length(); i++) {
+			assertCandidatesContainMatches(index, filter.substring(0, i));
+		}
+		// widening again must not keep the narrowed result
+		assertCandidatesContainMatches(index, "o");
+	}
+
+	public void testPruning() {
+		QuickAccessIndex index = new QuickAccessIndex(provider.getName(), provider.getElementsSorted(), null);
+		assertEquals(0, index.getCandidates("zzz").length);
+		assertTrue(index.getCandidates("njc").length < index.size());
+		assertEquals(index.size(), index.getCandidates("").length);
+	}
+
+	public void testSignatureCacheReused() {
+		Map<String, Long> cache = new HashMap<>();
+		new QuickAccessIndex(provider.getName(), provider.getElementsSorted(), cache);
+		assertEquals(LABELS.length, cache.size());
+		new QuickAccessIndex(provider.getName(), new TestProvider(LABELS).getElementsSorted(), cache);
+		assertEquals(LABELS.length, cache.size());
+	}
+
+	public void testSignatureCacheDropsRemovedElements() {
+		Map<String, Long> cache = new HashMap<>();
+		new QuickAccessIndex(provider.getName(), provider.getElementsSorted(), cache);
+		new QuickAccessIndex(provider.getName(), new TestProvider(new String[] { "Open Type", "Other" }).getElementsSorted(), cache);
+		assertEquals(2, cache.size());
+	}
+
+	public void testIndexReadyDoesNotWaitForSlowProvider() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TestProvider slowProvider = new TestProvider(LABELS) {
+			@Override
+			public QuickAccessElement[] getElements() {
+				loading.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.getElements();
+			}
+		};
+		Thread loader = new Thread(slowProvider::getIndex);
+		loader.start();
+		try {
+			assertTrue(loading.await(10, TimeUnit.SECONDS));
+			// must answer while the index is loading instead of blocking
+			CompletableFuture<Boolean> ready = CompletableFuture.supplyAsync(slowProvider::isIndexReady);
+			assertFalse(ready.get(1, TimeUnit.SECONDS).booleanValue());
+		} finally {
+			release.countDown();
+			loader.join(10000);
+		}
+		assertTrue(slowProvider.isIndexReady());
+		assertEquals(LABELS.length, slowProvider.getIndex().size());
+	}
+
+	private void assertCandidatesContainMatches(QuickAccessIndex index, String filter) {
+		List<QuickAccessElement> candidates = new ArrayList<>();
+		for (QuickAccessElement candidate : index.getCandidates(filter)) {
+			candidates.add(candidate);
+		}
+		for (QuickAccessElement element : provider.getElementsSorted()) {
+			if (element.match(filter, provider) != null) {
+				assertTrue("'" + element.getLabel() + "' matches '" + filter + "' but is no candidate",
+						candidates.contains(element));
+			}
+		}
+	}
+
+	private static class TestProvider extends QuickAccessProvider {
+
+		private final String[] labels;
+
+		TestProvider(String[] labels) {
+			this.labels = labels;
+		}
+
+		@Override
+		public String getId() {
+			return "test.provider";
+		}
+
+		@Override
+		public String getName() {
+			return "Test";
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor() {
+			return null;
+		}
+
+		@Override
+		public QuickAccessElement[] getElements() {
+			QuickAccessElement[] elements = new QuickAccessElement[labels.length];
+			for (int i = 0; i < labels.length; i++) {
+				elements[i] = new TestElement(this, labels[i]);
+			}
+			return elements;
+		}
+
+		@Override
+		public QuickAccessElement getElementForId(String id) {
+			return null;
+		}
+
+		@Override
+		protected void doReset() {
+		}
+	}
+
+	private static class TestElement extends QuickAccessElement {
+
+		private final String label;
+
+		TestElement(QuickAccessProvider provider, String label) {
+			super(provider);
+			this.label = label;
+		}
+
+		@Override
+		public String getLabel() {
+			return label;
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor() {
+			return null;
+		}
+
+		@Override
+		public String getId() {
+			return label;
+		}
+
+		@Override
+		public void execute() {
+		}
+	}
+}
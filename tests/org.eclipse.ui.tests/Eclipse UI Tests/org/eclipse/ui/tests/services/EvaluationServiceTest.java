@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.ui.handlers.IHandlerActivation;
 import org.eclipse.ui.handlers.IHandlerService;
 import org.eclipse.ui.internal.WorkbenchWindow;
 import org.eclipse.ui.internal.handlers.HandlerPersistence;
+import org.eclipse.ui.internal.services.EvaluationService;
 import org.eclipse.ui.services.IEvaluationReference;
 import org.eclipse.ui.services.IEvaluationService;
 import org.eclipse.ui.services.ISourceProviderService;
@@ -454,6 +455,86 @@ public class EvaluationServiceTest extends UITestCase {
 		assertEquals(3, listener.count);
 	}
 
+	public void testUnchangedValueNotEvaluated() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		IEvaluationService service = window
+				.getService(IEvaluationService.class);
+		assertNotNull(service);
+		ISourceProviderService sps = window
+				.getService(ISourceProviderService.class);
+		ActiveUserSourceProvider userProvider = (ActiveUserSourceProvider) sps
+				.getSourceProvider("username");
+		userProvider.setUsername("Paul");
+
+		MyEval listener = new MyEval();
+		IEvaluationReference ref = service.addEvaluationListener(
+				new UserExpression("Paul"), listener,
+				IEvaluationService.RESULT);
+		try {
+			assertTrue(listener.currentValue);
+			assertEquals(1, listener.count);
+
+			// an equal user name is not a change for the expression
+			long avoided = EvaluationService.getAvoidedEvaluationCount();
+			userProvider.setUsername(new String("Paul"));
+			assertTrue(listener.currentValue);
+			assertEquals(1, listener.count);
+			assertTrue(EvaluationService.getAvoidedEvaluationCount() > avoided);
+
+			long evaluations = EvaluationService.getEvaluationCount();
+			userProvider.setUsername("guest");
+			assertFalse(listener.currentValue);
+			assertEquals(2, listener.count);
+			assertTrue(EvaluationService.getEvaluationCount() > evaluations);
+		} finally {
+			service.removeEvaluationListener(ref);
+			userProvider.setUsername("guest");
+		}
+	}
+
+	public void testPropertyTesterExpressionEvaluatedForEqualValue() throws Exception {
+		IWorkbenchWindow window = openTestWindow();
+		IEvaluationService service = window
+				.getService(IEvaluationService.class);
+		ISourceProviderService sps = window
+				.getService(ISourceProviderService.class);
+		ActiveUserSourceProvider userProvider = (ActiveUserSourceProvider) sps
+				.getSourceProvider("username");
+		userProvider.setUsername("Paul");
+
+		// the property tested may change while the user name stays equal
+		AtomicBoolean property = new AtomicBoolean(true);
+		int[] evaluations = new int[1];
+		UserExpression expression = new UserExpression("Paul") {
+			@Override
+			public void collectExpressionInfo(ExpressionInfo info) {
+				super.collectExpressionInfo(info);
+				info.addAccessedPropertyName("org.eclipse.ui.tests.property");
+			}
+
+			@Override
+			public EvaluationResult evaluate(IEvaluationContext context) {
+				evaluations[0]++;
+				return super.evaluate(context).and(EvaluationResult.valueOf(property.get()));
+			}
+		};
+		MyEval listener = new MyEval();
+		IEvaluationReference ref = service.addEvaluationListener(expression,
+				listener, IEvaluationService.RESULT);
+		try {
+			assertTrue(listener.currentValue);
+			int count = evaluations[0];
+
+			property.set(false);
+			userProvider.setUsername(new String("Paul"));
+			assertTrue(evaluations[0] > count);
+			assertFalse(listener.currentValue);
+		} finally {
+			service.removeEvaluationListener(ref);
+			userProvider.setUsername("guest");
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	public void testSourceProviderPriority() throws Exception {
 		IHandlerService hs = getWorkbench().getService(IHandlerService.class);
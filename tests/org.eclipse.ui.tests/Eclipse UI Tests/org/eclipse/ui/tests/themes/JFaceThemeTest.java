@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2007 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,15 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.themes;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.eclipse.jface.resource.ColorDescriptor;
 import org.eclipse.jface.resource.ColorRegistry;
 import org.eclipse.jface.resource.FontRegistry;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.ui.themes.ITheme;
@@ -102,4 +106,58 @@ public class JFaceThemeTest extends ThemeTest {
 		assertNotNull(color);
 		color.dispose();
 	}
+
+	/**
+	 * Tests that colors put together are changed at once, with one event for
+	 * each changed color.
+	 */
+	public void testPutAllColors() {
+		ColorRegistry registry = new ColorRegistry(getWorkbench().getDisplay(), false);
+		registry.put("a", new RGB(1, 1, 1));
+		registry.put("b", new RGB(2, 2, 2));
+
+		Map<String, RGB> colors = new LinkedHashMap<>();
+		colors.put("a", new RGB(1, 1, 1));
+		colors.put("b", new RGB(3, 3, 3));
+		colors.put("c", new RGB(4, 4, 4));
+		ThemePropertyListener listener = new ThemePropertyListener() {
+			@Override
+			public void propertyChange(PropertyChangeEvent event) {
+				// every listener sees all changes applied
+				assertEquals(new RGB(3, 3, 3), registry.getRGB("b"));
+				assertEquals(new RGB(4, 4, 4), registry.getRGB("c"));
+				super.propertyChange(event);
+			}
+		};
+		registry.addListener(listener);
+		registry.putAll(colors);
+
+		assertEquals(2, listener.getEvents().size());
+		assertEquals("b", listener.getEvents().get(0).getProperty());
+		assertEquals(new RGB(2, 2, 2), listener.getEvents().get(0).getOldValue());
+		assertEquals("c", listener.getEvents().get(1).getProperty());
+		assertNull(listener.getEvents().get(1).getOldValue());
+		assertEquals(3, registry.getKeySet().size());
+	}
+
+	/**
+	 * Tests that colors put concurrently are all kept.
+	 */
+	public void testConcurrentPuts() throws InterruptedException {
+		ColorRegistry registry = new ColorRegistry(getWorkbench().getDisplay(), false);
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			String prefix = "thread" + i + ".";
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 250; j++) {
+					registry.put(prefix + j, new RGB(j, j, j));
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(threads.length * 250, registry.getKeySet().size());
+	}
 }